@@ -4,12 +4,12 @@ import oasis.artemis.command.CommandSender;
 import oasis.artemis.command.ConsoleCommandSender;
 import oasis.artemis.command.game.list.ListCommand;
 import oasis.artemis.command.game.stop.StopCommand;
+import oasis.artemis.command.game.tasks.TasksCommand;
 import oasis.artemis.command.lifecycle.CommandManager;
 import oasis.artemis.event.lifecycle.EventManager;
 import oasis.artemis.level.Level;
 import oasis.artemis.level.SimpleLevel;
 import oasis.artemis.level.lifecycle.LevelManager;
-import oasis.artemis.listener.physics.CollisionListener;
 import oasis.artemis.object.DummyObject;
 import oasis.artemis.plugin.debug.DebugPlugin;
 import oasis.artemis.plugin.lifecycle.PluginManager;
@@ -73,11 +73,6 @@ public final class Artemis {
         // Notify plugins
         pluginManager.onEngineStarting();
 
-        // Register listeners
-        eventManager.registerListeners(
-                new CollisionListener()
-        );
-
         // Register tasks
         asyncScheduler.registerTasks(
                 new AutoSaveTask()
@@ -236,6 +231,7 @@ public final class Artemis {
     private static void registerCommands() {
         commandManager.addCommand(new StopCommand());
         commandManager.addCommand(new ListCommand());
+        commandManager.addCommand(new TasksCommand());
     }
 
     //
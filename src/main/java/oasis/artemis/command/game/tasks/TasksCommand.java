@@ -0,0 +1,15 @@
+package oasis.artemis.command.game.tasks;
+
+import oasis.artemis.command.Command;
+
+import java.util.List;
+
+/**
+ * <h2>TasksCommand</h2>
+ * <p>Shows execution statistics of every scheduled task.</p>
+ */
+public final class TasksCommand extends Command {
+    public TasksCommand() {
+        super("tasks", List.of("timings"), new TasksCommandExecutor());
+    }
+}
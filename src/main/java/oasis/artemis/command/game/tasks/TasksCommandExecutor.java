@@ -0,0 +1,38 @@
+package oasis.artemis.command.game.tasks;
+
+import oasis.artemis.Artemis;
+import oasis.artemis.command.CommandExecutor;
+import oasis.artemis.command.CommandSender;
+import oasis.artemis.task.lifecycle.Scheduler;
+import oasis.artemis.task.lifecycle.TaskMetrics;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * <h2>TasksCommandExecutor</h2>
+ * <p>Executes {@link TasksCommand}</p>
+ */
+public final class TasksCommandExecutor implements CommandExecutor {
+    @Override
+    public void onCommand(@Nonnull CommandSender sender, @Nonnull List<String> params) {
+        report(sender, "Sync", Artemis.getSyncScheduler());
+        report(sender, "Async", Artemis.getAsyncScheduler());
+    }
+
+    private static void report(@Nonnull CommandSender sender, @Nonnull String name, @Nonnull Scheduler scheduler) {
+        sender.sendMessage(name + " scheduler (slow task threshold: " + scheduler.getSlowTaskThreshold().getMillis() + "ms):");
+
+        scheduler.getMetrics().forEach((t, m) -> sender.sendMessage(String.format(
+                "- %s: %d calls, mean %.3fms, p99 < %.3fms, max %.3fms, mean lateness %.3fms, %d overruns, %d skipped",
+                TaskMetrics.getName(t),
+                m.getInvocationCount(),
+                m.getMeanExecutionNanos() / 1e6,
+                m.getExecutionPercentileNanos(0.99) / 1e6,
+                m.getMaxExecutionNanos() / 1e6,
+                m.getMeanLatenessNanos() / 1e6,
+                m.getOverrunCount(),
+                m.getSkippedCount()
+        )));
+    }
+}
@@ -128,7 +128,10 @@ public class CommandManager {
     private final Set<Command> commands = new HashSet<>();
     private boolean running = false;
 
-    private final Thread thread = new Thread(() -> {
+    /**
+     * Reading the console blocks, so this runs on a virtual thread.
+     */
+    private final Thread thread = Thread.ofVirtual().name("artemis-console").unstarted(() -> {
         final BufferedReader reader = new BufferedReader(
                 new InputStreamReader(System.in)
         );
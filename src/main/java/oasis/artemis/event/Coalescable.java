@@ -0,0 +1,22 @@
+package oasis.artemis.event;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <h2>Coalescable</h2>
+ * <p>
+ * A coalescable event can be merged with a pending event of the same key.
+ * When the event manager coalesces, only the latest event of each key is handled,
+ * in the queue position of the first.
+ * </p>
+ */
+public interface Coalescable extends Event {
+    /**
+     * Gets the key this event is coalesced by.
+     * Keys must implement {@link Object#equals(Object)} and {@link Object#hashCode()}.
+     *
+     * @return Coalescing key
+     */
+    @Nonnull
+    Object getCoalescingKey();
+}
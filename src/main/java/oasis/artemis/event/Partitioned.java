@@ -0,0 +1,21 @@
+package oasis.artemis.event;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <h2>Partitioned</h2>
+ * <p>
+ * A partitioned event is routed to a dispatch lane by its partition key, instead of its class.
+ * Events of equal keys are always handled in the order they were called.
+ * </p>
+ */
+public interface Partitioned extends Event {
+    /**
+     * Gets the key this event is routed by, such as the unique identifier of a level or object.
+     * Keys must implement {@link Object#equals(Object)} and {@link Object#hashCode()}.
+     *
+     * @return Partition key
+     */
+    @Nonnull
+    Object getPartitionKey();
+}
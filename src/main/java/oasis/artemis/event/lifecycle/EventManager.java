@@ -1,17 +1,32 @@
 package oasis.artemis.event.lifecycle;
 
 import oasis.artemis.Artemis;
+import oasis.artemis.event.Coalescable;
 import oasis.artemis.event.Event;
+import oasis.artemis.event.Partitioned;
 import oasis.artemis.event.listener.EventHandler;
+import oasis.artemis.event.listener.HandlerPriority;
 import oasis.artemis.event.listener.Listener;
+import oasis.artemis.task.Task;
 import oasis.artemis.task.TaskAdapter;
-import oasis.artemis.util.group.Dyad;
+import oasis.artemis.util.concurrent.BoundedQueue;
+import oasis.artemis.util.logging.EngineLog;
 import org.joda.time.Duration;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
-import java.lang.reflect.InvocationTargetException;
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * <h2>EventManager</h2>
@@ -19,20 +34,145 @@ import java.util.*;
  * Handles the lifecycle of events.
  * Special thanks to Wouter Kistemaker for the event manager design.
  * </p>
+ * <p>
+ * Events are dispatched through one or more lanes, each with its own queue and task.
+ * Events are routed by their {@link Partitioned partition key}, or by their class otherwise,
+ * so events of the same key or class are always handled in order, by one lane at a time.
+ * With more than one lane, listeners may be called concurrently for events of different lanes.
+ * </p>
  */
 public final class EventManager {
+    //
+    // Constants
+    //
+
+    /**
+     * The default maximum number of events handled per run of each lane's task.
+     */
+    public static final int DEFAULT_EVENT_BUDGET = 1024;
+
+    /**
+     * The default maximum duration spent handling events per run of each lane's task.
+     */
+    public static final Duration DEFAULT_TIME_BUDGET = new Duration(5);
+
+    /**
+     * The default capacity of each lane's queue.
+     */
+    public static final int DEFAULT_CAPACITY = 65536;
+
+    /**
+     * The maximum number of dispatch lanes.
+     */
+    public static final int MAX_LANES = 64;
+
+    /**
+     * How long a blocked caller waits before checking the queue again, in nanoseconds.
+     */
+    private static final long BLOCK_PARK_NANOS = 50_000;
+
+    //
+    // Constructors
+    //
+
+    /**
+     * Creates a new single-lane event manager with the default capacity, which blocks when full.
+     */
+    public EventManager() {
+        this(DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Creates a new single-lane event manager.
+     *
+     * @param capacity Minimum capacity of the event queue
+     * @param policy   Policy to apply when the event queue is full
+     * @throws IllegalArgumentException When the capacity is not positive
+     */
+    public EventManager(@Nonnegative int capacity, @Nonnull OverflowPolicy policy) throws IllegalArgumentException {
+        this(capacity, policy, 1);
+    }
+
+    /**
+     * Creates a new event manager.
+     *
+     * @param capacity Minimum capacity of each lane's queue
+     * @param policy   Policy to apply when a queue is full
+     * @param lanes    Number of dispatch lanes
+     * @throws IllegalArgumentException When the capacity is not positive, or the number of lanes is out of range
+     */
+    public EventManager(
+            @Nonnegative int capacity,
+            @Nonnull OverflowPolicy policy,
+            @Nonnegative int lanes
+    ) throws IllegalArgumentException {
+        if (lanes < 1 || lanes > MAX_LANES) {
+            throw new IllegalArgumentException("Number of lanes must be between 1 and " + MAX_LANES + ".");
+        }
+
+        this.lanes = new Lane[lanes];
+        for (int i = 0; i < lanes; i++) {
+            this.lanes[i] = new Lane(this, capacity);
+        }
+
+        this.overflowPolicy = policy;
+    }
+
     //
     // Lifecycle
     //
 
     /**
      * Calls an event to be handled.
+     * This is safe to call from any thread.
      *
      * @param event Event to call
      * @param <E>   Type of event
      */
     public <E extends Event> void callEvent(@Nonnull E event) {
-        eventQueue.add(event);
+        final OverflowPolicy policy = overflowPolicy;
+
+        final Lane lane = route(event);
+
+        if (policy == OverflowPolicy.COALESCE && event instanceof Coalescable c) {
+            coalesce(lane, c);
+            return;
+        }
+
+        enqueue(lane, new QueuedEvent(event, System.nanoTime(), null, null), policy);
+    }
+
+    /**
+     * Handles an event immediately on the calling thread, bypassing the queue.
+     * When this returns, every handler has been called, so the caller can act on the outcome,
+     * such as whether a {@link oasis.artemis.event.Cancellable} event was cancelled.
+     *
+     * @param event Event to handle
+     * @param <E>   Type of event
+     * @return The handled event
+     */
+    @Nonnull
+    public <E extends Event> E callEventSync(@Nonnull E event) {
+        executeEvent(event);
+        return event;
+    }
+
+    /**
+     * Calls an event to be handled, and returns a future which completes once it has been.
+     * Events called this way are never coalesced.
+     * If the event is discarded due to the overflow policy, the future completes exceptionally
+     * with a {@link RejectedExecutionException}.
+     *
+     * @param event Event to call
+     * @param <E>   Type of event
+     * @return Future of the handled event
+     */
+    @Nonnull
+    public <E extends Event> CompletableFuture<E> callEventAsync(@Nonnull E event) {
+        final CompletableFuture<Event> future = new CompletableFuture<>();
+        enqueue(route(event), new QueuedEvent(event, System.nanoTime(), null, future), overflowPolicy);
+
+        return future.thenApply(e -> event);
     }
 
     /**
@@ -41,7 +181,15 @@ public final class EventManager {
      * @param listener Listener to register
      */
     public void registerListener(@Nonnull Listener listener) {
-        listeners.add(listener);
+        final List<Handler> compiled = compile(listener);
+
+        synchronized (this) {
+            listeners.add(listener);
+
+            final List<Handler> handlers = new ArrayList<>(registry.handlers);
+            handlers.addAll(compiled);
+            registry = new Registry(handlers);
+        }
     }
 
     /**
@@ -68,7 +216,13 @@ public final class EventManager {
      * @param listener Listener to unregister
      */
     public void unregisterListener(@Nonnull Listener listener) {
-        listeners.remove(listener);
+        synchronized (this) {
+            if (!listeners.remove(listener)) return;
+
+            final List<Handler> handlers = new ArrayList<>(registry.handlers);
+            handlers.removeIf(h -> h.listener.equals(listener));
+            registry = new Registry(handlers);
+        }
     }
 
     /**
@@ -89,6 +243,170 @@ public final class EventManager {
         listeners.forEach(this::unregisterListener);
     }
 
+    //
+    // Budget
+    //
+
+    /**
+     * Gets the maximum number of events handled per run of each lane's task.
+     *
+     * @return Event budget
+     */
+    @Nonnegative
+    public int getEventBudget() {
+        return eventBudget;
+    }
+
+    /**
+     * Gets the maximum duration spent handling events per run of each lane's task.
+     * The budget is checked after each event, so one slow handler can exceed it.
+     *
+     * @return Time budget
+     */
+    @Nonnull
+    public Duration getTimeBudget() {
+        return new Duration(timeBudgetNanos / 1_000_000);
+    }
+
+    /**
+     * Sets the maximum number of events handled per run of each lane's task.
+     *
+     * @param budget Event budget
+     * @throws IllegalArgumentException When the budget is not positive
+     */
+    public void setEventBudget(@Nonnegative int budget) throws IllegalArgumentException {
+        if (budget <= 0) throw new IllegalArgumentException("Event budget must be positive.");
+        this.eventBudget = budget;
+    }
+
+    /**
+     * Sets the maximum duration spent handling events per run of each lane's task.
+     *
+     * @param budget Time budget
+     * @throws IllegalArgumentException When the budget is not positive
+     */
+    public void setTimeBudget(@Nonnull Duration budget) throws IllegalArgumentException {
+        if (budget.getMillis() <= 0) throw new IllegalArgumentException("Time budget must be positive.");
+        this.timeBudgetNanos = budget.getMillis() * 1_000_000;
+    }
+
+    //
+    // Overflow
+    //
+
+    /**
+     * Gets the capacity of each lane's queue.
+     *
+     * @return Capacity
+     */
+    @Nonnegative
+    public int getCapacity() {
+        return lanes[0].queue.capacity();
+    }
+
+    /**
+     * Gets the number of dispatch lanes.
+     *
+     * @return Number of lanes
+     */
+    @Nonnegative
+    public int getLanes() {
+        return lanes.length;
+    }
+
+    /**
+     * Gets the policy applied when a queue is full.
+     *
+     * @return Overflow policy
+     */
+    @Nonnull
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Sets the policy applied when a queue is full.
+     *
+     * @param policy Overflow policy
+     */
+    public void setOverflowPolicy(@Nonnull OverflowPolicy policy) {
+        this.overflowPolicy = policy;
+    }
+
+    //
+    // Metrics
+    //
+
+    /**
+     * Gets the number of events waiting to be handled, across all lanes.
+     *
+     * @return Queue depth
+     */
+    @Nonnegative
+    public int getQueueDepth() {
+        int depth = 0;
+        for (Lane lane : lanes) depth += lane.queue.size();
+        return depth;
+    }
+
+    /**
+     * Gets how long the oldest pending event has been waiting, across all lanes.
+     *
+     * @return Lag, {@link Duration#ZERO} if every queue is empty
+     */
+    @Nonnull
+    public Duration getLag() {
+        final long now = System.nanoTime();
+        long lag = 0;
+
+        for (Lane lane : lanes) {
+            final QueuedEvent oldest = lane.queue.peek();
+            if (oldest != null) lag = Math.max(lag, now - oldest.calledAt);
+        }
+
+        return new Duration(lag / 1_000_000);
+    }
+
+    /**
+     * Gets how long the last event handled had been waiting in the queue.
+     *
+     * @return Latency of last handled event
+     */
+    @Nonnull
+    public Duration getLastLatency() {
+        return new Duration(lastLatencyNanos / 1_000_000);
+    }
+
+    /**
+     * Gets the total number of events handled through the queue.
+     *
+     * @return Number of handled events
+     */
+    @Nonnegative
+    public long getHandledCount() {
+        return handledCount.sum();
+    }
+
+    /**
+     * Gets the total number of events discarded because the queue was full.
+     *
+     * @return Number of dropped events
+     */
+    @Nonnegative
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Gets the total number of events merged into a pending event of the same key.
+     *
+     * @return Number of coalesced events
+     */
+    @Nonnegative
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
     //
     // Controls
     //
@@ -97,14 +415,25 @@ public final class EventManager {
      * Starts the event manager.
      */
     public void start() {
-        Artemis.getAsyncScheduler().registerTask(task);
+        for (Lane lane : lanes) Artemis.getAsyncScheduler().registerTask(lane.task);
     }
 
     /**
      * Stops the event manager.
      */
     public void stop() {
-        Artemis.getAsyncScheduler().unregisterTask(task);
+        for (Lane lane : lanes) Artemis.getAsyncScheduler().unregisterTask(lane.task);
+    }
+
+    /**
+     * Gets the task which drains a lane's queue.
+     *
+     * @param index Index of the lane
+     * @return Task of the lane
+     */
+    @Nonnull
+    Task getLaneTask(@Nonnegative int index) {
+        return lanes[index].task;
     }
 
     //
@@ -113,60 +442,354 @@ public final class EventManager {
     @Nonnull
     private final List<Listener> listeners = new ArrayList<>();
     @Nonnull
-    private final Queue<Event> eventQueue = new LinkedList<>();
+    private final Lane[] lanes;
+    @Nonnull
+    private final Map<Object, QueuedEvent> pending = new ConcurrentHashMap<>();
+    @Nonnull
+    private volatile OverflowPolicy overflowPolicy;
+    @Nonnegative
+    private volatile int eventBudget = DEFAULT_EVENT_BUDGET;
+    @Nonnegative
+    private volatile long timeBudgetNanos = DEFAULT_TIME_BUDGET.getMillis() * 1_000_000;
     @Nonnull
-    private final EventTask task = new EventTask(this);
+    private final LongAdder handledCount = new LongAdder();
+    private volatile long lastLatencyNanos = 0;
+    @Nonnull
+    private final LongAdder droppedCount = new LongAdder();
+    @Nonnull
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * Compiled handlers. Replaced as a whole on every (un)registration.
+     */
+    @Nonnull
+    private volatile Registry registry = new Registry(List.of());
 
     //
     // Internal methods
     //
-    <E extends Event> void executeEvent(@Nonnull E event) {
-        final Class<? extends Event> eventClass = event.getClass();
-        final List<Dyad<Listener, Method>> handlers = new ArrayList<>();
 
-        // Copies list to prevent concurrent modification exception
-        new ArrayList<>(listeners).forEach(l -> Arrays.stream(l.getClass().getDeclaredMethods()).forEach(m -> {
-            if (m.getParameters().length != 1) return;
-            if (!m.isAnnotationPresent(EventHandler.class)) return;
-            if (!m.getParameters()[0].getType().isAssignableFrom(eventClass)) return;
+    /**
+     * Gets the lane an event is dispatched through.
+     */
+    @Nonnull
+    private Lane route(@Nonnull Event event) {
+        if (lanes.length == 1) return lanes[0];
+
+        final Object key = event instanceof Partitioned p ? p.getPartitionKey() : event.getClass();
+        final int hash = key.hashCode();
 
-            handlers.add(new Dyad<>(l, m));
-        }));
+        return lanes[Math.floorMod(hash ^ (hash >>> 16), lanes.length)];
+    }
 
-        // Respect priorities
-        handlers.sort(Comparator.comparing(h -> h.getB().getAnnotation(EventHandler.class).priority()));
-        handlers.forEach(h -> {
-            try {
-                h.getB().invoke(h.getA(), event);
-            } catch (IllegalAccessException | InvocationTargetException e) {
-                e.printStackTrace();
+    /**
+     * Checks if the current thread is draining any lane.
+     * Lanes may share a scheduler thread, so a draining thread must never wait on any lane.
+     */
+    private boolean isDraining() {
+        final Thread current = Thread.currentThread();
+
+        for (Lane lane : lanes) {
+            if (lane.drainingThread == current) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Adds an entry to a lane's queue, applying the overflow policy if it is full.
+     */
+    private void enqueue(@Nonnull Lane lane, @Nonnull QueuedEvent entry, @Nonnull OverflowPolicy policy) {
+        final BoundedQueue<QueuedEvent> queue = lane.queue;
+        if (queue.offer(entry)) return;
+
+        switch (policy) {
+            case BLOCK -> {
+                // The lane's own drainer would wait on itself forever, so it makes room by handling the oldest entries,
+                // which keeps the lane in order
+                if (lane.drainingThread == Thread.currentThread()) {
+                    while (!queue.offer(entry)) {
+                        final QueuedEvent oldest = poll(lane);
+                        if (oldest == null) continue;
+
+                        handle(oldest);
+                        handledCount.increment();
+                    }
+
+                    return;
+                }
+
+                // The drainer of another lane may be the thread this lane's task is waiting for
+                if (isDraining()) {
+                    enqueue(lane, entry, OverflowPolicy.DROP_OLDEST);
+                    return;
+                }
+
+                while (!queue.offer(entry)) {
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                }
             }
+
+            case DROP_OLDEST -> {
+                do {
+                    final QueuedEvent oldest = queue.poll();
+                    if (oldest == null) continue;
+
+                    if (oldest.key != null) pending.remove(oldest.key, oldest);
+                    discard(oldest);
+                } while (!queue.offer(entry));
+            }
+
+            case COALESCE -> discard(entry);
+        }
+    }
+
+    /**
+     * Discards an entry which did not fit in its queue.
+     */
+    private void discard(@Nonnull QueuedEvent entry) {
+        droppedCount.increment();
+        if (entry.future != null) entry.future.completeExceptionally(new RejectedExecutionException("Event queue is full."));
+    }
+
+    /**
+     * Handles a queued entry, and completes its future if it has one.
+     */
+    private void handle(@Nonnull QueuedEvent entry) {
+        final Event event = entry.event;
+        executeEvent(event);
+
+        if (entry.future != null) entry.future.complete(event);
+    }
+
+    /**
+     * Replaces the pending event of the same key, or queues the event if there is none.
+     * The map's per-key atomicity guarantees the draining thread either sees the replacement, or a new entry.
+     */
+    private void coalesce(@Nonnull Lane lane, @Nonnull Coalescable event) {
+        pending.compute(event.getCoalescingKey(), (key, existing) -> {
+            if (existing != null) {
+                existing.event = event;
+                coalescedCount.increment();
+                return existing;
+            }
+
+            final QueuedEvent entry = new QueuedEvent(event, System.nanoTime(), key, null);
+            if (lane.queue.offer(entry)) return entry;
+
+            droppedCount.increment();
+            return null;
         });
     }
 
     /**
-     * Internal class for handling the event queue.
+     * Takes the next entry off a lane's queue.
+     *
+     * @return Next entry, {@code null} if the queue is empty
+     */
+    @Nullable
+    private QueuedEvent poll(@Nonnull Lane lane) {
+        final QueuedEvent entry = lane.queue.poll();
+        if (entry == null) return null;
+
+        // Later events of this key must be queued anew
+        if (entry.key != null) pending.remove(entry.key, entry);
+        return entry;
+    }
+
+    <E extends Event> void executeEvent(@Nonnull E event) {
+        for (Handler h : registry.getHandlers(event.getClass())) {
+            try {
+                h.invoker.invokeExact((Event) event);
+            } catch (Throwable t) {
+                EngineLog.error("Handler of " + event.getClass().getSimpleName()
+                        + " in " + h.listener.getClass().getName() + " threw an exception.", t);
+            }
+        }
+    }
+
+    /**
+     * Scans a listener for handler methods, and compiles each of them into a method handle.
+     *
+     * @param listener Listener to compile
+     * @return List of handlers in declaration order
+     */
+    @Nonnull
+    private List<Handler> compile(@Nonnull Listener listener) {
+        final List<Handler> handlers = new ArrayList<>();
+
+        for (Method m : HANDLER_METHODS.get(listener.getClass())) {
+            try {
+                m.setAccessible(true);
+
+                MethodHandle handle = MethodHandles.lookup().unreflect(m);
+                if (!Modifier.isStatic(m.getModifiers())) handle = handle.bindTo(listener);
+
+                handlers.add(new Handler(
+                        listener,
+                        m.getParameterTypes()[0],
+                        m.getAnnotation(EventHandler.class).priority(),
+                        handle.asType(INVOKER_TYPE)
+                ));
+            } catch (IllegalAccessException | RuntimeException e) {
+                EngineLog.error("Handler " + m + " could not be compiled.", e);
+            }
+        }
+
+        return handlers;
+    }
+
+    /**
+     * The uniform type every handler is adapted to.
+     */
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Event.class);
+
+    /**
+     * Handler methods declared by each listener class, resolved once per class.
+     */
+    private static final ClassValue<List<Method>> HANDLER_METHODS = new ClassValue<>() {
+        @Override
+        protected List<Method> computeValue(@Nonnull Class<?> type) {
+            final List<Method> methods = new ArrayList<>();
+
+            for (Method m : type.getDeclaredMethods()) {
+                if (m.getParameterCount() != 1) continue;
+                if (!m.isAnnotationPresent(EventHandler.class)) continue;
+
+                methods.add(m);
+            }
+
+            return List.copyOf(methods);
+        }
+    };
+
+    /**
+     * An event waiting in the queue.
+     * The event of a coalesced entry is replaced while it is pending.
+     */
+    private static final class QueuedEvent {
+        private QueuedEvent(
+                @Nonnull Event event,
+                long calledAt,
+                @Nullable Object key,
+                @Nullable CompletableFuture<Event> future
+        ) {
+            this.event = event;
+            this.calledAt = calledAt;
+            this.key = key;
+            this.future = future;
+        }
+
+        @Nonnull
+        private volatile Event event;
+        private final long calledAt;
+        @Nullable
+        private final Object key;
+        @Nullable
+        private final CompletableFuture<Event> future;
+    }
+
+    /**
+     * A compiled event handler.
+     *
+     * @param listener  Listener which declared this handler
+     * @param eventType Type of event this handler accepts
+     * @param priority  Priority of this handler
+     * @param invoker   Method handle of type {@code (Event)void}
+     */
+    private record Handler(
+            @Nonnull Listener listener,
+            @Nonnull Class<?> eventType,
+            @Nonnull HandlerPriority priority,
+            @Nonnull MethodHandle invoker
+    ) {}
+
+    /**
+     * An immutable set of handlers, with a lazily populated dispatch table per event class.
+     */
+    private static final class Registry {
+        private Registry(@Nonnull List<Handler> handlers) {
+            this.handlers = List.copyOf(handlers);
+        }
+
+        @Nonnull
+        private final List<Handler> handlers;
+        @Nonnull
+        private final Map<Class<?>, Handler[]> dispatchTable = new ConcurrentHashMap<>();
+
+        /**
+         * Gets the handlers of given event class, including handlers of its supertypes,
+         * sorted by priority. Handlers of equal priority are called in registration order.
+         *
+         * @param eventClass Class of event
+         * @return Array of handlers
+         */
+        @Nonnull
+        private Handler[] getHandlers(@Nonnull Class<?> eventClass) {
+            return dispatchTable.computeIfAbsent(eventClass, c -> handlers.stream()
+                    .filter(h -> h.eventType.isAssignableFrom(c))
+                    .sorted(Comparator.comparing(Handler::priority))
+                    .toArray(Handler[]::new));
+        }
+    }
+
+    /**
+     * A dispatch lane, which has its own queue and is drained by its own task.
+     */
+    private static final class Lane {
+        private Lane(@Nonnull EventManager parent, @Nonnegative int capacity) {
+            this.queue = new BoundedQueue<>(capacity);
+            this.task = new EventTask(parent, this);
+        }
+
+        @Nonnull
+        private final BoundedQueue<QueuedEvent> queue;
+        @Nonnull
+        private final EventTask task;
+        @Nullable
+        private volatile Thread drainingThread = null;
+    }
+
+    /**
+     * Internal class for handling the queue of one lane.
      */
     private static class EventTask extends TaskAdapter {
-        public EventTask(@Nonnull EventManager parent) {
+        public EventTask(@Nonnull EventManager parent, @Nonnull Lane lane) {
             this.parent = parent;
+            this.lane = lane;
         }
 
         @Nonnull
         private final EventManager parent;
+        @Nonnull
+        private final Lane lane;
 
         /**
-         * Handles one event per tick.
-         * Handling too many events in this task may cause other tasks to slow down.
+         * Drains the lane's queue until it is empty, or either budget is exhausted.
          *
          * @param delta The duration it took between the last execution and now
          */
         @Override
         public void execute(@Nonnull Duration delta) {
-            final Event e = parent.eventQueue.poll();
-            if (e == null) return;
+            final int budget = parent.eventBudget;
+            final long deadline = System.nanoTime() + parent.timeBudgetNanos;
+
+            lane.drainingThread = Thread.currentThread();
 
-            parent.executeEvent(e);
+            try {
+                for (int i = 0; i < budget; i++) {
+                    final QueuedEvent e = parent.poll(lane);
+                    if (e == null) return;
+
+                    parent.lastLatencyNanos = System.nanoTime() - e.calledAt;
+                    parent.handle(e);
+                    parent.handledCount.increment();
+
+                    if (System.nanoTime() >= deadline) return;
+                }
+            } finally {
+                lane.drainingThread = null;
+            }
         }
     }
 }
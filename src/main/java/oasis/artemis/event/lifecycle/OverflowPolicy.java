@@ -0,0 +1,28 @@
+package oasis.artemis.event.lifecycle;
+
+/**
+ * <h2>OverflowPolicy</h2>
+ * <p>
+ * Determines what an event manager does when an event is called while its queue is full.
+ * </p>
+ */
+public enum OverflowPolicy {
+    /**
+     * The calling thread waits until there is room in the queue.
+     * When the full queue is drained by the calling thread itself, such as when called from a handler,
+     * its oldest events are handled first to make room, as the handling thread cannot wait on itself.
+     * A thread which is draining another lane does not wait either, and discards the oldest events instead.
+     */
+    BLOCK,
+
+    /**
+     * The oldest pending events are discarded to make room.
+     */
+    DROP_OLDEST,
+
+    /**
+     * {@link oasis.artemis.event.Coalescable} events replace a pending event of the same key.
+     * Any other event which does not fit in the queue is discarded.
+     */
+    COALESCE;
+}
@@ -8,7 +8,12 @@ import javax.annotation.Nonnull;
 
 /**
  * <h2>CollisionEvent</h2>
- * <p>This is called when two objects overlap for the first time.</p>
+ * <p>
+ * This is called when two objects overlap for the first time.
+ * It is handled synchronously on the thread ticking the level, before the collision is resolved.
+ * Cancelling this event lets the objects pass through each other until they no longer overlap.
+ * Levels may be ticked concurrently, so handlers must be thread-safe.
+ * </p>
  */
 public class CollisionEvent implements Cancellable {
     /**
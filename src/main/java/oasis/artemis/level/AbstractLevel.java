@@ -4,16 +4,66 @@ import oasis.artemis.Artemis;
 import oasis.artemis.event.physics.CollisionEvent;
 import oasis.artemis.object.AbstractObject;
 import oasis.artemis.object.ArtemisObject;
+import oasis.artemis.object.store.ObjectStore;
+import oasis.artemis.object.store.StoredObject;
+import oasis.artemis.session.player.Player;
+import oasis.artemis.util.collision.BroadPhase;
+import oasis.artemis.util.collision.Contact;
+import oasis.artemis.util.collision.ContactManifold;
+import oasis.artemis.util.collision.DynamicTree;
+import oasis.artemis.util.collision.SweptSphere;
+import oasis.artemis.util.geometry.BoundingBox;
 import oasis.artemis.util.group.Pair;
+import oasis.artemis.util.group.PairSet;
 import oasis.artemis.util.math.Vector;
 import org.joda.time.Duration;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 public abstract class AbstractLevel implements Level {
+    //
+    // Constants
+    //
+
+    /**
+     * The default minimum number of elements a tick stage needs before it is run in parallel.
+     * Below this, the overhead of splitting work outweighs the gain.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 256;
+
+    /**
+     * The default velocity below which an object is considered at rest.
+     */
+    public static final double DEFAULT_SLEEP_VELOCITY = 0.01;
+
+    /**
+     * The default number of consecutive ticks an object must be at rest before it is put to sleep.
+     */
+    public static final int DEFAULT_SLEEP_TICKS = 30;
+
+    /**
+     * How close the scalar part of a rate of rotation must be to one for the object to be considered not rotating.
+     */
+    private static final double SLEEP_ROTATION_EPSILON = 1e-9;
+
+    /**
+     * The order objects are staged in, which keeps ticks deterministic regardless of how the level stores them.
+     */
+    private static final Comparator<ArtemisObject> OBJECT_ORDER = Comparator.comparing(ArtemisObject::getUniqueId);
+
+    /**
+     * The order contacts are resolved in. Both elements of each pair are expected to be in {@link #OBJECT_ORDER}.
+     */
+    private static final Comparator<Pair<ArtemisObject>> PAIR_ORDER =
+            Comparator.comparing((Pair<ArtemisObject> p) -> p.getFirst(), OBJECT_ORDER)
+                    .thenComparing(Pair::getSecond, OBJECT_ORDER);
+
     //
     // Constructors
     //
@@ -27,6 +77,7 @@ public abstract class AbstractLevel implements Level {
      * @param gravity            Gravity vector of this level
      * @param airDensity         Air density of this level
      * @param overlappingObjects Set of overlapping objects
+     * @param broadPhase         Broad phase used to find collision candidates
      */
     public AbstractLevel(
             @Nonnull UUID uniqueId,
@@ -34,7 +85,8 @@ public abstract class AbstractLevel implements Level {
             @Nonnull Set<ArtemisObject> objects,
             @Nonnull Vector gravity,
             @Nonnegative double airDensity,
-            @Nonnull List<Pair<ArtemisObject>> overlappingObjects
+            @Nonnull PairSet<ArtemisObject> overlappingObjects,
+            @Nonnull BroadPhase broadPhase
     ) {
         this.uniqueId = uniqueId;
         this.name = name;
@@ -42,6 +94,9 @@ public abstract class AbstractLevel implements Level {
         this.gravity = gravity;
         this.airDensity = airDensity;
         this.overlappingObjects = overlappingObjects;
+        this.broadPhase = broadPhase;
+
+        objects.stream().sorted(OBJECT_ORDER).forEach(broadPhase::add);
     }
 
     /**
@@ -56,8 +111,21 @@ public abstract class AbstractLevel implements Level {
                 builder.objects,
                 builder.gravity,
                 builder.airDensity,
-                new ArrayList<>()
+                new PairSet<>(),
+                builder.broadPhase
         );
+
+        this.parallelThreshold = builder.parallelThreshold;
+        this.tickBudget = builder.tickBudget;
+        this.sleepVelocity = builder.sleepVelocity;
+        this.sleepTicks = builder.sleepTicks;
+        this.continuousCollision = builder.continuousCollision;
+        this.contactSolver = builder.contactSolver;
+
+        if (builder.storageMode == StorageMode.COLUMNAR) {
+            this.store = new ObjectStore();
+            builder.objects.forEach(this::attach);
+        }
     }
 
     //
@@ -74,6 +142,14 @@ public abstract class AbstractLevel implements Level {
             this.objects = new HashSet<>();
             this.gravity = Vector.ZERO;
             this.airDensity = 0;
+            this.broadPhase = new DynamicTree();
+            this.parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+            this.storageMode = StorageMode.OBJECT;
+            this.tickBudget = null;
+            this.sleepVelocity = DEFAULT_SLEEP_VELOCITY;
+            this.sleepTicks = DEFAULT_SLEEP_TICKS;
+            this.continuousCollision = false;
+            this.contactSolver = new ContactSolver();
         }
 
         private UUID uniqueId;
@@ -81,6 +157,14 @@ public abstract class AbstractLevel implements Level {
         private final Set<ArtemisObject> objects;
         private Vector gravity;
         private double airDensity;
+        private BroadPhase broadPhase;
+        private int parallelThreshold;
+        private StorageMode storageMode;
+        private TickBudget tickBudget;
+        private double sleepVelocity;
+        private int sleepTicks;
+        private boolean continuousCollision;
+        private ContactSolver contactSolver;
 
         /**
          * Sets the unique identifier of this level.
@@ -154,6 +238,109 @@ public abstract class AbstractLevel implements Level {
             return this;
         }
 
+        /**
+         * Sets the broad phase of this level.
+         * Defaults to a {@link DynamicTree}.
+         *
+         * @param broadPhase Broad phase
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder broadPhase(@Nonnull BroadPhase broadPhase) {
+            this.broadPhase = broadPhase;
+            return this;
+        }
+
+        /**
+         * Sets the minimum number of elements a tick stage needs before it is run in parallel.
+         *
+         * @param threshold Parallel threshold
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder parallelThreshold(@Nonnegative int threshold) {
+            this.parallelThreshold = threshold;
+            return this;
+        }
+
+        /**
+         * Sets the storage mode of this level.
+         * Defaults to {@link StorageMode#OBJECT}.
+         *
+         * @param mode Storage mode
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder storageMode(@Nonnull StorageMode mode) {
+            this.storageMode = mode;
+            return this;
+        }
+
+        /**
+         * Sets the tick budget of this level.
+         * Budgets are opt-in, as a level over budget skips drag and integration of distant objects,
+         * which changes how it simulates. Defaults to {@code null}.
+         *
+         * @param budget Tick budget, {@code null} to tick with uncapped deltas and never shed work
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder tickBudget(@Nullable TickBudget budget) {
+            this.tickBudget = budget;
+            return this;
+        }
+
+        /**
+         * Sets the velocity below which an object is considered at rest.
+         *
+         * @param velocity Sleep velocity
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder sleepVelocity(@Nonnegative double velocity) {
+            this.sleepVelocity = velocity;
+            return this;
+        }
+
+        /**
+         * Sets the number of consecutive ticks an object must be at rest before it is put to sleep.
+         *
+         * @param ticks Sleep ticks, {@code 0} to never put objects to sleep
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder sleepTicks(@Nonnegative int ticks) {
+            this.sleepTicks = ticks;
+            return this;
+        }
+
+        /**
+         * Sets whether continuous collision detection is enabled for every object in the level.
+         * When disabled, it can still be enabled per object with
+         * {@link ArtemisObject#setContinuousCollisionEnabled(boolean)}.
+         *
+         * @param enabled {@code true} to enable continuous collision detection
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder continuousCollision(boolean enabled) {
+            this.continuousCollision = enabled;
+            return this;
+        }
+
+        /**
+         * Sets the contact solver of this level.
+         * Defaults to a {@link ContactSolver} with default settings.
+         *
+         * @param solver Contact solver
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder contactSolver(@Nonnull ContactSolver solver) {
+            this.contactSolver = solver;
+            return this;
+        }
+
         /**
          * Finalizes the building sequence and builds the level.
          *
@@ -171,45 +358,396 @@ public abstract class AbstractLevel implements Level {
 
     @Override
     public void tick(@Nonnull Duration delta) {
+        final TickBudget budget = tickBudget;
+        if (budget == null) {
+            step(delta.getMillis(), ShedLevel.NONE);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final ShedLevel shed = budget.getShedLevel();
+        final long millis = budget.cap(delta.getMillis());
+        final int substeps = budget.getSubsteps(millis);
+
+        // Spread the delta evenly, so that substeps add up to exactly the capped delta
+        long remaining = millis;
+        for (int i = substeps; i > 0; i--) {
+            final long step = remaining / i;
+            remaining -= step;
+
+            step(step, shed);
+        }
+
+        budget.record(millis, System.nanoTime() - start);
+    }
+
+    /**
+     * Simulates one step.
+     *
+     * @param millis Delta in milliseconds
+     * @param shed   Work to shed in this step
+     */
+    private void step(long millis, @Nonnull ShedLevel shed) {
         // Convert delta to seconds
-        final double seconds = delta.getMillis() / 1000d;
+        final Duration delta = new Duration(millis);
+        final double seconds = millis / 1000d;
 
-        // Uses copied set to prevent concurrent modification exception
-        final Set<ArtemisObject> objects = getObjects();
+        // Uses copied list to prevent concurrent modification exception, sorted so that every stage runs in a fixed order
+        final List<ArtemisObject> objects = new ArrayList<>(getObjects());
+        objects.sort(OBJECT_ORDER);
 
-        // Apply gravity
-        objects.forEach(o -> o.accelerate(gravity.multiply(seconds)));
+        // Remember where swept objects started
+        recordSweepOrigins(objects);
 
-        // Tick objects
-        objects.forEach(o -> o.tick(delta));
+        // Apply gravity and tick objects
+        if (shed == ShedLevel.DISTANT || !owedMillis.isEmpty()) {
+            integrateNearby(objects, millis, shed == ShedLevel.DISTANT);
+        } else {
+            integrate(objects, delta, seconds);
+        }
 
         // Handle collisions
-        objects.forEach(o1 -> {
-            objects.stream().filter(o -> !o.equals(o1)).forEach(o2 -> {
-                final Pair<ArtemisObject> pair = new Pair<>(o1, o2);
-                if (o1.overlaps(o2)) {
-                    if (overlappingObjects.contains(pair)) return;
-
-                    overlappingObjects.add(pair);
-                    Artemis.getEventManager().callEvent(new CollisionEvent(pair));
-                } else {
-                    overlappingObjects.remove(pair);
-                }
-            });
-        });
+        handleCollisions(objects);
 
         // Apply fluid resistance
+        if (shed.compareTo(ShedLevel.DRAG) < 0) applyFluidResistance(objects, seconds);
+
+        // Put objects at rest to sleep
+        updateSleeping(objects);
+    }
+
+    /**
+     * Applies gravity to, then ticks every object.
+     * Objects are independent of each other in this stage, so it runs in parallel.
+     * In {@link StorageMode#COLUMNAR}, objects held by the store are integrated by the store instead.
+     *
+     * @param objects List of objects to integrate
+     * @param delta   Duration between the last tick and now
+     * @param seconds Delta in seconds
+     */
+    protected void integrate(@Nonnull List<ArtemisObject> objects, @Nonnull Duration delta, double seconds) {
+        final Vector g = gravity.multiply(seconds);
+
+        // Columnar objects are integrated in bulk
+        final ObjectStore store = this.store;
+        if (store != null) {
+            store.accelerate(g.getX(), g.getY(), g.getZ());
+            store.integrate(seconds);
+        }
+
+        forEach(objects, o -> {
+            if (o.isSleeping()) return;
+            if (store != null && store.contains(o)) return;
+
+            o.accelerate(g);
+            o.tick(delta);
+        });
+    }
+
+    /**
+     * Integrates like {@link AbstractLevel#integrate(List, Duration, double)}, but only updates distant objects
+     * every {@link TickBudget#getDistantInterval()} steps. Skipped time is owed to each object,
+     * and added to its delta the next time it is updated, so no simulated time is lost.
+     *
+     * @param objects  List of objects to integrate
+     * @param millis   Delta in milliseconds
+     * @param shedding {@code true} to skip distant objects, {@code false} to only pay owed time
+     */
+    private void integrateNearby(@Nonnull List<ArtemisObject> objects, long millis, boolean shedding) {
+        final double seconds = millis / 1000d;
+        final TickBudget budget = tickBudget;
+
+        // Columnar objects are integrated in bulk, and never skipped
+        final ObjectStore store = this.store;
+        if (store != null) {
+            final Vector g = gravity.multiply(seconds);
+            store.accelerate(g.getX(), g.getY(), g.getZ());
+            store.integrate(seconds);
+        }
+
+        final List<Vector> focus = shedding ? getFocusPoints() : List.of();
+        final boolean skipDistant = budget != null && !focus.isEmpty()
+                && ++distantCounter % budget.getDistantInterval() != 0;
+        final double radiusSquared = budget == null ? 0 : budget.getFocusRadius() * budget.getFocusRadius();
+
+        final List<ArtemisObject> due = new ArrayList<>(objects.size());
+        final long[] deltas = new long[objects.size()];
+        int skipped = 0;
+
+        for (ArtemisObject o : objects) {
+            if (o.isSleeping()) continue;
+            if (store != null && store.contains(o)) continue;
+
+            if (skipDistant && isDistant(o.getLocation(), focus, radiusSquared)) {
+                owedMillis.merge(o, millis, Long::sum);
+                skipped++;
+                continue;
+            }
+
+            final Long owed = owedMillis.remove(o);
+            deltas[due.size()] = millis + (owed == null ? 0 : owed);
+            due.add(o);
+        }
+
+        if (budget != null) budget.recordDistantSkips(skipped);
+
+        forEach(IntStream.range(0, due.size()), due.size(), i -> {
+            final ArtemisObject o = due.get(i);
+            o.accelerate(gravity.multiply(deltas[i] / 1000d));
+            o.tick(new Duration(deltas[i]));
+        });
+    }
+
+    /**
+     * Gets the locations of every player's pawn in this level.
+     */
+    @Nonnull
+    private List<Vector> getFocusPoints() {
+        final List<Vector> points = new ArrayList<>();
+
+        for (Player player : Artemis.getSessionManager().getPlayers()) {
+            final ArtemisObject pawn = player.getPawn();
+            if (objects.contains(pawn)) points.add(pawn.getLocation());
+        }
+
+        return points;
+    }
+
+    private static boolean isDistant(@Nonnull Vector location, @Nonnull List<Vector> focus, double radiusSquared) {
+        for (Vector f : focus) {
+            final double dx = location.getX() - f.getX();
+            final double dy = location.getY() - f.getY();
+            final double dz = location.getZ() - f.getZ();
+
+            if (dx * dx + dy * dy + dz * dz <= radiusSquared) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Updates the broad phase, tests candidate pairs, calls events for new collisions, then resolves contacts.
+     * Pairs whose collision was cancelled are not resolved until they separate.
+     * Candidate pairs are sorted by the unique IDs of their objects, so the outcome does not depend on the broad phase.
+     * The narrow phase is partitioned across threads, but results are merged in candidate order,
+     * so the outcome does not depend on the number of threads either.
+     *
+     * @param objects List of objects to handle
+     */
+    protected void handleCollisions(@Nonnull List<ArtemisObject> objects) {
+        // Sleeping objects have not moved, and are only tested against awake objects
+        final List<ArtemisObject> awake = new ArrayList<>();
+
+        // Update broad phase, only objects which moved since they were last indexed
         objects.forEach(o -> {
-            final AtomicReference<Double> fluidDensity = new AtomicReference<>(airDensity);
-            overlappingObjects.forEach(p -> {
-                if (!p.contains(o)) return;
-                fluidDensity.set(Math.max(fluidDensity.get(), p.other(o).getDensity()));
-            });
+            if (o.isSleeping()) return;
+            awake.add(o);
+
+            // Swept objects are indexed by the volume they passed through
+            final Vector origin = sweepOrigins.get(o);
+            if (origin == null) {
+                refresh(o);
+                return;
+            }
+
+            final BoundingBox box = o.getSolid().getBoundingBox();
+            broadPhase.update(o, box.union(box.translate(origin.subtract(o.getLocation()))));
+            indexedVersions.put(o, o.getTransformVersion());
+        });
+
+        // Narrow phase
+        final List<Pair<ArtemisObject>> candidates = getOrderedPairs(broadPhase.getCandidatePairs(o -> !o.isSleeping()));
+        final ContactManifold[] manifolds = new ContactManifold[candidates.size()];
+        final boolean[] hits = new boolean[candidates.size()];
+        final double[] impacts = sweepOrigins.isEmpty() ? null : new double[candidates.size()];
+
+        forEach(IntStream.range(0, candidates.size()), candidates.size(), i -> {
+            final Pair<ArtemisObject> pair = candidates.get(i);
+
+            manifolds[i] = ContactManifold.of(pair);
+            hits[i] = manifolds[i] != null;
+            if (impacts != null) impacts[i] = hits[i] ? SweptSphere.NO_IMPACT : sweep(pair);
+        });
+
+        // Merge results
+        final PairSet<ArtemisObject> overlapping = new PairSet<>();
+        final PairSet<ArtemisObject> ignored = new PairSet<>();
+        final List<Integer> touching = new ArrayList<>();
+
+        for (int i = 0; i < hits.length; i++) {
+            final boolean swept = impacts != null && impacts[i] >= 0;
+            if (!hits[i] && !swept) continue;
+
+            final Pair<ArtemisObject> pair = candidates.get(i);
+            overlapping.add(pair);
+            touching.add(i);
+
+            // A cancelled collision is ignored until the pair separates
+            if (overlappingObjects.contains(pair)) {
+                if (ignoredPairs.contains(pair)) ignored.add(pair);
+                continue;
+            }
+
+            // Handlers run before the response, so that cancelling a collision prevents it
+            if (Artemis.getEventManager().callEventSync(new CollisionEvent(pair)).isCancelled()) ignored.add(pair);
+        }
+
+        final List<Pair<ArtemisObject>> sweptPairs = new ArrayList<>();
+        final List<ContactManifold> contacts = new ArrayList<>();
+        final Map<ArtemisObject, Double> impactTimes = new HashMap<>();
+
+        for (int i : touching) {
+            final Pair<ArtemisObject> pair = candidates.get(i);
+            if (ignored.contains(pair)) continue;
+
+            // Swept objects are moved back to their earliest impact
+            if (impacts != null && impacts[i] >= 0) {
+                sweptPairs.add(pair);
+                if (sweepOrigins.containsKey(pair.getFirst())) impactTimes.merge(pair.getFirst(), impacts[i], Math::min);
+                if (sweepOrigins.containsKey(pair.getSecond())) impactTimes.merge(pair.getSecond(), impacts[i], Math::min);
+            }
+
+            // Moving objects wake up sleeping objects they touch
+            wakeOnContact(pair.getFirst(), pair.getSecond());
+            wakeOnContact(pair.getSecond(), pair.getFirst());
+
+            if (manifolds[i] != null) contacts.add(manifolds[i]);
+        }
+
+        impactTimes.forEach(this::rewind);
+
+        // Swept objects now touch at their time of impact
+        for (Pair<ArtemisObject> pair : sweptPairs) {
+            final ContactManifold manifold = ContactManifold.of(pair);
+            contacts.add(manifold != null ? manifold : new ContactManifold(pair, new Contact(getImpactNormal(pair), 0)));
+        }
 
+        // Respond within this step.
+        // Sequential impulses depend on the order of contacts, which must not depend on the broad phase.
+        contacts.sort(Comparator.comparing(ContactManifold::getObjects, PAIR_ORDER));
+        contactSolver.solve(contacts);
+
+        // Pairs of two sleeping objects were not tested, and still overlap exactly as much as they did
+        for (ArtemisObject o : awake) {
+            overlappingObjects.removeAll(o);
+            ignoredPairs.removeAll(o);
+        }
+
+        overlapping.forEach(overlappingObjects::add);
+        ignored.forEach(ignoredPairs::add);
+    }
+
+    /**
+     * Records the location of every awake object which uses continuous collision detection,
+     * before it is integrated.
+     *
+     * @param objects List of objects to record
+     */
+    private void recordSweepOrigins(@Nonnull List<ArtemisObject> objects) {
+        sweepOrigins.clear();
+
+        for (ArtemisObject o : objects) {
+            if (o.isSleeping()) continue;
+            if (!continuousCollision && !o.isContinuousCollisionEnabled()) continue;
+
+            sweepOrigins.put(o, o.getLocation());
+        }
+    }
+
+    /**
+     * Tests the paths two objects swept during this step.
+     *
+     * @return Time of impact, or {@link SweptSphere#NO_IMPACT} if neither object is swept or they never touched
+     */
+    private double sweep(@Nonnull Pair<ArtemisObject> pair) {
+        final ArtemisObject a = pair.getFirst();
+        final ArtemisObject b = pair.getSecond();
+
+        final Vector originA = sweepOrigins.get(a);
+        final Vector originB = sweepOrigins.get(b);
+        if (originA == null && originB == null) return SweptSphere.NO_IMPACT;
+
+        // Objects which are not swept are treated as stationary at their current location
+        final Vector endA = SweptSphere.getCenter(a);
+        final Vector endB = SweptSphere.getCenter(b);
+        final Vector startA = originA == null ? endA : endA.add(originA.subtract(a.getLocation()));
+        final Vector startB = originB == null ? endB : endB.add(originB.subtract(b.getLocation()));
+
+        return SweptSphere.timeOfImpact(
+                startA, endA, SweptSphere.getRadius(a),
+                startB, endB, SweptSphere.getRadius(b)
+        );
+    }
+
+    /**
+     * Updates the bounds of an object in the broad phase, if it has moved since it was last indexed.
+     */
+    private void refresh(@Nonnull ArtemisObject object) {
+        final long version = object.getTransformVersion();
+        final Long indexed = indexedVersions.put(object, version);
+
+        if (indexed == null || indexed != version) broadPhase.update(object);
+    }
+
+    /**
+     * Gets candidate pairs with the elements of each pair in {@link #OBJECT_ORDER}, sorted by {@link #PAIR_ORDER}.
+     */
+    @Nonnull
+    private static List<Pair<ArtemisObject>> getOrderedPairs(@Nonnull List<Pair<ArtemisObject>> pairs) {
+        final List<Pair<ArtemisObject>> ordered = new ArrayList<>(pairs.size());
+
+        for (Pair<ArtemisObject> pair : pairs) {
+            final boolean swap = OBJECT_ORDER.compare(pair.getFirst(), pair.getSecond()) > 0;
+            ordered.add(swap ? new Pair<>(pair.getSecond(), pair.getFirst()) : pair);
+        }
+
+        ordered.sort(PAIR_ORDER);
+        return ordered;
+    }
+
+    /**
+     * Gets the normal between two objects which only just touch, pointing from the first towards the second.
+     */
+    @Nonnull
+    private static Vector getImpactNormal(@Nonnull Pair<ArtemisObject> pair) {
+        final Vector normal = SweptSphere.getCenter(pair.getSecond())
+                .subtract(SweptSphere.getCenter(pair.getFirst()))
+                .toUnitVector();
+
+        return normal.equals(Vector.ZERO) ? Vector.POSITIVE_X : normal;
+    }
+
+    /**
+     * Moves a swept object back along its path to given time of impact.
+     */
+    private void rewind(@Nonnull ArtemisObject object, double time) {
+        final Vector origin = sweepOrigins.get(object);
+        final Vector location = object.getLocation();
+
+        object.setLocation(origin.add(location.subtract(origin).multiply(time)));
+    }
+
+    /**
+     * Decelerates every object by the drag of the densest fluid it is in.
+     * Each object only modifies itself in this stage, so it runs in parallel.
+     *
+     * @param objects List of objects to decelerate
+     * @param seconds Delta in seconds
+     */
+    protected void applyFluidResistance(@Nonnull List<ArtemisObject> objects, double seconds) {
+        forEach(objects, o -> {
+            if (o.isSleeping()) return;
+
+            double fluidDensity = airDensity;
+            for (ArtemisObject other : overlappingObjects.getPartners(o)) {
+                fluidDensity = Math.max(fluidDensity, other.getDensity());
+            }
+
+            final Vector velocity = o.getAcceleration();
             final double dragForce = o.getDragCoefficient()
-                    * fluidDensity.get()
+                    * fluidDensity
                     * o.getCrossSection()
-                    * Math.pow(o.getVelocity(), 2);
+                    * velocity.dot(velocity);
 
             if (!Double.isFinite(dragForce)) return;
             if (dragForce <= 0) return;
@@ -222,6 +760,68 @@ public abstract class AbstractLevel implements Level {
         });
     }
 
+    /**
+     * Counts how long each awake object has been at rest, and puts it to sleep after {@code sleepTicks} ticks.
+     * An object is at rest when its velocity is below {@code sleepVelocity}, and it is not rotating.
+     *
+     * @param objects List of objects to update
+     */
+    protected void updateSleeping(@Nonnull List<ArtemisObject> objects) {
+        if (sleepTicks <= 0) return;
+
+        for (ArtemisObject o : objects) {
+            if (o.isSleeping()) continue;
+
+            if (!isAtRest(o)) {
+                restTicks.remove(o);
+                continue;
+            }
+
+            if (restTicks.merge(o, 1, Integer::sum) >= sleepTicks) {
+                restTicks.remove(o);
+                o.setSleeping(true);
+            }
+        }
+    }
+
+    private boolean isAtRest(@Nonnull ArtemisObject object) {
+        return object.getVelocity() < sleepVelocity
+                && 1 - Math.abs(object.getRotationRate().getW()) < SLEEP_ROTATION_EPSILON;
+    }
+
+    private void wakeOnContact(@Nonnull ArtemisObject sleeper, @Nonnull ArtemisObject other) {
+        if (!sleeper.isSleeping() || other.isSleeping() || isAtRest(other)) return;
+        sleeper.setSleeping(false);
+    }
+
+    /**
+     * Performs an action for every element, in parallel if there are enough elements.
+     * When called from a {@link java.util.concurrent.ForkJoinPool}, work is shared within that pool.
+     *
+     * @param list   List of elements
+     * @param action Action to perform
+     * @param <T>    Type of element
+     */
+    protected <T> void forEach(@Nonnull List<T> list, @Nonnull Consumer<T> action) {
+        if (list.size() < parallelThreshold) {
+            list.forEach(action);
+        } else {
+            list.parallelStream().forEach(action);
+        }
+    }
+
+    private void attach(@Nonnull ArtemisObject object) {
+        if (store != null && object instanceof StoredObject so) store.attach(so);
+    }
+
+    private void forEach(@Nonnull IntStream range, int size, @Nonnull IntConsumer action) {
+        if (size < parallelThreshold) {
+            range.forEach(action);
+        } else {
+            range.parallel().forEach(action);
+        }
+    }
+
     //
     // Variables
     //
@@ -241,7 +841,59 @@ public abstract class AbstractLevel implements Level {
     //
 
     @Nonnull
-    protected final List<Pair<ArtemisObject>> overlappingObjects;
+    protected final PairSet<ArtemisObject> overlappingObjects;
+
+    /**
+     * Overlapping pairs whose collision was cancelled, which are not resolved until they separate.
+     */
+    @Nonnull
+    private final PairSet<ArtemisObject> ignoredPairs = new PairSet<>();
+    @Nonnull
+    protected final BroadPhase broadPhase;
+    @Nonnegative
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    @Nullable
+    private ObjectStore store = null;
+    @Nullable
+    private TickBudget tickBudget = null;
+
+    /**
+     * Transform version of each object when its bounds were last written to the broad phase.
+     */
+    @Nonnull
+    private final Map<ArtemisObject, Long> indexedVersions = new HashMap<>();
+
+    /**
+     * Simulated time owed to distant objects which were skipped, in milliseconds.
+     */
+    @Nonnull
+    private final Map<ArtemisObject, Long> owedMillis = new HashMap<>();
+    private int distantCounter = 0;
+
+    @Nonnegative
+    private double sleepVelocity = DEFAULT_SLEEP_VELOCITY;
+    @Nonnegative
+    private int sleepTicks = DEFAULT_SLEEP_TICKS;
+
+    /**
+     * Number of consecutive ticks each awake object has been at rest.
+     */
+    @Nonnull
+    private final Map<ArtemisObject, Integer> restTicks = new HashMap<>();
+
+    /**
+     * Whether continuous collision detection is enabled for every object.
+     */
+    private volatile boolean continuousCollision = false;
+
+    /**
+     * Locations swept objects started this step from.
+     */
+    @Nonnull
+    private final Map<ArtemisObject, Vector> sweepOrigins = new HashMap<>();
+
+    @Nonnull
+    private ContactSolver contactSolver = new ContactSolver();
 
     //
     // Getters
@@ -278,6 +930,98 @@ public abstract class AbstractLevel implements Level {
         return airDensity;
     }
 
+    /**
+     * Gets the storage mode of this level.
+     *
+     * @return Storage mode
+     */
+    @Nonnull
+    public StorageMode getStorageMode() {
+        return store == null ? StorageMode.OBJECT : StorageMode.COLUMNAR;
+    }
+
+    /**
+     * Gets the object store of this level.
+     *
+     * @return Object store if this level is in {@link StorageMode#COLUMNAR}, {@code null} if not
+     */
+    @Nullable
+    public ObjectStore getStore() {
+        return store;
+    }
+
+    /**
+     * Gets the minimum number of elements a tick stage needs before it is run in parallel.
+     *
+     * @return Parallel threshold
+     */
+    @Nonnegative
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Gets the velocity below which an object is considered at rest.
+     *
+     * @return Sleep velocity
+     */
+    @Nonnegative
+    public double getSleepVelocity() {
+        return sleepVelocity;
+    }
+
+    /**
+     * Gets the number of consecutive ticks an object must be at rest before it is put to sleep.
+     *
+     * @return Sleep ticks, {@code 0} if objects are never put to sleep
+     */
+    @Nonnegative
+    public int getSleepTicks() {
+        return sleepTicks;
+    }
+
+    /**
+     * Gets the tick budget of this level, which also reports how much work was shed.
+     *
+     * @return Tick budget, {@code null} if ticks are not budgeted
+     */
+    @Nullable
+    public TickBudget getTickBudget() {
+        return tickBudget;
+    }
+
+    /**
+     * Checks if continuous collision detection is enabled for every object in this level.
+     *
+     * @return {@code true} if continuous collision detection is enabled level-wide
+     */
+    public boolean isContinuousCollisionEnabled() {
+        return continuousCollision;
+    }
+
+    /**
+     * Gets the contact solver of this level, which resolves collisions within each step.
+     *
+     * @return Contact solver
+     */
+    @Nonnull
+    public ContactSolver getContactSolver() {
+        return contactSolver;
+    }
+
+    /**
+     * Gets the broad phase of this level.
+     * Objects which have moved since the last step are re-indexed first, so that queries see their current bounds.
+     * This must not be called while the level is being ticked.
+     *
+     * @return Broad phase
+     */
+    @Nonnull
+    public BroadPhase getBroadPhase() {
+        objects.forEach(this::refresh);
+        return broadPhase;
+    }
+
     //
     // Setters
     //
@@ -286,11 +1030,30 @@ public abstract class AbstractLevel implements Level {
     @Override
     public void addObject(@Nonnull ArtemisObject object) {
         objects.add(object);
+        attach(object);
+        broadPhase.add(object);
     }
 
     @Override
     public void removeObject(@Nonnull ArtemisObject object) {
         objects.remove(object);
+        broadPhase.remove(object);
+        indexedVersions.remove(object);
+
+        // Objects resting on this one lose their support
+        for (ArtemisObject partner : overlappingObjects.getPartners(object)) {
+            partner.setSleeping(false);
+            restTicks.remove(partner);
+        }
+
+        overlappingObjects.removeAll(object);
+        ignoredPairs.removeAll(object);
+        owedMillis.remove(object);
+        restTicks.remove(object);
+        sweepOrigins.remove(object);
+        contactSolver.forget(object);
+
+        if (store != null && object instanceof StoredObject so) store.detach(so);
     }
 
     @Override
@@ -302,4 +1065,22 @@ public abstract class AbstractLevel implements Level {
     public void setAirDensity(@Nonnegative double airDensity) {
         this.airDensity = airDensity;
     }
+
+    /**
+     * Sets the minimum number of elements a tick stage needs before it is run in parallel.
+     *
+     * @param threshold Parallel threshold
+     */
+    public void setParallelThreshold(@Nonnegative int threshold) {
+        this.parallelThreshold = threshold;
+    }
+
+    /**
+     * Sets whether continuous collision detection is enabled for every object in this level.
+     *
+     * @param enabled {@code true} to enable continuous collision detection level-wide
+     */
+    public void setContinuousCollisionEnabled(boolean enabled) {
+        this.continuousCollision = enabled;
+    }
 }
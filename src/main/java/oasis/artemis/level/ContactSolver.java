@@ -0,0 +1,574 @@
+package oasis.artemis.level;
+
+import oasis.artemis.object.ArtemisObject;
+import oasis.artemis.util.collision.Contact;
+import oasis.artemis.util.collision.ContactManifold;
+import oasis.artemis.util.group.Pair;
+import oasis.artemis.util.math.MutableVector;
+import oasis.artemis.util.math.Vector;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h2>ContactSolver</h2>
+ * <p>
+ * Resolves contacts within the step they were found in, using sequential impulses.
+ * Every contact is a constraint which may only push its objects apart. Impulses are applied to one contact
+ * at a time, over a number of iterations, which converges towards a solution of all contacts at once.
+ * </p>
+ * <p>
+ * Sliding along a contact is opposed by Coulomb friction, an impulse along the contact plane of at most
+ * the friction coefficient times the normal impulse.
+ * Each contact is a single point through both centroids, so impulses only change linear velocity.
+ * Objects are not spun by off-center contacts, and rotating objects are not slowed by friction.
+ * </p>
+ * <p>
+ * The total normal and friction impulses of each contact are remembered between steps, and applied up front
+ * in the next step (warm starting), so that resting contacts converge in few iterations.
+ * Objects which overlap are moved apart by a fraction of how deep they overlap. This is done to their locations
+ * rather than their velocities, so that correcting overlap adds no energy, and objects resting on others come to rest.
+ * </p>
+ * <p>
+ * Objects with a mass which is not positive and finite, and objects which are sleeping, are treated as static.
+ * A contact solver holds the state of one level, and must not be shared between levels.
+ * </p>
+ */
+public final class ContactSolver {
+    //
+    // Constants
+    //
+
+    /**
+     * The default number of iterations per step.
+     */
+    public static final int DEFAULT_ITERATIONS = 10;
+
+    /**
+     * The default coefficient of restitution.
+     */
+    public static final double DEFAULT_RESTITUTION = 0.5;
+
+    /**
+     * The default fraction of the overlap which is corrected in one step.
+     */
+    public static final double DEFAULT_CORRECTION = 0.2;
+
+    /**
+     * The default depth objects may overlap without being corrected, which keeps resting contacts from jittering.
+     */
+    public static final double DEFAULT_SLOP = 0.01;
+
+    /**
+     * The default coefficient of friction.
+     */
+    public static final double DEFAULT_FRICTION = 0.5;
+
+    /**
+     * Closing velocities below this do not bounce.
+     */
+    private static final double RESTITUTION_THRESHOLD = 1;
+
+    //
+    // Constructors
+    //
+
+    /**
+     * Gets a new builder instance.
+     *
+     * @return {@link Builder}
+     */
+    @Nonnull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a new contact solver with default settings.
+     */
+    public ContactSolver() {
+        this(new Builder());
+    }
+
+    /**
+     * Builder constructor.
+     *
+     * @param builder Builder to use
+     */
+    private ContactSolver(@Nonnull Builder builder) {
+        this.iterations = builder.iterations;
+        this.restitution = builder.restitution;
+        this.correction = builder.correction;
+        this.slop = builder.slop;
+        this.friction = builder.friction;
+        this.warmStarting = builder.warmStarting;
+    }
+
+    //
+    // Builder
+    //
+
+    /**
+     * Builder class for {@link ContactSolver}.
+     */
+    public static final class Builder {
+        private Builder() {}
+
+        private int iterations = DEFAULT_ITERATIONS;
+        private double restitution = DEFAULT_RESTITUTION;
+        private double correction = DEFAULT_CORRECTION;
+        private double slop = DEFAULT_SLOP;
+        private double friction = DEFAULT_FRICTION;
+        private boolean warmStarting = true;
+
+        /**
+         * Sets the number of iterations per step. More iterations resolve stacks of contacts more accurately.
+         *
+         * @param iterations Number of iterations
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder iterations(@Nonnegative int iterations) {
+            this.iterations = iterations;
+            return this;
+        }
+
+        /**
+         * Sets the coefficient of restitution, where {@code 0} is perfectly inelastic and {@code 1} is perfectly elastic.
+         *
+         * @param restitution Coefficient of restitution
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder restitution(@Nonnegative double restitution) {
+            this.restitution = restitution;
+            return this;
+        }
+
+        /**
+         * Sets the fraction of the overlap which is corrected in one step.
+         *
+         * @param correction Correction factor, {@code 0} to never correct overlap
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder correction(@Nonnegative double correction) {
+            this.correction = correction;
+            return this;
+        }
+
+        /**
+         * Sets the depth objects may overlap without being corrected.
+         *
+         * @param slop Allowed overlap
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder slop(@Nonnegative double slop) {
+            this.slop = slop;
+            return this;
+        }
+
+        /**
+         * Sets the coefficient of friction, which limits the impulse along a contact to this times the normal impulse.
+         *
+         * @param friction Coefficient of friction, {@code 0} for frictionless contacts
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder friction(@Nonnegative double friction) {
+            this.friction = friction;
+            return this;
+        }
+
+        /**
+         * Sets whether impulses of the last step are applied up front.
+         *
+         * @param enabled {@code true} to enable warm starting
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder warmStarting(boolean enabled) {
+            this.warmStarting = enabled;
+            return this;
+        }
+
+        /**
+         * Finalizes the building sequence and builds the contact solver.
+         *
+         * @return Built contact solver
+         * @throws IllegalArgumentException When a parameter is out of range
+         */
+        @Nonnull
+        public ContactSolver build() throws IllegalArgumentException {
+            if (iterations <= 0) throw new IllegalArgumentException("Iterations must be positive.");
+
+            if (!(restitution >= 0 && restitution <= 1)) {
+                throw new IllegalArgumentException("Restitution must be between 0 and 1.");
+            }
+
+            if (!(correction >= 0 && correction <= 1)) {
+                throw new IllegalArgumentException("Correction must be between 0 and 1.");
+            }
+
+            if (!(slop >= 0)) throw new IllegalArgumentException("Slop must not be negative.");
+
+            if (!(friction >= 0) || !Double.isFinite(friction)) {
+                throw new IllegalArgumentException("Friction must be a non-negative finite number.");
+            }
+
+            return new ContactSolver(this);
+        }
+    }
+
+    //
+    // Variables
+    //
+
+    private final int iterations;
+    private final double restitution;
+    private final double correction;
+    private final double slop;
+    private final double friction;
+    private final boolean warmStarting;
+
+    /**
+     * Total impulses of each contact in the last step.
+     */
+    @Nonnull
+    private Map<Pair<ArtemisObject>, Impulse> impulses = new HashMap<>();
+
+    //
+    // Getters
+    //
+
+    /**
+     * Gets the number of iterations per step.
+     *
+     * @return Number of iterations
+     */
+    @Nonnegative
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Gets the coefficient of restitution.
+     *
+     * @return Coefficient of restitution
+     */
+    @Nonnegative
+    public double getRestitution() {
+        return restitution;
+    }
+
+    /**
+     * Gets the fraction of the overlap which is corrected in one step.
+     *
+     * @return Correction factor
+     */
+    @Nonnegative
+    public double getCorrection() {
+        return correction;
+    }
+
+    /**
+     * Gets the depth objects may overlap without being corrected.
+     *
+     * @return Allowed overlap
+     */
+    @Nonnegative
+    public double getSlop() {
+        return slop;
+    }
+
+    /**
+     * Gets the coefficient of friction.
+     *
+     * @return Coefficient of friction
+     */
+    @Nonnegative
+    public double getFriction() {
+        return friction;
+    }
+
+    /**
+     * Checks if impulses of the last step are applied up front.
+     *
+     * @return {@code true} if warm starting is enabled
+     */
+    public boolean isWarmStartingEnabled() {
+        return warmStarting;
+    }
+
+    //
+    // Solving
+    //
+
+    /**
+     * Solves the contacts of one step, updates the velocity of every dynamic object involved,
+     * then moves overlapping objects apart.
+     *
+     * @param manifolds Contacts found in this step
+     */
+    public void solve(@Nonnull List<ContactManifold> manifolds) {
+        final Map<Pair<ArtemisObject>, Impulse> previous = impulses;
+        impulses = new HashMap<>();
+
+        if (manifolds.isEmpty()) return;
+
+        // Velocities are accumulated in place, and only written back once
+        final Map<ArtemisObject, MutableVector> velocities = new IdentityHashMap<>();
+        final List<Constraint> constraints = new ArrayList<>(manifolds.size());
+
+        for (ContactManifold manifold : manifolds) {
+            final ArtemisObject a = manifold.getObjects().getFirst();
+            final ArtemisObject b = manifold.getObjects().getSecond();
+
+            final double inverseMassA = getInverseMass(a);
+            final double inverseMassB = getInverseMass(b);
+            final double inverseMass = inverseMassA + inverseMassB;
+            if (inverseMass == 0) continue; // Neither object can move
+
+            final Contact contact = manifold.getContact();
+            final Vector normal = contact.getNormal();
+
+            final MutableVector velocityA = velocities.computeIfAbsent(a, o -> new MutableVector(o.getAcceleration()));
+            final MutableVector velocityB = velocities.computeIfAbsent(b, o -> new MutableVector(o.getAcceleration()));
+
+            // Bounce back from the closing velocity, slow contacts come to rest instead
+            final double closing = velocityB.dot(normal) - velocityA.dot(normal);
+            final double bias = closing < -RESTITUTION_THRESHOLD ? -restitution * closing : 0;
+
+            final Constraint constraint = new Constraint(
+                    manifold.getObjects(), normal, velocityA, velocityB, inverseMassA, inverseMassB, 1 / inverseMass, bias, friction
+            );
+
+            if (warmStarting) {
+                final Impulse impulse = previous.get(manifold.getObjects());
+                if (impulse != null) constraint.warmStart(impulse);
+            }
+
+            constraints.add(constraint);
+        }
+
+        for (int i = 0; i < iterations; i++) {
+            for (Constraint constraint : constraints) {
+                constraint.solve();
+            }
+        }
+
+        for (Constraint constraint : constraints) {
+            impulses.put(constraint.objects, new Impulse(
+                    constraint.impulse, constraint.tangentX, constraint.tangentY, constraint.tangentZ
+            ));
+        }
+
+        velocities.forEach((o, v) -> {
+            if (getInverseMass(o) > 0) o.setAcceleration(v.toVector());
+        });
+
+        correct(manifolds);
+    }
+
+    /**
+     * Forgets the impulses of every contact of given object.
+     *
+     * @param object Object to forget
+     */
+    public void forget(@Nonnull ArtemisObject object) {
+        impulses.keySet().removeIf(pair -> pair.contains(object));
+    }
+
+    //
+    // Internal methods
+    //
+
+    /**
+     * Moves overlapping objects apart by a fraction of their overlap, split by their inverse masses.
+     */
+    private void correct(@Nonnull List<ContactManifold> manifolds) {
+        if (correction == 0) return;
+
+        final Map<ArtemisObject, MutableVector> offsets = new IdentityHashMap<>();
+
+        for (ContactManifold manifold : manifolds) {
+            final Contact contact = manifold.getContact();
+            final double depth = contact.getDepth() - slop;
+            if (depth <= 0) continue;
+
+            final ArtemisObject a = manifold.getObjects().getFirst();
+            final ArtemisObject b = manifold.getObjects().getSecond();
+
+            final double inverseMassA = getInverseMass(a);
+            final double inverseMassB = getInverseMass(b);
+            final double inverseMass = inverseMassA + inverseMassB;
+            if (inverseMass == 0) continue;
+
+            final double distance = correction * depth / inverseMass;
+            final Vector normal = contact.getNormal();
+
+            if (inverseMassA > 0) {
+                offsets.computeIfAbsent(a, o -> new MutableVector()).addScaled(normal, -distance * inverseMassA);
+            }
+
+            if (inverseMassB > 0) {
+                offsets.computeIfAbsent(b, o -> new MutableVector()).addScaled(normal, distance * inverseMassB);
+            }
+        }
+
+        offsets.forEach((o, offset) -> o.move(offset.toVector()));
+    }
+
+    private static double getInverseMass(@Nonnull ArtemisObject object) {
+        if (object.isSleeping()) return 0;
+
+        final double mass = object.getMass();
+        return mass > 0 && Double.isFinite(mass) ? 1 / mass : 0;
+    }
+
+    /**
+     * Internal class representing the non-penetration constraint of one contact.
+     */
+    private static final class Constraint {
+        private Constraint(
+                @Nonnull Pair<ArtemisObject> objects,
+                @Nonnull Vector normal,
+                @Nonnull MutableVector velocityA,
+                @Nonnull MutableVector velocityB,
+                double inverseMassA,
+                double inverseMassB,
+                double effectiveMass,
+                double bias,
+                double friction
+        ) {
+            this.objects = objects;
+            this.normal = normal;
+            this.velocityA = velocityA;
+            this.velocityB = velocityB;
+            this.inverseMassA = inverseMassA;
+            this.inverseMassB = inverseMassB;
+            this.effectiveMass = effectiveMass;
+            this.bias = bias;
+            this.friction = friction;
+        }
+
+        @Nonnull
+        private final Pair<ArtemisObject> objects;
+        @Nonnull
+        private final Vector normal;
+        @Nonnull
+        private final MutableVector velocityA;
+        @Nonnull
+        private final MutableVector velocityB;
+        private final double inverseMassA;
+        private final double inverseMassB;
+        private final double effectiveMass;
+        private final double bias;
+        private final double friction;
+
+        /**
+         * Total impulse applied along the normal.
+         */
+        private double impulse = 0;
+
+        /**
+         * Total impulse applied along the contact plane.
+         */
+        private double tangentX = 0, tangentY = 0, tangentZ = 0;
+
+        private void solve() {
+            solveFriction();
+
+            final double closing = velocityB.dot(normal) - velocityA.dot(normal);
+            final double delta = (bias - closing) * effectiveMass;
+
+            // The total impulse may only ever push the objects apart
+            final double total = Math.max(0, impulse + delta);
+            apply(total - impulse);
+        }
+
+        private void solveFriction() {
+            final double rx = velocityB.getX() - velocityA.getX();
+            final double ry = velocityB.getY() - velocityA.getY();
+            final double rz = velocityB.getZ() - velocityA.getZ();
+
+            // Sliding velocity, the relative velocity without its normal part
+            final double rn = rx * normal.getX() + ry * normal.getY() + rz * normal.getZ();
+            final double sx = rx - rn * normal.getX();
+            final double sy = ry - rn * normal.getY();
+            final double sz = rz - rn * normal.getZ();
+
+            // Total impulse which would stop sliding
+            setTangent(tangentX - sx * effectiveMass, tangentY - sy * effectiveMass, tangentZ - sz * effectiveMass);
+        }
+
+        /**
+         * Applies the impulses of the last step, with the friction impulse projected onto the current contact plane.
+         */
+        private void warmStart(@Nonnull Impulse last) {
+            apply(last.normal);
+
+            // The normal may have turned since the last step
+            final double tn = last.tangentX * normal.getX() + last.tangentY * normal.getY() + last.tangentZ * normal.getZ();
+            setTangent(
+                    last.tangentX - tn * normal.getX(),
+                    last.tangentY - tn * normal.getY(),
+                    last.tangentZ - tn * normal.getZ()
+            );
+        }
+
+        /**
+         * Changes the total friction impulse to given impulse clamped to the friction cone,
+         * and applies the difference to both objects.
+         */
+        private void setTangent(double tx, double ty, double tz) {
+            final double limit = friction * impulse;
+            final double magnitude = Math.sqrt(tx * tx + ty * ty + tz * tz);
+            if (magnitude > limit) {
+                final double k = limit / magnitude;
+                tx *= k;
+                ty *= k;
+                tz *= k;
+            }
+
+            final double dx = tx - tangentX, dy = ty - tangentY, dz = tz - tangentZ;
+            tangentX = tx;
+            tangentY = ty;
+            tangentZ = tz;
+
+            velocityA.set(
+                    velocityA.getX() - dx * inverseMassA,
+                    velocityA.getY() - dy * inverseMassA,
+                    velocityA.getZ() - dz * inverseMassA
+            );
+
+            velocityB.set(
+                    velocityB.getX() + dx * inverseMassB,
+                    velocityB.getY() + dy * inverseMassB,
+                    velocityB.getZ() + dz * inverseMassB
+            );
+        }
+
+        private void apply(double delta) {
+            impulse += delta;
+            velocityA.addScaled(normal, -delta * inverseMassA);
+            velocityB.addScaled(normal, delta * inverseMassB);
+        }
+    }
+
+    /**
+     * Total impulses of one contact, remembered for warm starting.
+     *
+     * @param normal   Impulse along the normal
+     * @param tangentX X component of the friction impulse
+     * @param tangentY Y component of the friction impulse
+     * @param tangentZ Z component of the friction impulse
+     */
+    private record Impulse(double normal, double tangentX, double tangentY, double tangentZ) {}
+}
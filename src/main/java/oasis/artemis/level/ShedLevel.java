@@ -0,0 +1,26 @@
+package oasis.artemis.level;
+
+/**
+ * <h2>ShedLevel</h2>
+ * <p>
+ * Determines how much non-essential work a level skips while its ticks are over budget.
+ * Each level also sheds the work of every level before it.
+ * </p>
+ */
+public enum ShedLevel {
+    /**
+     * Nothing is skipped.
+     */
+    NONE,
+
+    /**
+     * Fluid resistance is not applied.
+     */
+    DRAG,
+
+    /**
+     * Objects far from every player's pawn are only updated every few ticks, with the time they missed.
+     * Objects held by an {@link oasis.artemis.object.store.ObjectStore} are integrated in bulk, and never skipped.
+     */
+    DISTANT;
+}
@@ -2,12 +2,13 @@ package oasis.artemis.level;
 
 import oasis.artemis.object.AbstractObject;
 import oasis.artemis.object.ArtemisObject;
-import oasis.artemis.util.group.Pair;
+import oasis.artemis.util.collision.BroadPhase;
+import oasis.artemis.util.group.PairSet;
 import oasis.artemis.util.math.Vector;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
-import java.util.List;
+import javax.annotation.Nullable;
 import java.util.Set;
 import java.util.UUID;
 
@@ -39,6 +40,7 @@ public final class SimpleLevel extends AbstractLevel {
      * @param gravity            Gravity of this level
      * @param airDensity         Air density of this level
      * @param overlappingObjects Set of overlapping objects in this level
+     * @param broadPhase         Broad phase of this level
      */
     public SimpleLevel(
             @Nonnull UUID uniqueId,
@@ -46,9 +48,10 @@ public final class SimpleLevel extends AbstractLevel {
             @Nonnull Set<ArtemisObject> objects,
             @Nonnull Vector gravity,
             @Nonnegative double airDensity,
-            @Nonnull List<Pair<ArtemisObject>> overlappingObjects
+            @Nonnull PairSet<ArtemisObject> overlappingObjects,
+            @Nonnull BroadPhase broadPhase
     ) {
-        super(uniqueId, name, objects, gravity, airDensity, overlappingObjects);
+        super(uniqueId, name, objects, gravity, airDensity, overlappingObjects, broadPhase);
     }
 
     /**
@@ -106,6 +109,54 @@ public final class SimpleLevel extends AbstractLevel {
             return (Builder) super.airDensity(density);
         }
 
+        @Nonnull
+        @Override
+        public Builder broadPhase(@Nonnull BroadPhase broadPhase) {
+            return (Builder) super.broadPhase(broadPhase);
+        }
+
+        @Nonnull
+        @Override
+        public Builder parallelThreshold(int threshold) {
+            return (Builder) super.parallelThreshold(threshold);
+        }
+
+        @Nonnull
+        @Override
+        public Builder storageMode(@Nonnull StorageMode mode) {
+            return (Builder) super.storageMode(mode);
+        }
+
+        @Nonnull
+        @Override
+        public Builder tickBudget(@Nullable TickBudget budget) {
+            return (Builder) super.tickBudget(budget);
+        }
+
+        @Nonnull
+        @Override
+        public Builder sleepVelocity(double velocity) {
+            return (Builder) super.sleepVelocity(velocity);
+        }
+
+        @Nonnull
+        @Override
+        public Builder sleepTicks(int ticks) {
+            return (Builder) super.sleepTicks(ticks);
+        }
+
+        @Nonnull
+        @Override
+        public Builder continuousCollision(boolean enabled) {
+            return (Builder) super.continuousCollision(enabled);
+        }
+
+        @Nonnull
+        @Override
+        public Builder contactSolver(@Nonnull ContactSolver solver) {
+            return (Builder) super.contactSolver(solver);
+        }
+
         @Nonnull
         @Override
         public SimpleLevel build() throws IllegalArgumentException {
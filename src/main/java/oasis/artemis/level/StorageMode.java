@@ -0,0 +1,19 @@
+package oasis.artemis.level;
+
+/**
+ * <h2>StorageMode</h2>
+ * <p>Determines how a level keeps the physics state of its objects.</p>
+ */
+public enum StorageMode {
+    /**
+     * Every object keeps its own state. This is the default.
+     */
+    OBJECT,
+
+    /**
+     * The state of every {@link oasis.artemis.object.store.StoredObject} in the level is kept in
+     * primitive columns by an {@link oasis.artemis.object.store.ObjectStore}, and integrated in bulk.
+     * Other objects keep their own state.
+     */
+    COLUMNAR;
+}
@@ -0,0 +1,488 @@
+package oasis.artemis.level;
+
+import org.joda.time.Duration;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * <h2>TickBudget</h2>
+ * <p>
+ * Controls how much work one tick of a level may do.
+ * Deltas are capped so that a stalled scheduler cannot destabilize integration,
+ * and large deltas are split into substeps.
+ * </p>
+ * <p>
+ * Each tick is timed against a budget. After a number of consecutive ticks over budget,
+ * the level sheds one more {@link ShedLevel} of non-essential work, up to a configured maximum.
+ * After a number of consecutive ticks within budget, it sheds one level less.
+ * </p>
+ * <p>
+ * A tick budget holds the state of one level, and must not be shared between levels.
+ * </p>
+ */
+public final class TickBudget {
+    //
+    // Constants
+    //
+
+    /**
+     * The default maximum delta of one tick. Time beyond this is dropped.
+     */
+    public static final Duration DEFAULT_MAX_DELTA = new Duration(100);
+
+    /**
+     * The default maximum delta of one substep.
+     */
+    public static final Duration DEFAULT_MAX_SUBSTEP = new Duration(20);
+
+    /**
+     * The default number of consecutive ticks over budget before shedding more work.
+     */
+    public static final int DEFAULT_OVERLOAD_TICKS = 5;
+
+    /**
+     * The default number of consecutive ticks within budget before shedding less work.
+     */
+    public static final int DEFAULT_RECOVERY_TICKS = 50;
+
+    /**
+     * The default distance from a pawn beyond which an object is considered distant.
+     */
+    public static final double DEFAULT_FOCUS_RADIUS = 256;
+
+    /**
+     * The default number of steps between two updates of distant objects.
+     */
+    public static final int DEFAULT_DISTANT_INTERVAL = 4;
+
+    //
+    // Constructors
+    //
+
+    /**
+     * Gets a new builder instance.
+     *
+     * @return {@link Builder}
+     */
+    @Nonnull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a new tick budget with default settings.
+     */
+    public TickBudget() {
+        this(new Builder());
+    }
+
+    /**
+     * Builder constructor.
+     *
+     * @param builder Builder to use
+     */
+    private TickBudget(@Nonnull Builder builder) {
+        this.maxDelta = builder.maxDelta.getMillis();
+        this.maxSubstep = builder.maxSubstep.getMillis();
+        this.budgetNanos = builder.budget == null ? 0 : builder.budget.getMillis() * 1_000_000;
+        this.overloadTicks = builder.overloadTicks;
+        this.recoveryTicks = builder.recoveryTicks;
+        this.maxShedLevel = builder.maxShedLevel;
+        this.focusRadius = builder.focusRadius;
+        this.distantInterval = builder.distantInterval;
+    }
+
+    //
+    // Builder
+    //
+
+    /**
+     * Builder class for {@link TickBudget}.
+     */
+    public static final class Builder {
+        private Builder() {}
+
+        private Duration maxDelta = DEFAULT_MAX_DELTA;
+        private Duration maxSubstep = DEFAULT_MAX_SUBSTEP;
+        private Duration budget = null;
+        private int overloadTicks = DEFAULT_OVERLOAD_TICKS;
+        private int recoveryTicks = DEFAULT_RECOVERY_TICKS;
+        private ShedLevel maxShedLevel = ShedLevel.DISTANT;
+        private double focusRadius = DEFAULT_FOCUS_RADIUS;
+        private int distantInterval = DEFAULT_DISTANT_INTERVAL;
+
+        /**
+         * Sets the maximum delta of one tick.
+         *
+         * @param maxDelta Maximum delta
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder maxDelta(@Nonnull Duration maxDelta) {
+            this.maxDelta = maxDelta;
+            return this;
+        }
+
+        /**
+         * Sets the maximum delta of one substep.
+         *
+         * @param maxSubstep Maximum substep
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder maxSubstep(@Nonnull Duration maxSubstep) {
+            this.maxSubstep = maxSubstep;
+            return this;
+        }
+
+        /**
+         * Sets how long one tick may take. Defaults to the delta of the tick,
+         * meaning the level must simulate at least as fast as real time.
+         *
+         * @param budget Time budget, {@code null} to use the delta
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder budget(@Nullable Duration budget) {
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Sets the number of consecutive ticks over budget before shedding more work.
+         *
+         * @param ticks Number of ticks
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder overloadTicks(@Nonnegative int ticks) {
+            this.overloadTicks = ticks;
+            return this;
+        }
+
+        /**
+         * Sets the number of consecutive ticks within budget before shedding less work.
+         *
+         * @param ticks Number of ticks
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder recoveryTicks(@Nonnegative int ticks) {
+            this.recoveryTicks = ticks;
+            return this;
+        }
+
+        /**
+         * Sets the most work which may be shed. Use {@link ShedLevel#NONE} to never shed work.
+         *
+         * @param level Maximum shed level
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder maxShedLevel(@Nonnull ShedLevel level) {
+            this.maxShedLevel = level;
+            return this;
+        }
+
+        /**
+         * Sets the distance from a pawn beyond which an object is considered distant.
+         *
+         * @param radius Focus radius
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder focusRadius(@Nonnegative double radius) {
+            this.focusRadius = radius;
+            return this;
+        }
+
+        /**
+         * Sets the number of steps between two updates of distant objects.
+         *
+         * @param interval Distant interval
+         * @return {@code this}
+         */
+        @Nonnull
+        public Builder distantInterval(@Nonnegative int interval) {
+            this.distantInterval = interval;
+            return this;
+        }
+
+        /**
+         * Finalizes the building sequence and builds the tick budget.
+         *
+         * @return Built tick budget
+         * @throws IllegalArgumentException When a duration or count is not positive
+         */
+        @Nonnull
+        public TickBudget build() throws IllegalArgumentException {
+            if (maxDelta.getMillis() <= 0 || maxSubstep.getMillis() <= 0) {
+                throw new IllegalArgumentException("Maximum delta and substep must be positive.");
+            }
+
+            if (budget != null && budget.getMillis() <= 0) {
+                throw new IllegalArgumentException("Budget must be positive.");
+            }
+
+            if (overloadTicks <= 0 || recoveryTicks <= 0 || distantInterval <= 0) {
+                throw new IllegalArgumentException("Tick counts must be positive.");
+            }
+
+            if (!(focusRadius >= 0)) throw new IllegalArgumentException("Focus radius must not be negative.");
+
+            return new TickBudget(this);
+        }
+    }
+
+    //
+    // Variables
+    //
+
+    private final long maxDelta;
+    private final long maxSubstep;
+    private final long budgetNanos;
+    private final int overloadTicks;
+    private final int recoveryTicks;
+    @Nonnull
+    private final ShedLevel maxShedLevel;
+    private final double focusRadius;
+    private final int distantInterval;
+
+    @Nonnull
+    private volatile ShedLevel shedLevel = ShedLevel.NONE;
+    private int overBudgetStreak = 0;
+    private int withinBudgetStreak = 0;
+
+    // Statistics
+    private volatile long ticks = 0;
+    private volatile long overBudgetTicks = 0;
+    private volatile long substeps = 0;
+    private volatile long droppedMillis = 0;
+    private volatile long dragShedTicks = 0;
+    private volatile long distantShedTicks = 0;
+    private volatile long distantSkips = 0;
+
+    //
+    // Getters
+    //
+
+    /**
+     * Gets the maximum delta of one tick.
+     *
+     * @return Maximum delta
+     */
+    @Nonnull
+    public Duration getMaxDelta() {
+        return new Duration(maxDelta);
+    }
+
+    /**
+     * Gets the maximum delta of one substep.
+     *
+     * @return Maximum substep
+     */
+    @Nonnull
+    public Duration getMaxSubstep() {
+        return new Duration(maxSubstep);
+    }
+
+    /**
+     * Gets the most work which may be shed.
+     *
+     * @return Maximum shed level
+     */
+    @Nonnull
+    public ShedLevel getMaxShedLevel() {
+        return maxShedLevel;
+    }
+
+    /**
+     * Gets how much work is currently being shed.
+     *
+     * @return Current shed level
+     */
+    @Nonnull
+    public ShedLevel getShedLevel() {
+        return shedLevel;
+    }
+
+    /**
+     * Gets the distance from a pawn beyond which an object is considered distant.
+     *
+     * @return Focus radius
+     */
+    @Nonnegative
+    public double getFocusRadius() {
+        return focusRadius;
+    }
+
+    /**
+     * Gets the number of steps between two updates of distant objects.
+     *
+     * @return Distant interval
+     */
+    @Nonnegative
+    public int getDistantInterval() {
+        return distantInterval;
+    }
+
+    //
+    // Statistics
+    //
+
+    /**
+     * Gets the number of ticks timed.
+     *
+     * @return Number of ticks
+     */
+    @Nonnegative
+    public long getTickCount() {
+        return ticks;
+    }
+
+    /**
+     * Gets the number of ticks which took longer than their budget.
+     *
+     * @return Number of ticks over budget
+     */
+    @Nonnegative
+    public long getOverBudgetCount() {
+        return overBudgetTicks;
+    }
+
+    /**
+     * Gets the number of substeps simulated.
+     *
+     * @return Number of substeps
+     */
+    @Nonnegative
+    public long getSubstepCount() {
+        return substeps;
+    }
+
+    /**
+     * Gets the total simulated time dropped by capping deltas.
+     *
+     * @return Dropped time
+     */
+    @Nonnull
+    public Duration getDroppedTime() {
+        return new Duration(droppedMillis);
+    }
+
+    /**
+     * Gets the number of ticks in which fluid resistance was not applied.
+     *
+     * @return Number of ticks
+     */
+    @Nonnegative
+    public long getDragShedCount() {
+        return dragShedTicks;
+    }
+
+    /**
+     * Gets the number of ticks in which distant objects were skipped.
+     *
+     * @return Number of ticks
+     */
+    @Nonnegative
+    public long getDistantShedCount() {
+        return distantShedTicks;
+    }
+
+    /**
+     * Gets the total number of times an object was skipped for being distant.
+     *
+     * @return Number of skipped object updates
+     */
+    @Nonnegative
+    public long getDistantSkipCount() {
+        return distantSkips;
+    }
+
+    //
+    // Control
+    //
+
+    /**
+     * Caps a delta to the maximum delta, recording any time dropped.
+     *
+     * @param millis Delta in milliseconds
+     * @return Capped delta in milliseconds
+     */
+    long cap(long millis) {
+        if (millis <= maxDelta) return millis;
+
+        droppedMillis += millis - maxDelta;
+        return maxDelta;
+    }
+
+    /**
+     * Gets the number of substeps a delta is split into.
+     *
+     * @param millis Delta in milliseconds
+     * @return Number of substeps, at least one
+     */
+    int getSubsteps(long millis) {
+        final int count = (int) Math.max(1, (millis + maxSubstep - 1) / maxSubstep);
+        substeps += count;
+        return count;
+    }
+
+    /**
+     * Records that distant objects were skipped.
+     *
+     * @param count Number of objects skipped
+     */
+    void recordDistantSkips(int count) {
+        distantSkips += count;
+    }
+
+    /**
+     * Records the duration of a tick, and adjusts the shed level.
+     *
+     * @param millis  Simulated delta in milliseconds
+     * @param elapsed Time the tick took in nanoseconds
+     */
+    void record(long millis, long elapsed) {
+        final ShedLevel level = shedLevel;
+        if (level.compareTo(ShedLevel.DRAG) >= 0) dragShedTicks++;
+        if (level == ShedLevel.DISTANT) distantShedTicks++;
+
+        ticks++;
+
+        final long budget = budgetNanos > 0 ? budgetNanos : millis * 1_000_000;
+        if (elapsed > budget) {
+            overBudgetTicks++;
+            withinBudgetStreak = 0;
+
+            if (++overBudgetStreak >= overloadTicks && level.compareTo(maxShedLevel) < 0) {
+                shedLevel = ShedLevel.values()[level.ordinal() + 1];
+                overBudgetStreak = 0;
+            }
+        } else {
+            overBudgetStreak = 0;
+
+            if (++withinBudgetStreak >= recoveryTicks && level != ShedLevel.NONE) {
+                shedLevel = ShedLevel.values()[level.ordinal() - 1];
+                withinBudgetStreak = 0;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TickBudget{" +
+                "shedLevel=" + shedLevel +
+                ", ticks=" + ticks +
+                ", overBudget=" + overBudgetTicks +
+                ", substeps=" + substeps +
+                ", droppedMillis=" + droppedMillis +
+                ", dragShed=" + dragShedTicks +
+                ", distantShed=" + distantShedTicks +
+                ", distantSkips=" + distantSkips +
+                '}';
+    }
+}
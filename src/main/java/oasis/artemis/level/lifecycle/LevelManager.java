@@ -5,17 +5,66 @@ import oasis.artemis.level.Level;
 import oasis.artemis.task.TaskAdapter;
 import org.joda.time.Duration;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * <h2>LevelManager</h2>
  * <p>Handles the lifecycle of levels.</p>
  */
 public final class LevelManager {
+    //
+    // Constants
+    //
+
+    /**
+     * The default fixed timestep levels are ticked at.
+     */
+    public static final Duration DEFAULT_TICK_INTERVAL = new Duration(10);
+
+    //
+    // Constructors
+    //
+
+    /**
+     * Creates a new level manager which uses every available processor.
+     */
+    public LevelManager() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new level manager with the default tick interval.
+     *
+     * @param parallelism Number of worker threads used to tick levels
+     * @throws IllegalArgumentException When parallelism is not positive
+     */
+    public LevelManager(@Nonnegative int parallelism) throws IllegalArgumentException {
+        this(parallelism, DEFAULT_TICK_INTERVAL);
+    }
+
+    /**
+     * Creates a new level manager.
+     *
+     * @param parallelism  Number of worker threads used to tick levels
+     * @param tickInterval Fixed timestep levels are ticked at
+     * @throws IllegalArgumentException When parallelism or the tick interval is not positive
+     */
+    public LevelManager(@Nonnegative int parallelism, @Nonnull Duration tickInterval) throws IllegalArgumentException {
+        if (tickInterval.getMillis() <= 0) throw new IllegalArgumentException("Tick interval must be positive.");
+
+        this.pool = new ForkJoinPool(parallelism);
+        this.tickInterval = tickInterval;
+    }
+
     //
     // Levels
     //
@@ -80,12 +129,54 @@ public final class LevelManager {
     }
 
     @Nonnull
-    private final Set<Level> levels = new HashSet<>();
+    private final Set<Level> levels = new CopyOnWriteArraySet<>();
+
+    //
+    // Workers
+    //
+
+    /**
+     * Gets the number of worker threads used to tick levels.
+     *
+     * @return Parallelism
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Levels are ticked within this pool. Parallel stages of each level's tick
+     * share the same workers, so idle threads steal work from busy levels.
+     * This is separate from the scheduler's pool, which keeps running event lanes while a tick is in progress.
+     */
+    @Nonnull
+    private final ForkJoinPool pool;
 
     //
     // Tick
     //
 
+    /**
+     * Gets the fixed timestep levels are ticked at.
+     * Every tick is given exactly this delta, regardless of scheduling jitter.
+     *
+     * @return Tick interval
+     */
+    @Nonnull
+    public Duration getTickInterval() {
+        return tickInterval;
+    }
+
+    /**
+     * Gets how far the simulation is between the last tick and the next one.
+     * Renderers can use this to interpolate object states.
+     *
+     * @return Alpha in range {@code [0, 1)}
+     */
+    public double getInterpolationAlpha() {
+        return Artemis.getAsyncScheduler().getInterpolationAlpha(ticker);
+    }
+
     /**
      * Starts ticking levels.
      */
@@ -94,12 +185,16 @@ public final class LevelManager {
     }
 
     /**
-     * Stops ticking levels.
+     * Stops ticking levels, and shuts down the worker threads.
+     * Like the scheduler, a level manager cannot be started again once stopped.
      */
     public void stop() {
         Artemis.getAsyncScheduler().unregisterTask(ticker);
+        pool.shutdown();
     }
 
+    @Nonnull
+    private final Duration tickInterval;
     private final LevelTickTask ticker = new LevelTickTask(this);
 
     /**
@@ -113,9 +208,55 @@ public final class LevelManager {
         @Nonnull
         private final LevelManager parent;
 
+        @Nonnull
+        @Override
+        public Duration getInterval() {
+            return parent.tickInterval;
+        }
+
+        @Override
+        public boolean isFixedTimestep() {
+            return true;
+        }
+
+        /**
+         * Ticks every level concurrently, and waits for all of them to finish.
+         * The wait is managed, so the scheduler's pool can run other tasks meanwhile,
+         * such as the event lanes a level may be waiting on.
+         *
+         * @param delta The duration it took between the last execution and now
+         */
         @Override
         public void execute(@Nonnull Duration delta) {
-            parent.levels.forEach(l -> l.tick(delta));
+            final List<Level> levels = List.copyOf(parent.levels);
+            if (levels.isEmpty()) return;
+
+            final ForkJoinTask<?> tick = parent.pool.submit(() -> levels.parallelStream().forEach(l -> l.tick(delta)));
+
+            try {
+                ForkJoinPool.managedBlock(new TickBlocker(tick));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            // Rethrows any exception of the tick
+            tick.join();
+        }
+    }
+
+    /**
+     * Waits for a tick to finish, without occupying a worker of the waiting thread's pool.
+     */
+    private record TickBlocker(@Nonnull ForkJoinTask<?> tick) implements ForkJoinPool.ManagedBlocker {
+        @Override
+        public boolean block() {
+            tick.quietlyJoin();
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return tick.isDone();
         }
     }
 }
@@ -3,6 +3,7 @@ package oasis.artemis.object;
 import oasis.artemis.util.geometry.profile.GeometricProfile;
 import oasis.artemis.util.geometry.profile.SphereProfile;
 import oasis.artemis.util.geometry.solid.Solid;
+import oasis.artemis.util.geometry.solid.SolidCache;
 import oasis.artemis.util.math.Quaternion;
 import oasis.artemis.util.math.Vector;
 import org.joda.time.Duration;
@@ -195,9 +196,12 @@ public abstract class AbstractObject implements ArtemisObject {
         // Convert delta to seconds
         final double seconds = delta.getMillis() / 1000d;
 
-        // Handle location change
-        move(getAcceleration().multiply(seconds));
-        rotate(getRotationRate().scale(seconds));
+        // Handle location change, objects which are not moving or rotating keep their cached solid
+        final Vector velocity = getAcceleration();
+        if (!velocity.equals(Vector.ZERO)) move(velocity.multiply(seconds));
+
+        final Quaternion rate = getRotationRate();
+        if (rate.getW() != 1) rotate(rate.scale(seconds));
     }
 
     //
@@ -218,6 +222,31 @@ public abstract class AbstractObject implements ArtemisObject {
     @Nonnull
     private Quaternion rotationRate;
 
+    //
+    // Internal variables
+    //
+
+    /**
+     * Cache of this object's solid.
+     */
+    @Nonnull
+    private final SolidCache solidCache = new SolidCache();
+
+    /**
+     * Incremented whenever the location or rotation of this object changes.
+     */
+    private long transformVersion = 0;
+
+    /**
+     * Whether this object is sleeping.
+     */
+    private volatile boolean sleeping = false;
+
+    /**
+     * Whether continuous collision detection is enabled for this object.
+     */
+    private volatile boolean continuousCollision = false;
+
     //
     // Getters
     //
@@ -260,7 +289,7 @@ public abstract class AbstractObject implements ArtemisObject {
     @Nonnull
     @Override
     public Solid getSolid() {
-        return geometry.build(this);
+        return solidCache.get(this, geometry, getTransformVersion());
     }
 
     @Override
@@ -305,26 +334,90 @@ public abstract class AbstractObject implements ArtemisObject {
     @Override
     public void setGeometry(@Nonnull GeometricProfile geometry) {
         this.geometry = geometry;
+        invalidateSolid();
     }
 
     @Override
     public void setLocation(@Nonnull Vector location) {
         this.location = location;
+        invalidateSolid();
+        wake();
     }
 
     @Override
     public void setAcceleration(@Nonnull Vector acceleration) {
         this.acceleration = acceleration;
+        wake();
     }
 
     @Override
     public void setRotation(@Nonnull Quaternion rotation) {
         this.rotation = rotation;
+        invalidateSolid();
+        wake();
     }
 
     @Override
     public void setRotationRate(@Nonnull Quaternion rotationRate) {
         this.rotationRate = rotationRate;
+        wake();
+    }
+
+    //
+    // Sleeping
+    //
+
+    @Override
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
+    @Override
+    public void setSleeping(boolean sleeping) {
+        this.sleeping = sleeping;
+    }
+
+    /**
+     * Wakes this object up if it is sleeping.
+     * Called whenever the state of this object is changed from outside of its level's tick.
+     */
+    protected void wake() {
+        if (sleeping) setSleeping(false);
+    }
+
+    //
+    // Continuous collision
+    //
+
+    @Override
+    public boolean isContinuousCollisionEnabled() {
+        return continuousCollision;
+    }
+
+    @Override
+    public void setContinuousCollisionEnabled(boolean enabled) {
+        this.continuousCollision = enabled;
+    }
+
+    //
+    // Solid cache
+    //
+
+    /**
+     * {@inheritDoc}
+     * The cached solid is rebuilt whenever this changes.
+     */
+    @Override
+    public long getTransformVersion() {
+        return transformVersion;
+    }
+
+    /**
+     * Marks the cached solid of this object as stale.
+     * Subclasses which change location or rotation without going through the setters must call this.
+     */
+    protected void invalidateSolid() {
+        transformVersion++;
     }
 
     //
@@ -90,6 +90,13 @@ public interface ArtemisObject {
     @Nonnull
     Solid getSolid();
 
+    /**
+     * Gets the transform version of this object, which changes whenever its location, rotation or shape changes.
+     *
+     * @return Transform version
+     */
+    long getTransformVersion();
+
     /**
      * Sets the mass of this object.
      *
@@ -212,4 +219,44 @@ public interface ArtemisObject {
      * @param acceleration Acceleration to apply
      */
     void accelerate(@Nonnull Vector acceleration);
+
+    //
+    // Sleeping
+    //
+
+    /**
+     * Checks if this object is sleeping.
+     * Sleeping objects have come to rest, and are skipped by their level until they are woken up.
+     *
+     * @return {@code true} if this object is sleeping
+     */
+    boolean isSleeping();
+
+    /**
+     * Sets whether this object is sleeping.
+     * Changing the location, acceleration, rotation or rate of rotation of an object wakes it up.
+     *
+     * @param sleeping {@code true} to put this object to sleep, {@code false} to wake it up
+     */
+    void setSleeping(boolean sleeping);
+
+    //
+    // Continuous collision
+    //
+
+    /**
+     * Checks if continuous collision detection is enabled for this object.
+     * The level tests the path this object swept during a tick instead of only its final location,
+     * so that fast-moving objects cannot pass through others between two ticks.
+     *
+     * @return {@code true} if continuous collision detection is enabled
+     */
+    boolean isContinuousCollisionEnabled();
+
+    /**
+     * Sets whether continuous collision detection is enabled for this object.
+     *
+     * @param enabled {@code true} to enable continuous collision detection
+     */
+    void setContinuousCollisionEnabled(boolean enabled);
 }
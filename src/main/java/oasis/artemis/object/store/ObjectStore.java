@@ -0,0 +1,365 @@
+package oasis.artemis.object.store;
+
+import oasis.artemis.object.ArtemisObject;
+import oasis.artemis.util.math.Quaternion;
+import oasis.artemis.util.math.Vector;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * <h2>ObjectStore</h2>
+ * <p>
+ * A structure-of-arrays store of physics state.
+ * Location, acceleration, rotation and rate of rotation of every attached {@link StoredObject}
+ * are kept in primitive {@code double[]} columns, indexed by the object's slot.
+ * </p>
+ * <p>
+ * Bulk operations such as {@link ObjectStore#accelerate(double, double, double)} and
+ * {@link ObjectStore#integrate(double)} are tight loops over the columns, and do not allocate.
+ * Slots are kept dense; detaching an object moves the last object into its slot.
+ * Bulk operations skip sleeping objects.
+ * </p>
+ */
+public final class ObjectStore {
+    //
+    // Constants
+    //
+
+    /**
+     * The initial capacity of a store.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    //
+    // Constructors
+    //
+
+    /**
+     * Creates a new empty store.
+     */
+    public ObjectStore() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    //
+    // Variables
+    //
+
+    private int size = 0;
+    private StoredObject[] objects;
+
+    // Location
+    double[] locationX, locationY, locationZ;
+
+    // Acceleration
+    double[] accelerationX, accelerationY, accelerationZ;
+
+    // Rotation
+    double[] rotationW, rotationX, rotationY, rotationZ;
+
+    // Rate of rotation
+    double[] rateW, rateX, rateY, rateZ;
+
+    // Sleeping
+    boolean[] sleeping;
+
+    //
+    // Objects
+    //
+
+    /**
+     * Gets the number of objects attached to this store.
+     *
+     * @return Number of objects
+     */
+    @Nonnegative
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if given object is attached to this store.
+     *
+     * @param object Object to check
+     * @return {@code true} if the object's state is held by this store
+     */
+    public boolean contains(@Nonnull ArtemisObject object) {
+        return object instanceof StoredObject so && so.getStore() == this;
+    }
+
+    /**
+     * Attaches an object to this store, moving its state into the columns.
+     * Attaching an object which is already attached to this store does nothing.
+     *
+     * @param object Object to attach
+     * @throws IllegalStateException When the object is attached to another store
+     */
+    public synchronized void attach(@Nonnull StoredObject object) throws IllegalStateException {
+        if (object.getStore() == this) return;
+        if (object.getStore() != null) {
+            throw new IllegalStateException("Object is already attached to another store.");
+        }
+
+        if (size == objects.length) allocate(size * 2);
+
+        final int slot = size++;
+        final Vector location = object.getLocation();
+        final Vector acceleration = object.getAcceleration();
+        final Quaternion rotation = object.getRotation();
+        final Quaternion rate = object.getRotationRate();
+
+        locationX[slot] = location.getX();
+        locationY[slot] = location.getY();
+        locationZ[slot] = location.getZ();
+
+        accelerationX[slot] = acceleration.getX();
+        accelerationY[slot] = acceleration.getY();
+        accelerationZ[slot] = acceleration.getZ();
+
+        rotationW[slot] = rotation.getW();
+        rotationX[slot] = rotation.getX();
+        rotationY[slot] = rotation.getY();
+        rotationZ[slot] = rotation.getZ();
+
+        rateW[slot] = rate.getW();
+        rateX[slot] = rate.getX();
+        rateY[slot] = rate.getY();
+        rateZ[slot] = rate.getZ();
+
+        sleeping[slot] = object.isSleeping();
+
+        objects[slot] = object;
+        object.bind(this, slot);
+    }
+
+    /**
+     * Detaches an object from this store, moving its state back into the object.
+     * Detaching an object which is not attached to this store does nothing.
+     *
+     * @param object Object to detach
+     */
+    public synchronized void detach(@Nonnull StoredObject object) {
+        if (object.getStore() != this) return;
+
+        final int slot = object.getSlot();
+        object.unbind();
+
+        // Keep slots dense by moving the last object into the freed slot
+        final int last = --size;
+        if (slot != last) {
+            move(last, slot);
+            objects[slot] = objects[last];
+            objects[slot].bind(this, slot);
+        }
+
+        objects[last] = null;
+    }
+
+    //
+    // Bulk operations
+    //
+
+    /**
+     * Accelerates every object in this store.
+     *
+     * @param x X component of acceleration
+     * @param y Y component of acceleration
+     * @param z Z component of acceleration
+     */
+    public synchronized void accelerate(double x, double y, double z) {
+        final int n = size;
+        final double[] ax = accelerationX, ay = accelerationY, az = accelerationZ;
+        final boolean[] asleep = sleeping;
+
+        for (int i = 0; i < n; i++) {
+            if (asleep[i]) continue;
+
+            ax[i] += x;
+            ay[i] += y;
+            az[i] += z;
+        }
+    }
+
+    /**
+     * Moves and rotates every object in this store by its acceleration and rate of rotation.
+     * This is equivalent to calling {@link oasis.artemis.object.AbstractObject#tick(org.joda.time.Duration)}
+     * on every object, without allocating.
+     *
+     * @param seconds Delta in seconds
+     */
+    public synchronized void integrate(double seconds) {
+        final int n = size;
+
+        // Location
+        final double[] lx = locationX, ly = locationY, lz = locationZ;
+        final double[] ax = accelerationX, ay = accelerationY, az = accelerationZ;
+        final boolean[] asleep = sleeping;
+
+        for (int i = 0; i < n; i++) {
+            if (asleep[i]) continue;
+
+            lx[i] += ax[i] * seconds;
+            ly[i] += ay[i] * seconds;
+            lz[i] += az[i] * seconds;
+        }
+
+        // Rotation
+        for (int i = 0; i < n; i++) {
+            final double w = rateW[i];
+            if (w == 1 || asleep[i]) continue; // Identity rate, no rotation
+
+            // Scale the rate of rotation (see Quaternion#scale)
+            final double acos = Math.acos(w);
+            final double k = Math.sin(acos * seconds) / Math.sin(acos);
+
+            rotate(i, Math.cos(acos * seconds), rateX[i] * k, rateY[i] * k, rateZ[i] * k);
+        }
+
+        // Invalidate cached solids
+        final StoredObject[] o = objects;
+        for (int i = 0; i < n; i++) {
+            if (!asleep[i]) o[i].touch();
+        }
+    }
+
+    //
+    // Slot accessors
+    //
+
+    @Nonnull
+    Vector getLocation(int slot) {
+        return new Vector(locationX[slot], locationY[slot], locationZ[slot]);
+    }
+
+    @Nonnull
+    Vector getAcceleration(int slot) {
+        return new Vector(accelerationX[slot], accelerationY[slot], accelerationZ[slot]);
+    }
+
+    @Nonnull
+    Quaternion getRotation(int slot) {
+        return new Quaternion(rotationW[slot], rotationX[slot], rotationY[slot], rotationZ[slot]);
+    }
+
+    @Nonnull
+    Quaternion getRotationRate(int slot) {
+        return new Quaternion(rateW[slot], rateX[slot], rateY[slot], rateZ[slot]);
+    }
+
+    double getVelocity(int slot) {
+        final double x = accelerationX[slot], y = accelerationY[slot], z = accelerationZ[slot];
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    void setLocation(int slot, double x, double y, double z) {
+        locationX[slot] = x;
+        locationY[slot] = y;
+        locationZ[slot] = z;
+    }
+
+    void setAcceleration(int slot, double x, double y, double z) {
+        accelerationX[slot] = x;
+        accelerationY[slot] = y;
+        accelerationZ[slot] = z;
+    }
+
+    void setRotation(int slot, double w, double x, double y, double z) {
+        rotationW[slot] = w;
+        rotationX[slot] = x;
+        rotationY[slot] = y;
+        rotationZ[slot] = z;
+    }
+
+    void setRotationRate(int slot, double w, double x, double y, double z) {
+        rateW[slot] = w;
+        rateX[slot] = x;
+        rateY[slot] = y;
+        rateZ[slot] = z;
+    }
+
+    void setSleeping(int slot, boolean value) {
+        sleeping[slot] = value;
+    }
+
+    void move(int slot, double x, double y, double z) {
+        locationX[slot] += x;
+        locationY[slot] += y;
+        locationZ[slot] += z;
+    }
+
+    void accelerate(int slot, double x, double y, double z) {
+        accelerationX[slot] += x;
+        accelerationY[slot] += y;
+        accelerationZ[slot] += z;
+    }
+
+    /**
+     * Left-multiplies the rotation of given slot by a quaternion.
+     * This follows the same convention as {@link Quaternion#multiply(Quaternion)}.
+     */
+    void rotate(int slot, double lw, double lx, double ly, double lz) {
+        final double rw = rotationW[slot], rx = rotationX[slot], ry = rotationY[slot], rz = rotationZ[slot];
+
+        rotationW[slot] = lw * rw - (lx * rx + ly * ry + lz * rz);
+        rotationX[slot] = rx * lw + lx * rw + (ry * lz - rz * ly);
+        rotationY[slot] = ry * lw + ly * rw + (rz * lx - rx * lz);
+        rotationZ[slot] = rz * lw + lz * rw + (rx * ly - ry * lx);
+    }
+
+    //
+    // Internal methods
+    //
+
+    private void allocate(int capacity) {
+        objects = objects == null ? new StoredObject[capacity] : Arrays.copyOf(objects, capacity);
+
+        locationX = grow(locationX, capacity);
+        locationY = grow(locationY, capacity);
+        locationZ = grow(locationZ, capacity);
+
+        accelerationX = grow(accelerationX, capacity);
+        accelerationY = grow(accelerationY, capacity);
+        accelerationZ = grow(accelerationZ, capacity);
+
+        rotationW = grow(rotationW, capacity);
+        rotationX = grow(rotationX, capacity);
+        rotationY = grow(rotationY, capacity);
+        rotationZ = grow(rotationZ, capacity);
+
+        rateW = grow(rateW, capacity);
+        rateX = grow(rateX, capacity);
+        rateY = grow(rateY, capacity);
+        rateZ = grow(rateZ, capacity);
+
+        sleeping = sleeping == null ? new boolean[capacity] : Arrays.copyOf(sleeping, capacity);
+    }
+
+    @Nonnull
+    private static double[] grow(double[] column, int capacity) {
+        return column == null ? new double[capacity] : Arrays.copyOf(column, capacity);
+    }
+
+    private void move(int from, int to) {
+        locationX[to] = locationX[from];
+        locationY[to] = locationY[from];
+        locationZ[to] = locationZ[from];
+
+        accelerationX[to] = accelerationX[from];
+        accelerationY[to] = accelerationY[from];
+        accelerationZ[to] = accelerationZ[from];
+
+        rotationW[to] = rotationW[from];
+        rotationX[to] = rotationX[from];
+        rotationY[to] = rotationY[from];
+        rotationZ[to] = rotationZ[from];
+
+        rateW[to] = rateW[from];
+        rateX[to] = rateX[from];
+        rateY[to] = rateY[from];
+        rateZ[to] = rateZ[from];
+
+        sleeping[to] = sleeping[from];
+    }
+}
@@ -0,0 +1,335 @@
+package oasis.artemis.object.store;
+
+import oasis.artemis.object.AbstractObject;
+import oasis.artemis.util.geometry.profile.GeometricProfile;
+import oasis.artemis.util.math.Quaternion;
+import oasis.artemis.util.math.Vector;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.UUID;
+
+/**
+ * <h2>StoredObject</h2>
+ * <p>
+ * An object whose physics state can be held by an {@link ObjectStore}.
+ * While attached, this object is a view over its slot in the store's columns.
+ * While detached, it behaves exactly like any other {@link AbstractObject}.
+ * </p>
+ */
+public final class StoredObject extends AbstractObject {
+    //
+    // Constructors
+    //
+
+    /**
+     * Gets a new builder instance.
+     *
+     * @return {@link Builder}
+     */
+    @Nonnull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * All-args constructor.
+     *
+     * @param uniqueId     Unique identifier of this object
+     * @param mass         Mass of this object
+     * @param geometry     Geometric profile of this object
+     * @param location     Location of this object
+     * @param acceleration Acceleration of this object
+     * @param rotation     Rotation of this object
+     * @param rotationRate Rate of rotation of this object
+     */
+    public StoredObject(
+            @Nonnull UUID uniqueId,
+            @Nonnegative double mass,
+            @Nonnull GeometricProfile geometry,
+            @Nonnull Vector location,
+            @Nonnull Vector acceleration,
+            @Nonnull Quaternion rotation,
+            @Nonnull Quaternion rotationRate
+    ) {
+        super(uniqueId, mass, geometry, location, acceleration, rotation, rotationRate);
+    }
+
+    /**
+     * Builder constructor.
+     *
+     * @param builder Builder to use
+     */
+    private StoredObject(@Nonnull Builder builder) {
+        super(builder);
+    }
+
+    //
+    // Builder
+    //
+
+    /**
+     * Builder class for {@link StoredObject}.
+     */
+    public static final class Builder extends AbstractObject.Builder {
+        private Builder() {}
+
+        @Nonnull
+        @Override
+        public Builder uniqueId(@Nonnull UUID uniqueId) {
+            return (Builder) super.uniqueId(uniqueId);
+        }
+
+        @Nonnull
+        @Override
+        public Builder mass(double mass) {
+            return (Builder) super.mass(mass);
+        }
+
+        @Nonnull
+        @Override
+        public Builder geometry(@Nonnull GeometricProfile geometry) {
+            return (Builder) super.geometry(geometry);
+        }
+
+        @Nonnull
+        @Override
+        public Builder location(@Nonnull Vector location) {
+            return (Builder) super.location(location);
+        }
+
+        @Nonnull
+        @Override
+        public Builder acceleration(@Nonnull Vector acceleration) {
+            return (Builder) super.acceleration(acceleration);
+        }
+
+        @Nonnull
+        @Override
+        public Builder rotation(@Nonnull Quaternion rotation) {
+            return (Builder) super.rotation(rotation);
+        }
+
+        @Nonnull
+        @Override
+        public Builder rotationRate(@Nonnull Quaternion rate) {
+            return (Builder) super.rotationRate(rate);
+        }
+
+        @Nonnull
+        @Override
+        public StoredObject build() throws IllegalArgumentException {
+            return new StoredObject(this);
+        }
+    }
+
+    //
+    // Store
+    //
+
+    @Nullable
+    private volatile ObjectStore store = null;
+    private volatile int slot = -1;
+
+    /**
+     * Gets the store this object is attached to.
+     *
+     * @return Store if attached, {@code null} if not
+     */
+    @Nullable
+    public ObjectStore getStore() {
+        return store;
+    }
+
+    /**
+     * Gets the slot of this object in its store.
+     *
+     * @return Slot index, {@code -1} if detached
+     */
+    int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Called by the store when this object is attached, or when its slot moves.
+     */
+    void bind(@Nonnull ObjectStore store, int slot) {
+        this.store = store;
+        this.slot = slot;
+    }
+
+    /**
+     * Called by the store after it has moved or rotated this object in bulk.
+     */
+    void touch() {
+        invalidateSolid();
+    }
+
+    /**
+     * Called by the store when this object is detached. Copies the state back into this object.
+     */
+    void unbind() {
+        final ObjectStore s = store;
+        final int i = slot;
+
+        final Vector location = s.getLocation(i);
+        final Vector acceleration = s.getAcceleration(i);
+        final Quaternion rotation = s.getRotation(i);
+        final Quaternion rate = s.getRotationRate(i);
+
+        this.store = null;
+        this.slot = -1;
+
+        super.setLocation(location);
+        super.setAcceleration(acceleration);
+        super.setRotation(rotation);
+        super.setRotationRate(rate);
+    }
+
+    //
+    // Getters
+    //
+
+    @Nonnull
+    @Override
+    public Vector getLocation() {
+        final ObjectStore s = store;
+        return s == null ? super.getLocation() : s.getLocation(slot);
+    }
+
+    @Nonnull
+    @Override
+    public Vector getAcceleration() {
+        final ObjectStore s = store;
+        return s == null ? super.getAcceleration() : s.getAcceleration(slot);
+    }
+
+    @Override
+    public double getVelocity() {
+        final ObjectStore s = store;
+        return s == null ? super.getVelocity() : s.getVelocity(slot);
+    }
+
+    @Nonnull
+    @Override
+    public Quaternion getRotation() {
+        final ObjectStore s = store;
+        return s == null ? super.getRotation() : s.getRotation(slot);
+    }
+
+    @Nonnull
+    @Override
+    public Quaternion getRotationRate() {
+        final ObjectStore s = store;
+        return s == null ? super.getRotationRate() : s.getRotationRate(slot);
+    }
+
+    //
+    // Setters
+    //
+
+    @Override
+    public void setLocation(@Nonnull Vector location) {
+        final ObjectStore s = store;
+        if (s == null) {
+            super.setLocation(location);
+            return;
+        }
+
+        s.setLocation(slot, location.getX(), location.getY(), location.getZ());
+        invalidateSolid();
+        wake();
+    }
+
+    @Override
+    public void setAcceleration(@Nonnull Vector acceleration) {
+        final ObjectStore s = store;
+        if (s == null) {
+            super.setAcceleration(acceleration);
+            return;
+        }
+
+        s.setAcceleration(slot, acceleration.getX(), acceleration.getY(), acceleration.getZ());
+        wake();
+    }
+
+    @Override
+    public void setRotation(@Nonnull Quaternion rotation) {
+        final ObjectStore s = store;
+        if (s == null) {
+            super.setRotation(rotation);
+            return;
+        }
+
+        s.setRotation(slot, rotation.getW(), rotation.getX(), rotation.getY(), rotation.getZ());
+        invalidateSolid();
+        wake();
+    }
+
+    @Override
+    public void setRotationRate(@Nonnull Quaternion rotationRate) {
+        final ObjectStore s = store;
+        if (s == null) {
+            super.setRotationRate(rotationRate);
+            return;
+        }
+
+        s.setRotationRate(slot, rotationRate.getW(), rotationRate.getX(), rotationRate.getY(), rotationRate.getZ());
+        wake();
+    }
+
+    //
+    // Methods
+    //
+
+    @Override
+    public void move(@Nonnull Vector delta) {
+        final ObjectStore s = store;
+        if (s == null) {
+            super.move(delta);
+            return;
+        }
+
+        s.move(slot, delta.getX(), delta.getY(), delta.getZ());
+        invalidateSolid();
+        wake();
+    }
+
+    @Override
+    public void rotate(@Nonnull Quaternion rotation) {
+        final ObjectStore s = store;
+        if (s == null) {
+            super.rotate(rotation);
+            return;
+        }
+
+        s.rotate(slot, rotation.getW(), rotation.getX(), rotation.getY(), rotation.getZ());
+        invalidateSolid();
+        wake();
+    }
+
+    @Override
+    public void accelerate(@Nonnull Vector acceleration) {
+        final ObjectStore s = store;
+        if (s == null) {
+            super.accelerate(acceleration);
+            return;
+        }
+
+        s.accelerate(slot, acceleration.getX(), acceleration.getY(), acceleration.getZ());
+        wake();
+    }
+
+    //
+    // Sleeping
+    //
+
+    @Override
+    public void setSleeping(boolean sleeping) {
+        super.setSleeping(sleeping);
+
+        final ObjectStore s = store;
+        if (s != null) s.setSleeping(slot, sleeping);
+    }
+}
@@ -0,0 +1,24 @@
+package oasis.artemis.task;
+
+import javax.annotation.Nonnegative;
+
+/**
+ * <h2>BlockingTask</h2>
+ * <p>
+ * A blocking task spends most of its time waiting, for example on disk or network I/O.
+ * Schedulers execute blocking tasks on virtual threads, so they never hold up other tasks.
+ * </p>
+ * <p>
+ * Executions of a blocking task may overlap, up to {@link BlockingTask#getMaxConcurrency()} at a time.
+ * When that many executions are still running, further runs are skipped until one completes.
+ * </p>
+ */
+public interface BlockingTask extends Task {
+    /**
+     * Gets the maximum number of executions of this task which may run at the same time.
+     *
+     * @return Maximum concurrency
+     */
+    @Nonnegative
+    int getMaxConcurrency();
+}
@@ -3,6 +3,7 @@ package oasis.artemis.task;
 import oasis.artemis.task.lifecycle.Scheduler;
 import org.joda.time.Duration;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 
 /**
@@ -29,16 +30,34 @@ public interface Task {
     @Nonnull
     Duration getInterval();
 
+    /**
+     * Checks if this task runs on a fixed timestep.
+     * A fixed-timestep task is always given its interval as delta. When the scheduler falls behind,
+     * it is executed repeatedly to catch up, up to {@link Task#getMaxCatchUpSteps()} times in a row.
+     *
+     * @return {@code true} if this task runs on a fixed timestep, {@code false} by default
+     */
+    default boolean isFixedTimestep() {
+        return false;
+    }
+
+    /**
+     * Gets the maximum number of steps a fixed-timestep task is executed in a row to catch up.
+     * Time beyond this is dropped, so that an overloaded scheduler does not spiral.
+     *
+     * @return Maximum number of catch-up steps, {@code 5} by default
+     */
+    @Nonnegative
+    default int getMaxCatchUpSteps() {
+        return 5;
+    }
+
     //
     // Events
     //
 
     /**
      * Called upon registration to a scheduler.
-     * <i>
-     * Note that {@code scheduler} will always be a synchronous scheduler,
-     * as asynchronous schedulers are implemented by using multiple synchronous schedulers.
-     * </i>
      *
      * @param scheduler Scheduler this task was registered to
      */
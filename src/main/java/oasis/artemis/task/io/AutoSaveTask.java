@@ -1,6 +1,7 @@
 package oasis.artemis.task.io;
 
 import oasis.artemis.Artemis;
+import oasis.artemis.task.BlockingTask;
 import oasis.artemis.task.TaskAdapter;
 import org.joda.time.Duration;
 
@@ -10,7 +11,7 @@ import javax.annotation.Nonnull;
  * <h2>AutoSaveTask</h2>
  * <p>Handles auto-saving.</p>
  */
-public final class AutoSaveTask extends TaskAdapter {
+public final class AutoSaveTask extends TaskAdapter implements BlockingTask {
     @Override
     public void execute(@Nonnull Duration delta) {
         Artemis.save();
@@ -21,4 +22,9 @@ public final class AutoSaveTask extends TaskAdapter {
     public Duration getInterval() {
         return Duration.standardMinutes(5);
     }
+
+    @Override
+    public int getMaxConcurrency() {
+        return 1; // Saves must not overlap
+    }
 }
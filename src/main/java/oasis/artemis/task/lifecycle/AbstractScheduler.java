@@ -2,27 +2,54 @@ package oasis.artemis.task.lifecycle;
 
 import oasis.artemis.task.Task;
 
+import org.joda.time.Duration;
+
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
+import javax.annotation.Nullable;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * <h2>AbstractScheduler</h2>
  * <p>Handles the registration/unregistration of tasks only.</p>
+ * <p>
+ * Registrations and unregistrations can be made from any thread. They are queued in order,
+ * and applied by the scheduler thread between two runs of tasks.
+ * </p>
  */
 public abstract class AbstractScheduler implements Scheduler {
+    /**
+     * The default execution time above which a warning is reported to {@link oasis.artemis.util.logging.EngineLog}.
+     */
+    public static final Duration DEFAULT_SLOW_TASK_THRESHOLD = new Duration(50);
+
+    /**
+     * Pending registrations and unregistrations, in the order they were made.
+     */
     @Nonnull
-    protected final List<Task> tasks = new ArrayList<>();
-    @Nonnull
-    protected final List<Task> addCache = new ArrayList<>();
+    final Queue<Registration> registrations = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Timing state of each task, maintained by the scheduler thread.
+     */
     @Nonnull
-    protected final List<Task> removeCache = new ArrayList<>();
+    final Map<Task, TaskState> states = new ConcurrentHashMap<>();
+
+    /**
+     * Slow task threshold in nanoseconds, {@code 0} if disabled.
+     */
+    volatile long slowTaskThresholdNanos = DEFAULT_SLOW_TASK_THRESHOLD.getMillis() * 1_000_000;
 
     @Override
     public void registerTask(@Nonnull Task task) {
-        addCache.add(task);
+        registrations.add(new Registration(task, true));
         task.onRegistered(this);
+        wakeUp();
     }
 
     @Override
@@ -37,12 +64,9 @@ public abstract class AbstractScheduler implements Scheduler {
 
     @Override
     public void unregisterTask(@Nonnull Task task) {
-        if (!addCache.remove(task)) {
-            removeCache.add(task);
-        }
-
+        registrations.add(new Registration(task, false));
         task.onUnregistered(this);
-
+        wakeUp();
     }
 
     @Override
@@ -54,4 +78,51 @@ public abstract class AbstractScheduler implements Scheduler {
     public void unregisterTasks(@Nonnull List<Task> tasks) {
         tasks.forEach(this::unregisterTasks);
     }
+
+    /**
+     * Called after a task was registered or unregistered, so that a parked scheduler thread
+     * can pick up the change without waiting for its next due task.
+     */
+    protected void wakeUp() {}
+
+    @Override
+    public double getInterpolationAlpha(@Nonnull Task task) {
+        final TaskState state = states.get(task);
+        return state == null ? 0 : state.alpha;
+    }
+
+    @Nullable
+    @Override
+    public TaskMetrics getMetrics(@Nonnull Task task) {
+        final TaskState state = states.get(task);
+        return state == null ? null : state.metrics;
+    }
+
+    @Nonnull
+    @Override
+    public Map<Task, TaskMetrics> getMetrics() {
+        final Map<Task, TaskMetrics> metrics = new LinkedHashMap<>();
+        states.forEach((t, s) -> metrics.put(t, s.metrics));
+        return metrics;
+    }
+
+    @Nonnull
+    @Override
+    public Duration getSlowTaskThreshold() {
+        return new Duration(slowTaskThresholdNanos / 1_000_000);
+    }
+
+    @Override
+    public void setSlowTaskThreshold(@Nonnull Duration threshold) throws IllegalArgumentException {
+        if (threshold.getMillis() < 0) throw new IllegalArgumentException("Threshold must not be negative.");
+        this.slowTaskThresholdNanos = threshold.getMillis() * 1_000_000;
+    }
+
+    /**
+     * A pending change to the set of registered tasks.
+     *
+     * @param task     Task to (un)register
+     * @param register {@code true} to register, {@code false} to unregister
+     */
+    record Registration(@Nonnull Task task, boolean register) {}
 }
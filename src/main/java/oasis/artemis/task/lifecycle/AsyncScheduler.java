@@ -1,11 +1,9 @@
 package oasis.artemis.task.lifecycle;
 
-import oasis.artemis.task.Task;
-import oasis.artemis.util.iteration.Counter;
-
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
-import java.util.Arrays;
-import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * <h2>AsyncScheduler</h2>
@@ -13,62 +11,78 @@ import java.util.List;
  * An asynchronous scheduler.
  * Tasks are not guaranteed to be executed in sequence.
  * </p>
+ * <p>
+ * A single thread keeps time, and dispatches due tasks to a work-stealing pool.
+ * Tasks are not pinned to a worker, so one heavy task cannot starve the tasks it would otherwise share a thread with.
+ * A task is never executed concurrently with itself.
+ * </p>
  */
-public final class AsyncScheduler implements Scheduler {
+public final class AsyncScheduler extends AbstractScheduler {
+    //
+    // Constructors
+    //
+
     /**
-     * An asynchronous scheduler is essentially a container of multiple synchronous schedulers.
+     * Creates a new asynchronous scheduler which uses every available processor.
      */
-    @Nonnull
-    private final SyncScheduler[] schedulers = {
-            new SyncScheduler(),
-            new SyncScheduler(),
-            new SyncScheduler(),
-            new SyncScheduler()
-    };
+    public AsyncScheduler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
 
     /**
-     * A counter to manager task distribution.
+     * Creates a new asynchronous scheduler.
+     *
+     * @param parallelism Number of worker threads
+     * @throws IllegalArgumentException When parallelism is not positive
      */
-    @Nonnull
-    private final Counter counter = new Counter(schedulers.length);
-
-    @Override
-    public void start() {
-        Arrays.stream(schedulers).forEach(SyncScheduler::start);
+    public AsyncScheduler(@Nonnegative int parallelism) throws IllegalArgumentException {
+        // Tasks are never joined, so workers process their local queues in FIFO order
+        // A task which waits on another pool must do so through ForkJoinPool#managedBlock,
+        // so that the pool compensates with another worker instead of stalling the tasks it waits on
+        this.pool = new ForkJoinPool(parallelism, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        this.thread = new SchedulerThread(this, pool);
     }
 
-    @Override
-    public void stop() {
-        Arrays.stream(schedulers).forEach(SyncScheduler::stop);
-    }
+    //
+    // Variables
+    //
 
-    @Override
-    public void registerTask(@Nonnull Task task) {
-        schedulers[counter.get()].registerTask(task);
-    }
+    @Nonnull
+    private final ForkJoinPool pool;
+    @Nonnull
+    private final SchedulerThread thread;
 
-    @Override
-    public void registerTasks(@Nonnull Task... tasks) {
-        Arrays.stream(tasks).forEach(this::registerTask);
-    }
+    //
+    // Getters
+    //
 
-    @Override
-    public void registerTasks(@Nonnull List<Task> tasks) {
-        tasks.forEach(this::registerTask);
+    /**
+     * Gets the number of worker threads.
+     *
+     * @return Parallelism
+     */
+    @Nonnegative
+    public int getParallelism() {
+        return pool.getParallelism();
     }
 
+    //
+    // Controls
+    //
+
     @Override
-    public void unregisterTask(@Nonnull Task task) {
-        Arrays.stream(schedulers).forEach(s -> s.unregisterTask(task));
+    public void start() {
+        thread.start();
     }
 
     @Override
-    public void unregisterTasks(@Nonnull Task... tasks) {
-        Arrays.stream(tasks).forEach(this::unregisterTask);
+    public void stop() {
+        thread.interrupt();
+        pool.shutdown();
     }
 
     @Override
-    public void unregisterTasks(@Nonnull List<Task> tasks) {
-        tasks.forEach(this::unregisterTask);
+    protected void wakeUp() {
+        LockSupport.unpark(thread);
     }
 }
@@ -2,8 +2,12 @@ package oasis.artemis.task.lifecycle;
 
 import oasis.artemis.task.Task;
 
+import org.joda.time.Duration;
+
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <h2>Scheduler</h2>
@@ -56,6 +60,57 @@ public interface Scheduler {
      */
     void unregisterTasks(@Nonnull List<Task> tasks);
 
+    //
+    // Timing
+    //
+
+    /**
+     * Gets how far a fixed-timestep task is between its last step and its next step.
+     * Renderers can use this to interpolate between the last two simulated states.
+     *
+     * @param task Task to get the interpolation alpha of
+     * @return Alpha in range {@code [0, 1)}, {@code 0} if the task is not registered or not fixed-timestep
+     */
+    double getInterpolationAlpha(@Nonnull Task task);
+
+    //
+    // Metrics
+    //
+
+    /**
+     * Gets the execution statistics of a task.
+     *
+     * @param task Task to get the statistics of
+     * @return Metrics of the task, {@code null} if it is not registered
+     */
+    @Nullable
+    TaskMetrics getMetrics(@Nonnull Task task);
+
+    /**
+     * Gets the execution statistics of every registered task.
+     *
+     * @return Map of tasks to their metrics
+     */
+    @Nonnull
+    Map<Task, TaskMetrics> getMetrics();
+
+    /**
+     * Gets the execution time above which a warning is reported to {@link oasis.artemis.util.logging.EngineLog}.
+     *
+     * @return Slow task threshold, {@link Duration#ZERO} if disabled
+     */
+    @Nonnull
+    Duration getSlowTaskThreshold();
+
+    /**
+     * Sets the execution time above which a warning is reported to {@link oasis.artemis.util.logging.EngineLog}.
+     * Each task is warned about at most once every ten seconds.
+     *
+     * @param threshold Slow task threshold, {@link Duration#ZERO} to disable
+     * @throws IllegalArgumentException When the threshold is negative
+     */
+    void setSlowTaskThreshold(@Nonnull Duration threshold) throws IllegalArgumentException;
+
     //
     // Controls
     //
@@ -1,81 +1,124 @@
 package oasis.artemis.task.lifecycle;
 
 import oasis.artemis.task.Task;
-import org.joda.time.DateTime;
-import org.joda.time.Duration;
+import oasis.artemis.util.logging.EngineLog;
 
-import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
-import java.util.ConcurrentModificationException;
-import java.util.HashMap;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * <h2>SchedulerThread</h2>
  * <p>Used by a parent scheduler, a scheduler thread handles the execution of tasks.</p>
+ * <p>
+ * Tasks are kept in a queue ordered by when they are next due. The thread only ever looks at the head
+ * of the queue, and parks until it is due, so its cost is proportional to the work actually due,
+ * not to the number of registered tasks. Registering a task wakes the thread up.
+ * </p>
+ * <p>
+ * When given an executor, the thread only dispatches due tasks to it. Each task has at most one
+ * execution in flight, and is queued again once its execution completes. When several tasks are due
+ * at once, the most expensive ones are dispatched first.
+ * </p>
  */
 public final class SchedulerThread extends Thread {
-    @SuppressWarnings("BusyWait")
-    public SchedulerThread(@Nonnull AbstractScheduler scheduler, @Nonnegative long accuracy) {
-        super(() -> {
-            final List<Task> tasks = scheduler.tasks;
-            final List<Task> addCache = scheduler.addCache;
-            final List<Task> removeCache = scheduler.removeCache;
+    /**
+     * Creates a new scheduler thread which executes tasks itself.
+     *
+     * @param scheduler Parent scheduler
+     */
+    public SchedulerThread(@Nonnull AbstractScheduler scheduler) {
+        this(scheduler, null);
+    }
 
-            final Map<Task, DateTime> executionTimes = new HashMap<>();
+    /**
+     * Creates a new scheduler thread.
+     *
+     * @param scheduler Parent scheduler
+     * @param executor  Executor to dispatch tasks to, {@code null} to execute them on this thread
+     */
+    public SchedulerThread(@Nonnull AbstractScheduler scheduler, @Nullable Executor executor) {
+        super(() -> {
+            final Thread dispatcher = Thread.currentThread();
+            final Queue<AbstractScheduler.Registration> registrations = scheduler.registrations;
+            final Map<Task, TaskState> states = scheduler.states;
+            final PriorityQueue<TaskState> queue = new PriorityQueue<>(Comparator.comparingLong(s -> s.nextRun));
+            final Queue<TaskState> completed = new ConcurrentLinkedQueue<>();
+            final List<TaskState> due = new ArrayList<>();
 
             while (true) {
-                try {
-                    if (!addCache.isEmpty()) {
-                        tasks.addAll(addCache);
-                        addCache.clear();
-                    }
-                } catch (ConcurrentModificationException e) {
-                    // Move on
+                // Queue tasks whose execution has completed, unless they were unregistered meanwhile
+                TaskState done;
+                while ((done = completed.poll()) != null) {
+                    if (states.get(done.task) == done) queue.add(done);
                 }
 
-                try {
-                    if (!removeCache.isEmpty()) {
-                        tasks.removeAll(removeCache);
-                        removeCache.forEach(executionTimes::remove); // Remove execution time cache
-                        removeCache.clear();
-                    }
-                } catch (ConcurrentModificationException e) {
-                    // Move on
-                }
+                // Apply (un)registrations in the order they were made
+                AbstractScheduler.Registration r;
+                while ((r = registrations.poll()) != null) {
+                    final Task task = r.task();
 
-                try {
-                    tasks.forEach(t -> {
-                        final DateTime now = DateTime.now(); // Cache time for consistency
-                        final DateTime lastExecution;
-                        if (executionTimes.containsKey(t)) {
-                            lastExecution = executionTimes.get(t);
-                        } else {
-                            executionTimes.put(t, now);
-                            lastExecution = now;
-                        }
+                    if (r.register()) {
+                        if (states.containsKey(task)) continue; // Already registered
 
-                        final Duration delta = new Duration(lastExecution, now);
+                        final TaskState state = new TaskState(scheduler, task, System.nanoTime());
+                        states.put(task, state);
+                        queue.add(state);
+                    } else {
+                        final TaskState state = states.remove(task);
+                        if (state != null) queue.remove(state);
+                    }
+                }
 
-                        // Respect intervals
-                        if (delta.isShorterThan(t.getInterval())) return;
+                // Run every task which is due
+                long now = System.nanoTime();
+                if (executor == null) {
+                    while (!queue.isEmpty() && queue.peek().nextRun - now <= 0) {
+                        final TaskState state = queue.poll();
+                        state.run(now);
+                        queue.add(state);
 
-                        // Call task
-                        t.execute(delta);
+                        now = System.nanoTime();
+                    }
+                } else {
+                    while (!queue.isEmpty() && queue.peek().nextRun - now <= 0) {
+                        due.add(queue.poll());
+                    }
 
-                        // Keep time
-                        executionTimes.put(t, now);
-                    });
-                } catch (ConcurrentModificationException e) {
-                    // Move on
+                    // Start the longest executions first
+                    due.sort(Comparator.comparingDouble((TaskState s) -> s.averageCost).reversed());
+                    due.forEach(state -> executor.execute(() -> {
+                        try {
+                            state.run(System.nanoTime());
+                        } catch (Throwable t) {
+                            EngineLog.error("Task " + TaskMetrics.getName(state.task) + " threw an exception.", t);
+                        } finally {
+                            completed.add(state);
+                            LockSupport.unpark(dispatcher);
+                        }
+                    }));
+                    due.clear();
                 }
 
-                try {
-                    Thread.sleep(accuracy);
-                } catch (InterruptedException e) {
-                    return;
+                // Sleep until the next task is due, or a task is registered
+                final TaskState next = queue.peek();
+                if (!completed.isEmpty()) {
+                    continue;
+                } else if (next == null) {
+                    LockSupport.park(scheduler);
+                } else {
+                    LockSupport.parkNanos(scheduler, next.nextRun - now);
                 }
+
+                if (Thread.interrupted()) return;
             }
         });
     }
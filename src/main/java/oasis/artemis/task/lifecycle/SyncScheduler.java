@@ -1,6 +1,7 @@
 package oasis.artemis.task.lifecycle;
 
 import javax.annotation.Nonnull;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * <h2>SyncScheduler</h2>
@@ -11,10 +12,10 @@ import javax.annotation.Nonnull;
  */
 public final class SyncScheduler extends AbstractScheduler {
     /**
-     * Scheduler thread. Default accuracy is 1ms.
+     * Scheduler thread.
      */
     @Nonnull
-    private final SchedulerThread thread = new SchedulerThread(this, 1);
+    private final SchedulerThread thread = new SchedulerThread(this);
 
     @Override
     public void start() {
@@ -25,4 +26,9 @@ public final class SyncScheduler extends AbstractScheduler {
     public void stop() {
         thread.interrupt();
     }
+
+    @Override
+    protected void wakeUp() {
+        LockSupport.unpark(thread);
+    }
 }
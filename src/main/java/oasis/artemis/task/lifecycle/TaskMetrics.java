@@ -0,0 +1,231 @@
+package oasis.artemis.task.lifecycle;
+
+import oasis.artemis.task.Task;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h2>TaskMetrics</h2>
+ * <p>
+ * Execution statistics of one task within a scheduler.
+ * All times are in nanoseconds. Statistics are updated while the task runs, and can be read from any thread.
+ * </p>
+ * <p>
+ * Execution times are also recorded in a histogram of power-of-two buckets,
+ * where bucket {@code i} counts executions which took between {@code 2^i} and {@code 2^(i+1)} nanoseconds.
+ * </p>
+ */
+public final class TaskMetrics {
+    //
+    // Constants
+    //
+
+    /**
+     * The number of histogram buckets.
+     */
+    public static final int BUCKETS = 64;
+
+    //
+    // Variables
+    //
+
+    @Nonnull
+    private final LongAdder invocations = new LongAdder();
+    @Nonnull
+    private final LongAdder overruns = new LongAdder();
+    @Nonnull
+    private final LongAdder skipped = new LongAdder();
+    @Nonnull
+    private final LongAdder totalExecution = new LongAdder();
+    @Nonnull
+    private final AtomicLong maxExecution = new AtomicLong();
+    @Nonnull
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+    @Nonnull
+    private final LongAdder runs = new LongAdder();
+    @Nonnull
+    private final LongAdder totalLateness = new LongAdder();
+    @Nonnull
+    private final AtomicLong maxLateness = new AtomicLong();
+
+    //
+    // Execution
+    //
+
+    /**
+     * Gets the number of times the task was executed.
+     *
+     * @return Invocation count
+     */
+    @Nonnegative
+    public long getInvocationCount() {
+        return invocations.sum();
+    }
+
+    /**
+     * Gets the number of executions which took longer than the task's interval.
+     *
+     * @return Overrun count
+     */
+    @Nonnegative
+    public long getOverrunCount() {
+        return overruns.sum();
+    }
+
+    /**
+     * Gets the number of executions of a blocking task which were skipped,
+     * because the task was already running at its maximum concurrency.
+     *
+     * @return Skipped count
+     */
+    @Nonnegative
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+
+    /**
+     * Gets the total time spent executing the task.
+     *
+     * @return Total execution time in nanoseconds
+     */
+    @Nonnegative
+    public long getTotalExecutionNanos() {
+        return totalExecution.sum();
+    }
+
+    /**
+     * Gets the mean time one execution took.
+     *
+     * @return Mean execution time in nanoseconds, {@code 0} if never executed
+     */
+    @Nonnegative
+    public double getMeanExecutionNanos() {
+        final long count = invocations.sum();
+        return count == 0 ? 0 : (double) totalExecution.sum() / count;
+    }
+
+    /**
+     * Gets the longest time one execution took.
+     *
+     * @return Maximum execution time in nanoseconds
+     */
+    @Nonnegative
+    public long getMaxExecutionNanos() {
+        return maxExecution.get();
+    }
+
+    /**
+     * Gets an upper bound of the execution time below which given fraction of executions fall.
+     * The result is the upper bound of a histogram bucket, so it is accurate to within a factor of two.
+     *
+     * @param percentile Percentile in range {@code [0, 1]}
+     * @return Execution time in nanoseconds, {@code 0} if never executed
+     * @throws IllegalArgumentException When the percentile is out of range
+     */
+    @Nonnegative
+    public long getExecutionPercentileNanos(double percentile) throws IllegalArgumentException {
+        if (!(percentile >= 0 && percentile <= 1)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 1.");
+        }
+
+        final long[] buckets = getHistogram();
+        long total = 0;
+        for (long b : buckets) total += b;
+        if (total == 0) return 0;
+
+        final long target = (long) Math.ceil(percentile * total);
+        long seen = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= target && buckets[i] > 0) return i >= 62 ? Long.MAX_VALUE : 1L << (i + 1);
+        }
+
+        return maxExecution.get();
+    }
+
+    /**
+     * Gets a copy of the execution time histogram.
+     *
+     * @return Count of executions per power-of-two bucket
+     */
+    @Nonnull
+    public long[] getHistogram() {
+        final long[] buckets = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = histogram.get(i);
+        }
+
+        return buckets;
+    }
+
+    //
+    // Lateness
+    //
+
+    /**
+     * Gets the mean time the task started after it was due.
+     *
+     * @return Mean lateness in nanoseconds, {@code 0} if never run
+     */
+    @Nonnegative
+    public double getMeanLatenessNanos() {
+        final long count = runs.sum();
+        return count == 0 ? 0 : (double) totalLateness.sum() / count;
+    }
+
+    /**
+     * Gets the longest time the task started after it was due.
+     *
+     * @return Maximum lateness in nanoseconds
+     */
+    @Nonnegative
+    public long getMaxLatenessNanos() {
+        return maxLateness.get();
+    }
+
+    //
+    // Utilities
+    //
+
+    /**
+     * Gets a readable name of a task, for use in reports.
+     *
+     * @param task Task to get the name of
+     * @return Simple class name, or full class name for anonymous tasks
+     */
+    @Nonnull
+    public static String getName(@Nonnull Task task) {
+        final String name = task.getClass().getSimpleName();
+        return name.isEmpty() ? task.getClass().getName() : name;
+    }
+
+    //
+    // Recording
+    //
+
+    void recordExecution(long nanos, long interval) {
+        invocations.increment();
+        totalExecution.add(nanos);
+        maxExecution.accumulateAndGet(nanos, Math::max);
+        histogram.incrementAndGet(nanos <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(nanos));
+
+        if (nanos > interval) overruns.increment();
+    }
+
+    void recordLateness(long nanos) {
+        final long lateness = Math.max(0, nanos);
+
+        runs.increment();
+        totalLateness.add(lateness);
+        maxLateness.accumulateAndGet(lateness, Math::max);
+    }
+
+    void recordSkipped() {
+        skipped.increment();
+    }
+}
@@ -0,0 +1,208 @@
+package oasis.artemis.task.lifecycle;
+
+import oasis.artemis.task.BlockingTask;
+import oasis.artemis.task.Task;
+import oasis.artemis.util.logging.EngineLog;
+import org.joda.time.Duration;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * <h2>TaskState</h2>
+ * <p>
+ * Timing state of one task within a scheduler.
+ * All times are in nanoseconds, as returned by {@link System#nanoTime()}.
+ * </p>
+ */
+final class TaskState {
+    /**
+     * Weight of the latest execution in the moving average of cost.
+     */
+    private static final double COST_SMOOTHING = 0.2;
+
+    /**
+     * Minimum time between two slow task warnings of the same task.
+     */
+    static final long SLOW_WARNING_INTERVAL_NANOS = 10_000_000_000L;
+
+    /**
+     * Blocking tasks are executed on a new virtual thread each time.
+     */
+    private static final Executor BLOCKING_EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("artemis-blocking-", 0).factory()
+    );
+
+    TaskState(@Nonnull AbstractScheduler scheduler, @Nonnull Task task, long now) {
+        this.scheduler = scheduler;
+        this.task = task;
+        this.lastExecution = now;
+        this.nextRun = now;
+        this.permits = task instanceof BlockingTask b ? new Semaphore(Math.max(1, b.getMaxConcurrency())) : null;
+    }
+
+    @Nonnull
+    private final AbstractScheduler scheduler;
+    @Nonnull
+    final Task task;
+    @Nonnull
+    final TaskMetrics metrics = new TaskMetrics();
+
+    /**
+     * Executions a blocking task may still start, {@code null} if the task is not blocking.
+     */
+    @Nullable
+    private final Semaphore permits;
+
+    /**
+     * Time of the last execution. For variable-timestep tasks, this only advances by whole milliseconds,
+     * so that truncated time is carried over to the next delta instead of being lost.
+     */
+    long lastExecution;
+
+    /**
+     * Simulated time owed to a fixed-timestep task.
+     */
+    long accumulator = 0;
+
+    /**
+     * Fraction of a step left in the accumulator after the last run.
+     */
+    volatile double alpha = 0;
+
+    /**
+     * Time at which this task is next due.
+     */
+    long nextRun;
+
+    /**
+     * Exponentially weighted moving average of how long one execution takes.
+     */
+    volatile double averageCost = 0;
+
+    /**
+     * Time of the last slow task warning, valid once one has been reported.
+     */
+    private long lastSlowWarning;
+    private boolean slowWarned = false;
+
+    /**
+     * Slow executions since the last warning which were not reported.
+     */
+    private int suppressedSlowWarnings = 0;
+
+    /**
+     * Executes the task if it is due.
+     *
+     * @param now Current time
+     */
+    void run(long now) {
+        final long interval = task.getInterval().getMillis() * 1_000_000;
+
+        if (!task.isFixedTimestep()) {
+            final long millis = (now - lastExecution) / 1_000_000;
+            if (millis * 1_000_000 < interval) {
+                nextRun = lastExecution + interval; // Respect intervals
+                return;
+            }
+
+            metrics.recordLateness(now - nextRun);
+            execute(new Duration(millis), interval);
+            lastExecution += millis * 1_000_000;
+            nextRun = lastExecution + interval;
+            return;
+        }
+
+        // A zero step would never drain the accumulator
+        final long step = Math.max(interval, 1_000_000);
+        final Duration delta = new Duration(step / 1_000_000);
+
+        accumulator += now - lastExecution;
+        lastExecution = now;
+
+        if (accumulator >= step) metrics.recordLateness(now - nextRun);
+
+        final int maxSteps = task.getMaxCatchUpSteps();
+        for (int i = 0; i < maxSteps && accumulator >= step; i++) {
+            execute(delta, step);
+            accumulator -= step;
+        }
+
+        // Drop time which could not be caught up
+        if (accumulator >= step) accumulator %= step;
+
+        alpha = (double) accumulator / step;
+        nextRun = lastExecution + step - accumulator;
+    }
+
+    /**
+     * Executes the task, and measures how long it took.
+     * Blocking tasks are handed off to a virtual thread, if they have a permit left.
+     */
+    private void execute(@Nonnull Duration delta, long interval) {
+        if (permits == null) {
+            measure(delta, interval);
+            return;
+        }
+
+        // Too many executions still running
+        if (!permits.tryAcquire()) {
+            metrics.recordSkipped();
+            return;
+        }
+
+        BLOCKING_EXECUTOR.execute(() -> {
+            try {
+                measure(delta, interval);
+            } catch (Throwable t) {
+                EngineLog.error("Task " + TaskMetrics.getName(task) + " threw an exception.", t);
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    private void measure(@Nonnull Duration delta, long interval) {
+        final long start = System.nanoTime();
+
+        try {
+            task.execute(delta);
+        } finally {
+            final long cost = System.nanoTime() - start;
+            averageCost = averageCost == 0 ? cost : averageCost + (cost - averageCost) * COST_SMOOTHING;
+            metrics.recordExecution(cost, interval);
+
+            final long threshold = scheduler.slowTaskThresholdNanos;
+            if (threshold > 0 && cost > threshold) warnSlow(cost, threshold, start + cost);
+        }
+    }
+
+    /**
+     * Warns that an execution was slow, at most once per {@link #SLOW_WARNING_INTERVAL_NANOS}.
+     * Later slow executions within the interval are counted, and mentioned in the next warning.
+     */
+    private void warnSlow(long cost, long threshold, long now) {
+        final int suppressed;
+
+        synchronized (this) {
+            if (slowWarned && now - lastSlowWarning < SLOW_WARNING_INTERVAL_NANOS) {
+                suppressedSlowWarnings++;
+                return;
+            }
+
+            slowWarned = true;
+            lastSlowWarning = now;
+            suppressed = suppressedSlowWarnings;
+            suppressedSlowWarnings = 0;
+        }
+
+        EngineLog.warn(String.format(
+                "Task %s took %.3fms, exceeding the slow task threshold of %dms.%s",
+                TaskMetrics.getName(task), cost / 1e6, threshold / 1_000_000,
+                suppressed > 0 ? " " + suppressed + " more slow executions were not reported." : ""
+        ));
+    }
+}
@@ -3,11 +3,14 @@ package oasis.artemis.ui.component.viewport;
 import oasis.artemis.level.Level;
 import oasis.artemis.object.ArtemisObject;
 import oasis.artemis.ui.component.UIComponent;
+import oasis.artemis.util.geometry.BoundingSphere;
 import oasis.artemis.util.geometry.Vertex;
 import oasis.artemis.util.geometry.solid.Solid;
 import oasis.artemis.util.group.Pair;
+import oasis.artemis.util.math.Matrix4;
 import oasis.artemis.util.math.Quaternion;
 import oasis.artemis.util.math.Vector;
+import oasis.artemis.util.math.VectorBatch;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -20,6 +23,15 @@ import java.util.List;
  * <p>A viewport renders a level to a 2D screen.</p>
  */
 public class Viewport extends UIComponent {
+    //
+    // Constants
+    //
+
+    /**
+     * The distance from the eye to the projection plane, in view space.
+     */
+    protected static final int FOV = 500;
+
     /**
      * Default constructor.
      */
@@ -51,16 +63,46 @@ public class Viewport extends UIComponent {
         final Quaternion angle = context.angle();
         final List<ArtemisObject> blacklist = context.renderBlacklist();
 
+        final Matrix4 view = getViewMatrix(origin, angle);
+        final double scale = view.transformDirection(Vector.POSITIVE_X).getMagnitude();
+
         final List<ArtemisObject> render = level.getObjects().stream().filter(o -> !blacklist.contains(o)).toList();
+        final List<Vertex> source = new ArrayList<>();
         render.forEach(o -> {
             final Solid solid = o.getSolid();
-            solid.getVertices().forEach(v -> vertices.add(v.transform(origin, angle).inflate(50)));
+
+            // Only build the vertices of solids which can be seen
+            final BoundingSphere bounds = solid.getBoundingSphere();
+            if (!isVisible(view.transform(bounds.getCenter()), bounds.getRadius() * scale)) return;
+
+            source.addAll(solid.getVertices());
         });
 
+        // Transform every point in one batch by the composed view matrix
+        final int count = source.size() * 3;
+        final double[] points = new double[count * 3];
+        for (int i = 0; i < source.size(); i++) {
+            final Vertex v = source.get(i);
+            put(points, 3 * i, v.getP1());
+            put(points, 3 * i + 1, v.getP2());
+            put(points, 3 * i + 2, v.getP3());
+        }
+
+        view.transform(points, points, count);
+
+        for (int i = 0; i < source.size(); i++) {
+            vertices.add(new Vertex(
+                    VectorBatch.get(points, 3 * i),
+                    VectorBatch.get(points, 3 * i + 1),
+                    VectorBatch.get(points, 3 * i + 2),
+                    source.get(i).getColor()
+            ));
+        }
+
         this.context = context;
 
         vertices.sort((v1, v2) ->
-                Double.compare(v2.getCentroid().distanceTo(origin), v1.getCentroid().distanceTo(origin)));
+                Double.compare(v2.getCentroid().distanceSquaredTo(origin), v1.getCentroid().distanceSquaredTo(origin)));
 
         repaint();
     }
@@ -85,7 +127,7 @@ public class Viewport extends UIComponent {
         new ArrayList<>(vertices).forEach(v -> {
             final Polygon p = new Polygon();
             v.forEach(point -> {
-                final Pair<Integer> coordinates = translateVector(point, 500);
+                final Pair<Integer> coordinates = translateVector(point, FOV);
                 p.addPoint(coordinates.getFirst(), coordinates.getSecond());
             });
 
@@ -103,6 +145,49 @@ public class Viewport extends UIComponent {
         painting = false;
     }
 
+    /**
+     * Gets the matrix which transforms a point in the level to a point relative to the camera.
+     * This is equivalent to {@code v.transform(origin, angle).inflate(50)} on every vertex.
+     *
+     * @param origin Origin of the camera
+     * @param angle  Angle of the camera
+     * @return View matrix
+     */
+    @Nonnull
+    protected Matrix4 getViewMatrix(@Nonnull Vector origin, @Nonnull Quaternion angle) {
+        return Matrix4.fromScale(50)
+                .multiply(Matrix4.fromRotation(angle))
+                .multiply(Matrix4.fromTranslation(origin.negate()));
+    }
+
+    /**
+     * Checks if a sphere in view space is at least partially on screen.
+     * The screen is a pyramid from the eye at {@code z = -FOV} through the edges of the projection plane.
+     *
+     * @param center Center of the sphere in view space
+     * @param radius Radius of the sphere in view space
+     * @return {@code false} if the sphere is certainly off screen
+     */
+    protected boolean isVisible(@Nonnull Vector center, double radius) {
+        final double depth = FOV + center.getZ();
+        if (depth + radius <= 0) return false;
+
+        final double width = getWidth() / 2.0;
+        final double height = getHeight() / 2.0;
+
+        // Distance of the center outside each side of the pyramid
+        if (width > 0 && (FOV * Math.abs(center.getX()) - width * depth) / Math.hypot(FOV, width) > radius) return false;
+        if (height > 0 && (FOV * Math.abs(center.getY()) - height * depth) / Math.hypot(FOV, height) > radius) return false;
+
+        return true;
+    }
+
+    private static void put(@Nonnull double[] points, int index, @Nonnull Vector v) {
+        points[3 * index] = v.getX();
+        points[3 * index + 1] = v.getY();
+        points[3 * index + 2] = v.getZ();
+    }
+
     @Nonnull
     protected Pair<Integer> translateVector(@Nonnull Vector v, int FOV_L) {
         return new Pair<>(
@@ -0,0 +1,102 @@
+package oasis.artemis.util.collision;
+
+import oasis.artemis.object.ArtemisObject;
+import oasis.artemis.util.geometry.BoundingBox;
+import oasis.artemis.util.group.Pair;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * <h2>BroadPhase</h2>
+ * <p>
+ * A broad phase keeps a spatial index of objects, and quickly narrows down
+ * which pairs of objects could possibly be overlapping.
+ * Only the candidate pairs it reports need to be tested with {@link ArtemisObject#overlaps(ArtemisObject)}.
+ * </p>
+ * <p>
+ * Broad phases are updated incrementally. Implementations should make {@link BroadPhase#update(ArtemisObject)}
+ * as cheap as possible when the object has not left its previously indexed region.
+ * </p>
+ */
+public interface BroadPhase {
+    //
+    // Objects
+    //
+
+    /**
+     * Adds an object to this broad phase.
+     *
+     * @param object Object to add
+     */
+    void add(@Nonnull ArtemisObject object);
+
+    /**
+     * Removes an object from this broad phase.
+     *
+     * @param object Object to remove
+     */
+    void remove(@Nonnull ArtemisObject object);
+
+    /**
+     * Notifies this broad phase that an object may have moved, rotated or changed shape.
+     * Objects which have not been added are ignored.
+     *
+     * @param object Object to update
+     */
+    void update(@Nonnull ArtemisObject object);
+
+    /**
+     * Notifies this broad phase that an object should be indexed with given bounds instead of its own.
+     * This is used to index the swept volume of fast-moving objects for continuous collision detection.
+     * Objects which have not been added are ignored.
+     *
+     * @param object Object to update
+     * @param bounds Bounds to index the object with
+     */
+    void update(@Nonnull ArtemisObject object, @Nonnull BoundingBox bounds);
+
+    /**
+     * Removes every object from this broad phase.
+     */
+    void clear();
+
+    /**
+     * Gets the number of objects in this broad phase.
+     *
+     * @return Number of objects
+     */
+    @Nonnegative
+    int size();
+
+    //
+    // Pairs
+    //
+
+    /**
+     * Gets every pair of objects whose bounds overlap.
+     * Each pair is reported exactly once, and an object is never paired with itself.
+     *
+     * @return List of candidate pairs
+     */
+    @Nonnull
+    List<Pair<ArtemisObject>> getCandidatePairs();
+
+    /**
+     * Gets every pair of objects whose bounds overlap, of which at least one object is active.
+     * Pairs of two inactive objects, such as two sleeping objects, are never reported.
+     * Each pair is reported exactly once, and an object is never paired with itself.
+     *
+     * @param active Predicate which tests if an object is active
+     * @return List of candidate pairs
+     */
+    @Nonnull
+    default List<Pair<ArtemisObject>> getCandidatePairs(@Nonnull Predicate<ArtemisObject> active) {
+        final List<Pair<ArtemisObject>> pairs = getCandidatePairs();
+        pairs.removeIf(p -> !active.test(p.getFirst()) && !active.test(p.getSecond()));
+
+        return pairs;
+    }
+}
@@ -0,0 +1,93 @@
+package oasis.artemis.util.collision;
+
+import oasis.artemis.util.math.Vector;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * <h2>Contact</h2>
+ * <p>
+ * Describes how two overlapping solids touch.
+ * Moving the second solid by {@code normal * depth} separates the two solids.
+ * </p>
+ */
+@Immutable
+public class Contact {
+    //
+    // Constructors
+    //
+
+    /**
+     * Creates a new contact.
+     *
+     * @param normal Unit normal pointing from the first solid towards the second
+     * @param depth  Penetration depth
+     */
+    public Contact(@Nonnull Vector normal, @Nonnegative double depth) {
+        this.normal = normal;
+        this.depth = depth;
+    }
+
+    //
+    // Variables
+    //
+
+    @Nonnull
+    private final Vector normal;
+    @Nonnegative
+    private final double depth;
+
+    //
+    // Getters
+    //
+
+    /**
+     * Gets the contact normal.
+     *
+     * @return Unit normal pointing from the first solid towards the second
+     */
+    @Nonnull
+    public Vector getNormal() {
+        return normal;
+    }
+
+    /**
+     * Gets the penetration depth.
+     *
+     * @return How far the solids overlap along the normal
+     */
+    @Nonnegative
+    public double getDepth() {
+        return depth;
+    }
+
+    //
+    // Util
+    //
+
+    /**
+     * Gets the contact as seen from the second solid.
+     *
+     * @return Contact with a negated normal
+     */
+    @Nonnull
+    public Contact flip() {
+        return new Contact(normal.negate(), depth);
+    }
+
+    /**
+     * Converts this contact to a string.
+     *
+     * @return Stringified contact
+     */
+    @Override
+    @Nonnull
+    public String toString() {
+        return "Contact{" +
+                "normal=" + normal +
+                ", depth=" + depth +
+                '}';
+    }
+}
@@ -0,0 +1,92 @@
+package oasis.artemis.util.collision;
+
+import oasis.artemis.object.ArtemisObject;
+import oasis.artemis.util.group.Pair;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * <h2>ContactManifold</h2>
+ * <p>
+ * Describes how two objects touch in one step, as input to a contact solver.
+ * The normal of the contact points from the first object of the pair towards the second.
+ * </p>
+ */
+@Immutable
+public class ContactManifold {
+    //
+    // Constructors
+    //
+
+    /**
+     * Creates a new contact manifold.
+     *
+     * @param objects Pair of touching objects
+     * @param contact Contact between the first and second object's solids
+     */
+    public ContactManifold(@Nonnull Pair<ArtemisObject> objects, @Nonnull Contact contact) {
+        this.objects = objects;
+        this.contact = contact;
+    }
+
+    /**
+     * Builds the manifold of two objects from their solids.
+     *
+     * @param objects Pair of objects
+     * @return Manifold if the objects overlap, {@code null} if not
+     */
+    @Nullable
+    public static ContactManifold of(@Nonnull Pair<ArtemisObject> objects) {
+        final Contact contact = objects.getFirst().getSolid().getContact(objects.getSecond().getSolid());
+        return contact == null ? null : new ContactManifold(objects, contact);
+    }
+
+    //
+    // Variables
+    //
+
+    @Nonnull
+    private final Pair<ArtemisObject> objects;
+    @Nonnull
+    private final Contact contact;
+
+    //
+    // Getters
+    //
+
+    /**
+     * Gets the pair of touching objects.
+     *
+     * @return Pair of objects
+     */
+    @Nonnull
+    public Pair<ArtemisObject> getObjects() {
+        return objects;
+    }
+
+    /**
+     * Gets the contact between the objects.
+     *
+     * @return Contact, with a normal pointing from the first object towards the second
+     */
+    @Nonnull
+    public Contact getContact() {
+        return contact;
+    }
+
+    /**
+     * Converts this manifold to a string.
+     *
+     * @return Stringified manifold
+     */
+    @Override
+    @Nonnull
+    public String toString() {
+        return "ContactManifold{" +
+                "objects=" + objects +
+                ", contact=" + contact +
+                '}';
+    }
+}
@@ -0,0 +1,410 @@
+package oasis.artemis.util.collision;
+
+import oasis.artemis.object.ArtemisObject;
+import oasis.artemis.util.geometry.BoundingBox;
+import oasis.artemis.util.group.Pair;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * <h2>DynamicTree</h2>
+ * <p>
+ * A broad phase backed by a dynamic bounding volume hierarchy of axis-aligned boxes.
+ * Leaves store a "fat" box which is larger than the object by a fixed margin,
+ * so that small movements do not require the tree to be restructured.
+ * </p>
+ * <p>
+ * The tree is kept balanced with rotations, and new leaves are placed using a surface area heuristic.
+ * This is a good general-purpose choice when object sizes vary a lot.
+ * </p>
+ */
+public class DynamicTree implements BroadPhase {
+    //
+    // Constants
+    //
+
+    /**
+     * The default margin leaves are fattened by.
+     */
+    public static final double DEFAULT_MARGIN = 0.1;
+
+    //
+    // Constructors
+    //
+
+    /**
+     * Creates a new dynamic tree with the default margin.
+     */
+    public DynamicTree() {
+        this(DEFAULT_MARGIN);
+    }
+
+    /**
+     * Creates a new dynamic tree.
+     *
+     * @param margin Margin to fatten leaf bounds by
+     * @throws IllegalArgumentException When the margin is negative
+     */
+    public DynamicTree(@Nonnegative double margin) throws IllegalArgumentException {
+        if (!(margin >= 0) || !Double.isFinite(margin)) {
+            throw new IllegalArgumentException("Margin must be a non-negative finite number.");
+        }
+
+        this.margin = margin;
+    }
+
+    //
+    // Variables
+    //
+
+    private final double margin;
+    @Nonnull
+    private final Map<ArtemisObject, Node> leaves = new LinkedHashMap<>();
+    @Nullable
+    private Node root = null;
+    private long order = 0;
+
+    //
+    // Getters
+    //
+
+    /**
+     * Gets the margin leaves are fattened by.
+     *
+     * @return Margin
+     */
+    @Nonnegative
+    public double getMargin() {
+        return margin;
+    }
+
+    /**
+     * Gets the height of this tree.
+     *
+     * @return Height ({@code -1} if empty)
+     */
+    public int getHeight() {
+        return root == null ? -1 : root.height;
+    }
+
+    //
+    // Objects
+    //
+
+    @Override
+    public void add(@Nonnull ArtemisObject object) {
+        if (leaves.containsKey(object)) return;
+
+        final BoundingBox box = object.getSolid().getBoundingBox();
+        final Node leaf = new Node(object, order++);
+        leaf.tight = box;
+        leaf.box = box.expand(margin);
+
+        leaves.put(object, leaf);
+        insertLeaf(leaf);
+    }
+
+    @Override
+    public void remove(@Nonnull ArtemisObject object) {
+        final Node leaf = leaves.remove(object);
+        if (leaf == null) return;
+
+        removeLeaf(leaf);
+    }
+
+    @Override
+    public void update(@Nonnull ArtemisObject object) {
+        update(object, object.getSolid().getBoundingBox());
+    }
+
+    @Override
+    public void update(@Nonnull ArtemisObject object, @Nonnull BoundingBox box) {
+        final Node leaf = leaves.get(object);
+        if (leaf == null) return;
+
+        leaf.tight = box;
+
+        // Still within the fattened bounds, the tree does not need to change
+        if (leaf.box.contains(box)) return;
+
+        removeLeaf(leaf);
+        leaf.box = box.expand(margin);
+        insertLeaf(leaf);
+    }
+
+    @Override
+    public void clear() {
+        leaves.clear();
+        root = null;
+    }
+
+    @Override
+    public int size() {
+        return leaves.size();
+    }
+
+    //
+    // Pairs
+    //
+
+    @Nonnull
+    @Override
+    public List<Pair<ArtemisObject>> getCandidatePairs() {
+        return getCandidatePairs(o -> true);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The tree is only queried from active leaves, so inactive objects cost nothing unless an active one is near.
+     */
+    @Nonnull
+    @Override
+    public List<Pair<ArtemisObject>> getCandidatePairs(@Nonnull Predicate<ArtemisObject> active) {
+        final List<Pair<ArtemisObject>> pairs = new ArrayList<>();
+        if (root == null) return pairs;
+
+        final Deque<Node> stack = new ArrayDeque<>();
+
+        for (Node leaf : leaves.values()) {
+            if (!active.test(leaf.object)) continue;
+            stack.push(root);
+
+            while (!stack.isEmpty()) {
+                final Node node = stack.pop();
+                if (!node.box.overlaps(leaf.box)) continue;
+
+                if (node.isLeaf()) {
+                    // Report pairs of two active leaves once, from the older leaf
+                    if (node == leaf) continue;
+                    if (node.order < leaf.order && active.test(node.object)) continue;
+                    if (node.tight.overlaps(leaf.tight)) pairs.add(new Pair<>(leaf.object, node.object));
+                } else {
+                    stack.push(node.left);
+                    stack.push(node.right);
+                }
+            }
+        }
+
+        return pairs;
+    }
+
+    //
+    // Internal methods
+    //
+
+    private void insertLeaf(@Nonnull Node leaf) {
+        if (root == null) {
+            root = leaf;
+            leaf.parent = null;
+            return;
+        }
+
+        // Find the best sibling using the surface area heuristic
+        final BoundingBox box = leaf.box;
+        Node index = root;
+
+        while (!index.isLeaf()) {
+            final double area = index.box.getSurfaceArea();
+            final double combinedArea = index.box.union(box).getSurfaceArea();
+
+            final double cost = 2 * combinedArea;
+            final double inheritance = 2 * (combinedArea - area);
+
+            final double leftCost = descentCost(index.left, box, inheritance);
+            final double rightCost = descentCost(index.right, box, inheritance);
+
+            if (cost < leftCost && cost < rightCost) break;
+
+            index = leftCost < rightCost ? index.left : index.right;
+        }
+
+        final Node sibling = index;
+        final Node oldParent = sibling.parent;
+        final Node newParent = new Node(null, -1);
+
+        newParent.parent = oldParent;
+        newParent.box = sibling.box.union(box);
+        newParent.height = sibling.height + 1;
+        newParent.left = sibling;
+        newParent.right = leaf;
+        sibling.parent = newParent;
+        leaf.parent = newParent;
+
+        if (oldParent == null) {
+            root = newParent;
+        } else if (oldParent.left == sibling) {
+            oldParent.left = newParent;
+        } else {
+            oldParent.right = newParent;
+        }
+
+        refit(leaf.parent);
+    }
+
+    private static double descentCost(@Nonnull Node child, @Nonnull BoundingBox box, double inheritance) {
+        final double combined = child.box.union(box).getSurfaceArea();
+        if (child.isLeaf()) return combined + inheritance;
+
+        return combined - child.box.getSurfaceArea() + inheritance;
+    }
+
+    private void removeLeaf(@Nonnull Node leaf) {
+        if (leaf == root) {
+            root = null;
+            return;
+        }
+
+        final Node parent = leaf.parent;
+        final Node grandParent = parent.parent;
+        final Node sibling = parent.left == leaf ? parent.right : parent.left;
+
+        leaf.parent = null;
+
+        if (grandParent == null) {
+            root = sibling;
+            sibling.parent = null;
+            return;
+        }
+
+        if (grandParent.left == parent) {
+            grandParent.left = sibling;
+        } else {
+            grandParent.right = sibling;
+        }
+
+        sibling.parent = grandParent;
+        refit(grandParent);
+    }
+
+    /**
+     * Walks up the tree from given node, re-balancing and re-fitting bounds.
+     */
+    private void refit(@Nullable Node node) {
+        Node index = node;
+
+        while (index != null) {
+            index = balance(index);
+
+            index.height = 1 + Math.max(index.left.height, index.right.height);
+            index.box = index.left.box.union(index.right.box);
+
+            index = index.parent;
+        }
+    }
+
+    /**
+     * Performs a left or right rotation if given node is imbalanced.
+     *
+     * @return The node which now occupies the given node's position
+     */
+    @Nonnull
+    private Node balance(@Nonnull Node a) {
+        if (a.isLeaf() || a.height < 2) return a;
+
+        final Node b = a.left;
+        final Node c = a.right;
+        final int balance = c.height - b.height;
+
+        if (balance > 1) {
+            // Rotate C up
+            final Node f = c.left;
+            final Node g = c.right;
+
+            c.left = a;
+            c.parent = a.parent;
+            a.parent = c;
+            replaceChild(c.parent, a, c);
+
+            if (f.height > g.height) {
+                c.right = f;
+                a.right = g;
+                g.parent = a;
+            } else {
+                c.right = g;
+                a.right = f;
+                f.parent = a;
+            }
+
+            a.box = a.left.box.union(a.right.box);
+            a.height = 1 + Math.max(a.left.height, a.right.height);
+            c.box = a.box.union(c.right.box);
+            c.height = 1 + Math.max(a.height, c.right.height);
+
+            return c;
+        }
+
+        if (balance < -1) {
+            // Rotate B up
+            final Node d = b.left;
+            final Node e = b.right;
+
+            b.left = a;
+            b.parent = a.parent;
+            a.parent = b;
+            replaceChild(b.parent, a, b);
+
+            if (d.height > e.height) {
+                b.right = d;
+                a.left = e;
+                e.parent = a;
+            } else {
+                b.right = e;
+                a.left = d;
+                d.parent = a;
+            }
+
+            a.box = a.left.box.union(a.right.box);
+            a.height = 1 + Math.max(a.left.height, a.right.height);
+            b.box = a.box.union(b.right.box);
+            b.height = 1 + Math.max(a.height, b.right.height);
+
+            return b;
+        }
+
+        return a;
+    }
+
+    private void replaceChild(@Nullable Node parent, @Nonnull Node oldChild, @Nonnull Node newChild) {
+        if (parent == null) {
+            root = newChild;
+        } else if (parent.left == oldChild) {
+            parent.left = newChild;
+        } else {
+            parent.right = newChild;
+        }
+    }
+
+    /**
+     * Internal class representing one node of the tree.
+     * Leaves hold an object, branches always have two children.
+     */
+    private static final class Node {
+        private Node(@Nullable ArtemisObject object, long order) {
+            this.object = object;
+            this.order = order;
+        }
+
+        @Nullable
+        private final ArtemisObject object;
+        private final long order;
+        private BoundingBox box;
+        private BoundingBox tight;
+        private Node parent;
+        private Node left;
+        private Node right;
+        private int height = 0;
+
+        private boolean isLeaf() {
+            return left == null;
+        }
+    }
+}
@@ -0,0 +1,495 @@
+package oasis.artemis.util.collision;
+
+import oasis.artemis.util.geometry.solid.Solid;
+import oasis.artemis.util.geometry.solid.Sphere;
+import oasis.artemis.util.math.Vector;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>NarrowPhase</h2>
+ * <p>
+ * Exact overlap tests between any two convex {@link Solid}s, using only their support functions.
+ * </p>
+ * <p>
+ * Overlap is tested with the Gilbert-Johnson-Keerthi (GJK) algorithm, which searches the Minkowski difference
+ * of the two solids for the origin. When the solids overlap, the Expanding Polytope Algorithm (EPA) grows
+ * the final GJK simplex until it finds the face of the difference closest to the origin,
+ * which gives the contact normal and penetration depth.
+ * </p>
+ */
+public final class NarrowPhase {
+    //
+    // Constants
+    //
+
+    /**
+     * The maximum number of iterations of either algorithm.
+     * Both converge in a handful of iterations for polyhedra, but may approach curved surfaces forever.
+     */
+    private static final int MAX_ITERATIONS = 64;
+
+    /**
+     * How close EPA must get to the surface of the Minkowski difference, relative to the penetration depth.
+     */
+    private static final double TOLERANCE = 1e-6;
+
+    /**
+     * Lengths and volumes below this are considered zero.
+     */
+    private static final double EPSILON = 1e-12;
+
+    /**
+     * Solids closer than this are considered touching when GJK cannot prove either way.
+     */
+    private static final double TOUCHING_DISTANCE = 1e-6;
+
+    //
+    // Methods
+    //
+
+    /**
+     * Checks if two solids overlap. Touching solids are considered overlapping.
+     *
+     * @param a First solid
+     * @param b Second solid
+     * @return {@code true} if the solids share at least one point
+     */
+    public static boolean intersects(@Nonnull Solid a, @Nonnull Solid b) {
+        return mayOverlap(a, b) && gjk(a, b) != null;
+    }
+
+    /**
+     * Gets the contact between two solids.
+     *
+     * @param a First solid
+     * @param b Second solid
+     * @return Contact with a normal pointing from {@code a} towards {@code b}, {@code null} if the solids do not overlap
+     */
+    @Nullable
+    public static Contact getContact(@Nonnull Solid a, @Nonnull Solid b) {
+        if (a instanceof Sphere s1 && b instanceof Sphere s2) return getContact(s1, s2);
+        if (!mayOverlap(a, b)) return null;
+
+        final List<Vector> simplex = gjk(a, b);
+        if (simplex == null) return null;
+
+        return epa(a, b, simplex);
+    }
+
+    /**
+     * Checks if the cached bounds of two solids overlap, which rejects most separated pairs without GJK.
+     */
+    private static boolean mayOverlap(@Nonnull Solid a, @Nonnull Solid b) {
+        return a.getBoundingBox().overlaps(b.getBoundingBox())
+                && a.getBoundingSphere().overlaps(b.getBoundingSphere());
+    }
+
+    //
+    // GJK
+    //
+
+    /**
+     * Runs GJK, moving a simplex of support points towards the origin until it either encloses the origin,
+     * or a support point proves that the origin lies outside the Minkowski difference.
+     *
+     * @return The final simplex if the solids overlap, {@code null} if not
+     */
+    @Nullable
+    private static List<Vector> gjk(@Nonnull Solid a, @Nonnull Solid b) {
+        Vector direction = b.getCentroid().subtract(a.getCentroid());
+        if (isZero(direction)) direction = Vector.POSITIVE_X;
+
+        final List<Vector> simplex = new ArrayList<>(4);
+
+        // Closest point of the simplex to the origin
+        Vector closest = support(a, b, direction);
+
+        for (int i = 0; i < MAX_ITERATIONS; i++) {
+            if (isZero(closest)) {
+                if (simplex.isEmpty()) simplex.add(closest);
+                return simplex; // The origin lies on the simplex
+            }
+
+            final Vector point = support(a, b, closest.negate());
+
+            // The plane through the closest point separates the difference from the origin
+            if (closest.dot(point) > 0) return null;
+
+            // No progress can be made, which only happens when the origin lies on or very near the surface
+            for (Vector existing : simplex) {
+                if (existing.equals(point)) return touching(simplex, closest);
+            }
+
+            simplex.add(point);
+            closest = closestPoint(simplex);
+
+            if (simplex.size() == 4) return simplex; // The origin lies within the simplex
+        }
+
+        // Did not converge, which only happens when the solids are touching or nearly so
+        return touching(simplex, closest);
+    }
+
+    /**
+     * Decides whether solids are touching when GJK stopped without proving either way,
+     * by the distance from the origin to the last simplex.
+     *
+     * @return The simplex if the solids are touching, {@code null} if not
+     */
+    @Nullable
+    private static List<Vector> touching(@Nonnull List<Vector> simplex, @Nonnull Vector closest) {
+        return closest.dot(closest) <= TOUCHING_DISTANCE * TOUCHING_DISTANCE ? simplex : null;
+    }
+
+    /**
+     * Gets the point of the simplex closest to the origin,
+     * and reduces the simplex to the smallest feature which contains that point.
+     *
+     * @return Closest point, {@link Vector#ZERO} if the simplex is a tetrahedron containing the origin
+     */
+    @Nonnull
+    private static Vector closestPoint(@Nonnull List<Vector> simplex) {
+        return switch (simplex.size()) {
+            case 1 -> simplex.get(0);
+            case 2 -> segment(simplex);
+            case 3 -> triangle(simplex);
+            default -> tetrahedron(simplex);
+        };
+    }
+
+    @Nonnull
+    private static Vector segment(@Nonnull List<Vector> simplex) {
+        final Vector a = simplex.get(0);
+        final Vector b = simplex.get(1);
+        final Vector ab = b.subtract(a);
+
+        final double t = -a.dot(ab);
+        if (t <= 0) {
+            set(simplex, a);
+            return a;
+        }
+
+        final double length = ab.dot(ab);
+        if (t >= length) {
+            set(simplex, b);
+            return b;
+        }
+
+        return a.add(ab.multiply(t / length));
+    }
+
+    @Nonnull
+    private static Vector triangle(@Nonnull List<Vector> simplex) {
+        final Vector a = simplex.get(0);
+        final Vector b = simplex.get(1);
+        final Vector c = simplex.get(2);
+
+        final Vector ab = b.subtract(a);
+        final Vector ac = c.subtract(a);
+
+        // Vertex regions and edge regions, by the barycentric coordinates of the origin
+        final double d1 = -ab.dot(a);
+        final double d2 = -ac.dot(a);
+        if (d1 <= 0 && d2 <= 0) {
+            set(simplex, a);
+            return a;
+        }
+
+        final double d3 = -ab.dot(b);
+        final double d4 = -ac.dot(b);
+        if (d3 >= 0 && d4 <= d3) {
+            set(simplex, b);
+            return b;
+        }
+
+        final double vc = d1 * d4 - d3 * d2;
+        if (vc <= 0 && d1 >= 0 && d3 <= 0) {
+            set(simplex, a, b);
+            return a.add(ab.multiply(d1 / (d1 - d3)));
+        }
+
+        final double d5 = -ab.dot(c);
+        final double d6 = -ac.dot(c);
+        if (d6 >= 0 && d5 <= d6) {
+            set(simplex, c);
+            return c;
+        }
+
+        final double vb = d5 * d2 - d1 * d6;
+        if (vb <= 0 && d2 >= 0 && d6 <= 0) {
+            set(simplex, a, c);
+            return a.add(ac.multiply(d2 / (d2 - d6)));
+        }
+
+        final double va = d3 * d6 - d5 * d4;
+        if (va <= 0 && d4 - d3 >= 0 && d5 - d6 >= 0) {
+            set(simplex, b, c);
+            return b.add(c.subtract(b).multiply((d4 - d3) / ((d4 - d3) + (d5 - d6))));
+        }
+
+        // Face region
+        final double denominator = va + vb + vc;
+        if (denominator == 0) {
+            // Degenerate triangle, fall back to one of its edges
+            set(simplex, a, b);
+            return segment(simplex);
+        }
+
+        return a.add(ab.multiply(vb / denominator)).add(ac.multiply(vc / denominator));
+    }
+
+    @Nonnull
+    private static Vector tetrahedron(@Nonnull List<Vector> simplex) {
+        final Vector a = simplex.get(0);
+        final Vector b = simplex.get(1);
+        final Vector c = simplex.get(2);
+        final Vector d = simplex.get(3);
+
+        final Vector[][] faces = {{a, b, c, d}, {a, c, d, b}, {a, d, b, c}, {b, d, c, a}};
+
+        Vector closest = Vector.ZERO;
+        List<Vector> feature = null;
+        double minimum = Double.POSITIVE_INFINITY;
+
+        // Only faces with the origin in front of them can hold the closest point
+        for (Vector[] face : faces) {
+            final Vector normal = face[1].subtract(face[0]).cross(face[2].subtract(face[0]));
+            final double origin = -normal.dot(face[0]);
+            final double opposite = normal.dot(face[3].subtract(face[0]));
+
+            if (origin * opposite >= 0 && Math.abs(opposite) > EPSILON) continue;
+
+            final List<Vector> triangle = new ArrayList<>(List.of(face[0], face[1], face[2]));
+            final Vector point = triangle(triangle);
+            final double distance = point.dot(point);
+
+            if (distance < minimum) {
+                minimum = distance;
+                closest = point;
+                feature = triangle;
+            }
+        }
+
+        if (feature != null) {
+            simplex.clear();
+            simplex.addAll(feature);
+        }
+
+        return closest;
+    }
+
+    //
+    // EPA
+    //
+
+    @Nonnull
+    private static Contact epa(@Nonnull Solid a, @Nonnull Solid b, @Nonnull List<Vector> simplex) {
+        if (!completeSimplex(a, b, simplex)) {
+            // Every support point is on one plane, the solids are flat and merely touching
+            final Vector normal = b.getCentroid().subtract(a.getCentroid()).toUnitVector();
+            return new Contact(normal.equals(Vector.ZERO) ? Vector.POSITIVE_X : normal, 0);
+        }
+
+        final List<Vector> vertices = new ArrayList<>(simplex);
+        final Vector interior = vertices.get(0).add(vertices.get(1)).add(vertices.get(2)).add(vertices.get(3)).multiply(0.25);
+
+        final List<Face> faces = new ArrayList<>();
+        faces.add(new Face(vertices, 0, 1, 2, interior));
+        faces.add(new Face(vertices, 0, 3, 1, interior));
+        faces.add(new Face(vertices, 0, 2, 3, interior));
+        faces.add(new Face(vertices, 1, 3, 2, interior));
+
+        Face closest = closest(faces);
+
+        for (int i = 0; i < MAX_ITERATIONS; i++) {
+            final Vector point = support(a, b, closest.normal);
+            final double distance = point.dot(closest.normal);
+
+            // The closest face lies on the surface of the difference
+            if (distance - closest.distance < TOLERANCE * Math.max(1, closest.distance)) break;
+
+            // Remove every face the new point can see, and remember the edges of the hole
+            final List<int[]> horizon = new ArrayList<>();
+            final int index = vertices.size();
+            vertices.add(point);
+
+            boolean removed = false;
+            for (int j = faces.size() - 1; j >= 0; j--) {
+                final Face face = faces.get(j);
+                if (face.normal.dot(point.subtract(vertices.get(face.a))) <= EPSILON) continue;
+
+                addEdge(horizon, face.a, face.b);
+                addEdge(horizon, face.b, face.c);
+                addEdge(horizon, face.c, face.a);
+                faces.remove(j);
+                removed = true;
+            }
+
+            if (!removed) break;
+
+            // Patch the hole with faces towards the new point
+            for (int[] edge : horizon) {
+                faces.add(new Face(vertices, edge[0], edge[1], index, interior));
+            }
+
+            closest = closest(faces);
+        }
+
+        return new Contact(closest.normal, Math.max(0, closest.distance));
+    }
+
+    /**
+     * Grows a simplex of fewer than four points into a tetrahedron, if the difference has any volume.
+     *
+     * @return {@code true} if the simplex is now a tetrahedron
+     */
+    private static boolean completeSimplex(@Nonnull Solid a, @Nonnull Solid b, @Nonnull List<Vector> simplex) {
+        final Vector[] axes = {
+                Vector.POSITIVE_X, Vector.NEGATIVE_X,
+                Vector.POSITIVE_Y, Vector.NEGATIVE_Y,
+                Vector.POSITIVE_Z, Vector.NEGATIVE_Z
+        };
+
+        if (simplex.size() == 1) {
+            for (Vector axis : axes) {
+                final Vector point = support(a, b, axis);
+                if (point.distanceTo(simplex.get(0)) > EPSILON) {
+                    simplex.add(point);
+                    break;
+                }
+            }
+        }
+
+        if (simplex.size() == 2) {
+            final Vector ab = simplex.get(1).subtract(simplex.get(0));
+
+            for (Vector axis : axes) {
+                final Vector direction = ab.cross(axis);
+                if (isZero(direction)) continue;
+
+                final Vector point = support(a, b, direction);
+                if (point.subtract(simplex.get(0)).cross(ab).getMagnitude() > EPSILON) {
+                    simplex.add(point);
+                    break;
+                }
+            }
+        }
+
+        if (simplex.size() == 3) {
+            final Vector normal = simplex.get(1).subtract(simplex.get(0)).cross(simplex.get(2).subtract(simplex.get(0)));
+
+            for (Vector direction : new Vector[]{normal, normal.negate()}) {
+                final Vector point = support(a, b, direction);
+                if (Math.abs(point.subtract(simplex.get(0)).dot(normal)) > EPSILON) {
+                    simplex.add(point);
+                    break;
+                }
+            }
+        }
+
+        return simplex.size() == 4;
+    }
+
+    /**
+     * Adds an edge to the horizon, or removes it if the reverse edge is already there.
+     * Edges shared by two removed faces cancel out, leaving only the edges of the hole.
+     */
+    private static void addEdge(@Nonnull List<int[]> horizon, int from, int to) {
+        for (int i = 0; i < horizon.size(); i++) {
+            final int[] edge = horizon.get(i);
+            if (edge[0] == to && edge[1] == from) {
+                horizon.remove(i);
+                return;
+            }
+        }
+
+        horizon.add(new int[]{from, to});
+    }
+
+    @Nonnull
+    private static Face closest(@Nonnull List<Face> faces) {
+        Face closest = faces.get(0);
+
+        for (Face face : faces) {
+            if (face.distance < closest.distance) closest = face;
+        }
+
+        return closest;
+    }
+
+    /**
+     * Internal class representing one triangular face of the expanding polytope.
+     */
+    private static final class Face {
+        private Face(@Nonnull List<Vector> vertices, int a, int b, int c, @Nonnull Vector interior) {
+            final Vector va = vertices.get(a);
+            Vector normal = vertices.get(b).subtract(va).cross(vertices.get(c).subtract(va));
+
+            // Wind every face so that its normal points out of the polytope
+            if (normal.dot(va.subtract(interior)) < 0) {
+                normal = normal.negate();
+                this.a = a;
+                this.b = c;
+                this.c = b;
+            } else {
+                this.a = a;
+                this.b = b;
+                this.c = c;
+            }
+
+            final double length = normal.getMagnitude();
+            if (length < EPSILON) {
+                // Degenerate sliver, never the closest face
+                this.normal = Vector.POSITIVE_X;
+                this.distance = Double.POSITIVE_INFINITY;
+            } else {
+                this.normal = normal.divide(length);
+                this.distance = this.normal.dot(va);
+            }
+        }
+
+        private final int a;
+        private final int b;
+        private final int c;
+        @Nonnull
+        private final Vector normal;
+        private final double distance;
+    }
+
+    //
+    // Internal methods
+    //
+
+    @Nullable
+    private static Contact getContact(@Nonnull Sphere a, @Nonnull Sphere b) {
+        final Vector delta = b.getCentroid().subtract(a.getCentroid());
+        final double distance = delta.getMagnitude();
+        final double depth = a.getRadius() + b.getRadius() - distance;
+
+        if (depth < 0) return null;
+        return new Contact(distance == 0 ? Vector.POSITIVE_X : delta.divide(distance), depth);
+    }
+
+    /**
+     * Gets the support point of the Minkowski difference {@code a - b}.
+     */
+    @Nonnull
+    private static Vector support(@Nonnull Solid a, @Nonnull Solid b, @Nonnull Vector direction) {
+        return a.support(direction).subtract(b.support(direction.negate()));
+    }
+
+    private static boolean isZero(@Nonnull Vector v) {
+        return v.dot(v) < EPSILON * EPSILON;
+    }
+
+    private static void set(@Nonnull List<Vector> simplex, @Nonnull Vector... points) {
+        simplex.clear();
+        simplex.addAll(List.of(points));
+    }
+
+    private NarrowPhase() {}
+}
@@ -0,0 +1,151 @@
+package oasis.artemis.util.collision;
+
+import oasis.artemis.object.ArtemisObject;
+import oasis.artemis.util.geometry.BoundingBox;
+import oasis.artemis.util.group.Pair;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * <h2>SweepAndPrune</h2>
+ * <p>
+ * A broad phase which keeps objects sorted along the X axis, and sweeps across them
+ * to find overlapping intervals.
+ * </p>
+ * <p>
+ * Since objects rarely move far between two ticks, the list is kept sorted with insertion sort,
+ * which runs in near-linear time on almost-sorted input.
+ * </p>
+ */
+public class SweepAndPrune implements BroadPhase {
+    //
+    // Variables
+    //
+
+    @Nonnull
+    private final Map<ArtemisObject, Entry> entries = new HashMap<>();
+    @Nonnull
+    private final List<Entry> sorted = new ArrayList<>();
+
+    //
+    // Objects
+    //
+
+    @Override
+    public void add(@Nonnull ArtemisObject object) {
+        if (entries.containsKey(object)) return;
+
+        final Entry entry = new Entry(object, object.getSolid().getBoundingBox());
+        entries.put(object, entry);
+        sorted.add(entry);
+    }
+
+    @Override
+    public void remove(@Nonnull ArtemisObject object) {
+        final Entry entry = entries.remove(object);
+        if (entry == null) return;
+
+        sorted.remove(entry);
+    }
+
+    @Override
+    public void update(@Nonnull ArtemisObject object) {
+        update(object, object.getSolid().getBoundingBox());
+    }
+
+    @Override
+    public void update(@Nonnull ArtemisObject object, @Nonnull BoundingBox box) {
+        final Entry entry = entries.get(object);
+        if (entry == null) return;
+
+        entry.box = box;
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        sorted.clear();
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    //
+    // Pairs
+    //
+
+    @Nonnull
+    @Override
+    public List<Pair<ArtemisObject>> getCandidatePairs() {
+        return getCandidatePairs(o -> true);
+    }
+
+    @Nonnull
+    @Override
+    public List<Pair<ArtemisObject>> getCandidatePairs(@Nonnull Predicate<ArtemisObject> active) {
+        sort();
+
+        final List<Pair<ArtemisObject>> pairs = new ArrayList<>();
+        final int size = sorted.size();
+
+        for (int i = 0; i < size; i++) {
+            final Entry a = sorted.get(i);
+            final double maxX = a.box.getMaxX();
+            final boolean activeA = active.test(a.object);
+
+            for (int j = i + 1; j < size; j++) {
+                final Entry b = sorted.get(j);
+                if (b.box.getMinX() > maxX) break; // No later entry can overlap on X
+                if (!activeA && !active.test(b.object)) continue;
+
+                if (a.box.overlaps(b.box)) pairs.add(new Pair<>(a.object, b.object));
+            }
+        }
+
+        return pairs;
+    }
+
+    //
+    // Internal methods
+    //
+
+    /**
+     * Insertion sort by minimum X.
+     */
+    private void sort() {
+        for (int i = 1; i < sorted.size(); i++) {
+            final Entry entry = sorted.get(i);
+            final double minX = entry.box.getMinX();
+
+            int j = i - 1;
+            while (j >= 0 && sorted.get(j).box.getMinX() > minX) {
+                sorted.set(j + 1, sorted.get(j));
+                j--;
+            }
+
+            sorted.set(j + 1, entry);
+        }
+    }
+
+    /**
+     * Internal class representing one indexed object.
+     */
+    private static final class Entry {
+        private Entry(@Nonnull ArtemisObject object, @Nonnull BoundingBox box) {
+            this.object = object;
+            this.box = box;
+        }
+
+        @Nonnull
+        private final ArtemisObject object;
+        @Nonnull
+        private BoundingBox box;
+    }
+}
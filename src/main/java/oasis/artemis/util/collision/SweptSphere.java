@@ -0,0 +1,115 @@
+package oasis.artemis.util.collision;
+
+import oasis.artemis.object.ArtemisObject;
+import oasis.artemis.util.geometry.BoundingBox;
+import oasis.artemis.util.geometry.solid.Solid;
+import oasis.artemis.util.geometry.solid.Sphere;
+import oasis.artemis.util.math.Vector;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * <h2>SweptSphere</h2>
+ * <p>
+ * Time of impact tests between spheres moving linearly over one tick.
+ * Objects which are not spheres are approximated by the sphere enclosing their bounding box,
+ * which may report an impact slightly early, but never misses one.
+ * </p>
+ */
+public final class SweptSphere {
+    //
+    // Constants
+    //
+
+    /**
+     * Returned by {@link SweptSphere#timeOfImpact(Vector, Vector, double, Vector, Vector, double)}
+     * when the two spheres do not touch during the sweep.
+     */
+    public static final double NO_IMPACT = -1;
+
+    //
+    // Constructors
+    //
+
+    private SweptSphere() {}
+
+    //
+    // Methods
+    //
+
+    /**
+     * Finds the earliest time two approaching spheres touch.
+     * Each sphere moves linearly from its start to its end location,
+     * and time is normalized so that {@code 0} is the start and {@code 1} is the end of the sweep.
+     *
+     * @param startA  Start location of the first sphere
+     * @param endA    End location of the first sphere
+     * @param radiusA Radius of the first sphere
+     * @param startB  Start location of the second sphere
+     * @param endB    End location of the second sphere
+     * @param radiusB Radius of the second sphere
+     * @return Time of impact in {@code [0, 1]}, or {@link SweptSphere#NO_IMPACT} if they never touch while approaching
+     */
+    public static double timeOfImpact(
+            @Nonnull Vector startA,
+            @Nonnull Vector endA,
+            @Nonnegative double radiusA,
+            @Nonnull Vector startB,
+            @Nonnull Vector endB,
+            @Nonnegative double radiusB
+    ) {
+        // Solve in the frame of the first sphere: |s + tv| = r
+        final double sx = startB.getX() - startA.getX();
+        final double sy = startB.getY() - startA.getY();
+        final double sz = startB.getZ() - startA.getZ();
+
+        final double vx = (endB.getX() - startB.getX()) - (endA.getX() - startA.getX());
+        final double vy = (endB.getY() - startB.getY()) - (endA.getY() - startA.getY());
+        final double vz = (endB.getZ() - startB.getZ()) - (endA.getZ() - startA.getZ());
+
+        final double r = radiusA + radiusB;
+        final double c = sx * sx + sy * sy + sz * sz - r * r;
+        final double b = sx * vx + sy * vy + sz * vz;
+        if (b >= 0) return NO_IMPACT; // Moving apart, or not moving relative to each other
+        if (c <= 0) return 0; // Already touching at the start
+
+        final double a = vx * vx + vy * vy + vz * vz;
+
+        final double discriminant = b * b - a * c;
+        if (discriminant < 0) return NO_IMPACT;
+
+        final double t = (-b - Math.sqrt(discriminant)) / a;
+        return t <= 1 ? t : NO_IMPACT;
+    }
+
+    /**
+     * Gets the radius of the sphere used to sweep given object.
+     *
+     * @param object Object to get the radius of
+     * @return Sweep radius
+     */
+    @Nonnegative
+    public static double getRadius(@Nonnull ArtemisObject object) {
+        final Solid solid = object.getSolid();
+        if (solid instanceof Sphere sphere) return sphere.getRadius();
+
+        final BoundingBox box = solid.getBoundingBox();
+        return box.getMaximum().subtract(box.getMinimum()).getMagnitude() / 2;
+    }
+
+    /**
+     * Gets the center of the sphere used to sweep given object.
+     *
+     * @param object Object to get the center of
+     * @return Sweep center
+     */
+    @Nonnull
+    public static Vector getCenter(@Nonnull ArtemisObject object) {
+        final Solid solid = object.getSolid();
+        if (solid instanceof Sphere sphere) return sphere.getCentroid();
+
+        final BoundingBox box = solid.getBoundingBox();
+        return box.getMaximum().add(box.getMinimum()).multiply(0.5);
+    }
+}
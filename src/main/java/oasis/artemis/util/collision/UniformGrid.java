@@ -0,0 +1,294 @@
+package oasis.artemis.util.collision;
+
+import oasis.artemis.object.ArtemisObject;
+import oasis.artemis.util.geometry.BoundingBox;
+import oasis.artemis.util.group.Pair;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * <h2>UniformGrid</h2>
+ * <p>
+ * A broad phase which buckets objects into cubic cells of a fixed size.
+ * Works best when most objects are of similar size, and roughly the size of one cell.
+ * </p>
+ * <p>
+ * Objects which span more than {@link UniformGrid#MAX_CELLS_PER_OBJECT} cells are not bucketed,
+ * and are instead tested against every other object.
+ * </p>
+ */
+public class UniformGrid implements BroadPhase {
+    //
+    // Constants
+    //
+
+    /**
+     * The maximum number of cells a single object can occupy before it is considered oversized.
+     */
+    public static final int MAX_CELLS_PER_OBJECT = 512;
+
+    /**
+     * Cell coordinates are clamped to this range so that they can be packed into one {@code long}.
+     */
+    private static final int MAX_CELL_COORDINATE = (1 << 20) - 1;
+
+    //
+    // Constructors
+    //
+
+    /**
+     * Creates a new uniform grid.
+     *
+     * @param cellSize Length of one side of a cell
+     * @throws IllegalArgumentException When the cell size is not positive
+     */
+    public UniformGrid(@Nonnegative double cellSize) throws IllegalArgumentException {
+        if (!(cellSize > 0) || !Double.isFinite(cellSize)) {
+            throw new IllegalArgumentException("Cell size must be a positive finite number.");
+        }
+
+        this.cellSize = cellSize;
+    }
+
+    //
+    // Variables
+    //
+
+    private final double cellSize;
+    /**
+     * Entries in the order they were added, so that oversized pairs are reported in a fixed order.
+     */
+    @Nonnull
+    private final Map<ArtemisObject, Entry> entries = new LinkedHashMap<>();
+    @Nonnull
+    private final Map<Long, Cell> cells = new HashMap<>();
+    @Nonnull
+    private final List<Entry> oversized = new ArrayList<>();
+
+    //
+    // Getters
+    //
+
+    /**
+     * Gets the length of one side of a cell.
+     *
+     * @return Cell size
+     */
+    @Nonnegative
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    //
+    // Objects
+    //
+
+    @Override
+    public void add(@Nonnull ArtemisObject object) {
+        if (entries.containsKey(object)) return;
+
+        final Entry entry = new Entry(object);
+        entries.put(object, entry);
+        insert(entry, object.getSolid().getBoundingBox());
+    }
+
+    @Override
+    public void remove(@Nonnull ArtemisObject object) {
+        final Entry entry = entries.remove(object);
+        if (entry == null) return;
+
+        detach(entry);
+    }
+
+    @Override
+    public void update(@Nonnull ArtemisObject object) {
+        update(object, object.getSolid().getBoundingBox());
+    }
+
+    @Override
+    public void update(@Nonnull ArtemisObject object, @Nonnull BoundingBox box) {
+        final Entry entry = entries.get(object);
+        if (entry == null) return;
+
+        // Same cells, only the cached bounds need refreshing
+        if (!entry.oversized
+                && entry.minX == cell(box.getMinX()) && entry.minY == cell(box.getMinY()) && entry.minZ == cell(box.getMinZ())
+                && entry.maxX == cell(box.getMaxX()) && entry.maxY == cell(box.getMaxY()) && entry.maxZ == cell(box.getMaxZ())) {
+            entry.box = box;
+            return;
+        }
+
+        detach(entry);
+        insert(entry, box);
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        cells.clear();
+        oversized.clear();
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    //
+    // Pairs
+    //
+
+    @Nonnull
+    @Override
+    public List<Pair<ArtemisObject>> getCandidatePairs() {
+        return getCandidatePairs(o -> true);
+    }
+
+    @Nonnull
+    @Override
+    public List<Pair<ArtemisObject>> getCandidatePairs(@Nonnull Predicate<ArtemisObject> active) {
+        final List<Pair<ArtemisObject>> pairs = new ArrayList<>();
+
+        for (Cell cell : cells.values()) {
+            final List<Entry> members = cell.members;
+
+            for (int i = 0; i < members.size(); i++) {
+                final Entry a = members.get(i);
+                final boolean activeA = active.test(a.object);
+
+                for (int j = i + 1; j < members.size(); j++) {
+                    final Entry b = members.get(j);
+                    if (!activeA && !active.test(b.object)) continue;
+
+                    // Only report the pair from the first cell both entries share
+                    if (Math.max(a.minX, b.minX) != cell.x) continue;
+                    if (Math.max(a.minY, b.minY) != cell.y) continue;
+                    if (Math.max(a.minZ, b.minZ) != cell.z) continue;
+
+                    if (a.box.overlaps(b.box)) pairs.add(new Pair<>(a.object, b.object));
+                }
+            }
+        }
+
+        // Oversized objects are tested against everything
+        for (int i = 0; i < oversized.size(); i++) {
+            final Entry a = oversized.get(i);
+            final boolean activeA = active.test(a.object);
+
+            for (int j = i + 1; j < oversized.size(); j++) {
+                final Entry b = oversized.get(j);
+                if (!activeA && !active.test(b.object)) continue;
+                if (a.box.overlaps(b.box)) pairs.add(new Pair<>(a.object, b.object));
+            }
+
+            for (Entry b : entries.values()) {
+                if (b.oversized) continue;
+                if (!activeA && !active.test(b.object)) continue;
+                if (a.box.overlaps(b.box)) pairs.add(new Pair<>(a.object, b.object));
+            }
+        }
+
+        return pairs;
+    }
+
+    //
+    // Internal methods
+    //
+
+    private int cell(double coordinate) {
+        final double c = Math.floor(coordinate / cellSize);
+        return (int) Math.max(-MAX_CELL_COORDINATE, Math.min(MAX_CELL_COORDINATE, c));
+    }
+
+    private static long key(int x, int y, int z) {
+        return ((long) (x & 0x1FFFFF) << 42) | ((long) (y & 0x1FFFFF) << 21) | (z & 0x1FFFFF);
+    }
+
+    private void insert(@Nonnull Entry entry, @Nonnull BoundingBox box) {
+        entry.box = box;
+        entry.minX = cell(box.getMinX());
+        entry.minY = cell(box.getMinY());
+        entry.minZ = cell(box.getMinZ());
+        entry.maxX = cell(box.getMaxX());
+        entry.maxY = cell(box.getMaxY());
+        entry.maxZ = cell(box.getMaxZ());
+
+        final long count = (long) (entry.maxX - entry.minX + 1)
+                * (entry.maxY - entry.minY + 1)
+                * (entry.maxZ - entry.minZ + 1);
+
+        if (count > MAX_CELLS_PER_OBJECT) {
+            entry.oversized = true;
+            oversized.add(entry);
+            return;
+        }
+
+        entry.oversized = false;
+        for (int x = entry.minX; x <= entry.maxX; x++) {
+            for (int y = entry.minY; y <= entry.maxY; y++) {
+                for (int z = entry.minZ; z <= entry.maxZ; z++) {
+                    final int cx = x, cy = y, cz = z;
+                    cells.computeIfAbsent(key(x, y, z), k -> new Cell(cx, cy, cz)).members.add(entry);
+                }
+            }
+        }
+    }
+
+    private void detach(@Nonnull Entry entry) {
+        if (entry.oversized) {
+            oversized.remove(entry);
+            return;
+        }
+
+        for (int x = entry.minX; x <= entry.maxX; x++) {
+            for (int y = entry.minY; y <= entry.maxY; y++) {
+                for (int z = entry.minZ; z <= entry.maxZ; z++) {
+                    final long key = key(x, y, z);
+                    final Cell cell = cells.get(key);
+                    if (cell == null) continue;
+
+                    cell.members.remove(entry);
+                    if (cell.members.isEmpty()) cells.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Internal class representing one indexed object.
+     */
+    private static final class Entry {
+        private Entry(@Nonnull ArtemisObject object) {
+            this.object = object;
+        }
+
+        @Nonnull
+        private final ArtemisObject object;
+        private BoundingBox box;
+        private boolean oversized;
+        private int minX, minY, minZ;
+        private int maxX, maxY, maxZ;
+    }
+
+    /**
+     * Internal class representing one cell of the grid.
+     */
+    private static final class Cell {
+        private Cell(int x, int y, int z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        private final int x, y, z;
+        @Nonnull
+        private final List<Entry> members = new ArrayList<>();
+    }
+}
@@ -0,0 +1,179 @@
+package oasis.artemis.util.concurrent;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <h2>BoundedQueue</h2>
+ * <p>
+ * A lock-free, bounded, array-backed queue.
+ * Any number of threads may offer and poll concurrently.
+ * </p>
+ * <p>
+ * Each slot of the ring buffer carries a sequence number, which tells producers and consumers
+ * whether the slot is ready for them. Claiming a slot is a single compare-and-set on the
+ * head or tail counter, so threads never block each other.
+ * </p>
+ *
+ * @param <E> Type of element to hold
+ */
+public final class BoundedQueue<E> {
+    //
+    // Constructors
+    //
+
+    /**
+     * Creates a new bounded queue.
+     * Capacity is rounded up to the next power of two, and is at least two.
+     *
+     * @param capacity Minimum capacity
+     * @throws IllegalArgumentException When capacity is not positive, or too large
+     */
+    public BoundedQueue(@Nonnegative int capacity) throws IllegalArgumentException {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30.");
+        }
+
+        // With a single slot, a full slot's sequence would equal the next tail, and read as free
+        final int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+
+        this.mask = size - 1;
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    //
+    // Variables
+    //
+
+    private final int mask;
+    @Nonnull
+    private final AtomicReferenceArray<E> buffer;
+    @Nonnull
+    private final AtomicLongArray sequences;
+    @Nonnull
+    private final AtomicLong head = new AtomicLong();
+    @Nonnull
+    private final AtomicLong tail = new AtomicLong();
+
+    //
+    // Getters
+    //
+
+    /**
+     * Gets the capacity of this queue.
+     *
+     * @return Capacity
+     */
+    @Nonnegative
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Gets the approximate number of elements in this queue.
+     * The value may be stale by the time it is returned.
+     *
+     * @return Number of elements
+     */
+    @Nonnegative
+    public int size() {
+        final long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    /**
+     * Checks if this queue is empty.
+     *
+     * @return {@code true} if there were no elements at the time of the call
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    //
+    // Queue
+    //
+
+    /**
+     * Adds an element to the tail of this queue, if there is room.
+     *
+     * @param element Element to add
+     * @return {@code true} if the element was added, {@code false} if this queue is full
+     */
+    public boolean offer(@Nonnull E element) {
+        long position = tail.get();
+
+        while (true) {
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer.set(index, element);
+                    sequences.set(index, position + 1); // Publish to consumers
+                    return true;
+                }
+
+                position = tail.get();
+            } else if (difference < 0) {
+                return false; // Full
+            } else {
+                position = tail.get(); // Another producer claimed this slot
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the head of this queue.
+     *
+     * @return Head element, {@code null} if this queue is empty
+     */
+    @Nullable
+    public E poll() {
+        long position = head.get();
+
+        while (true) {
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - (position + 1);
+
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    final E element = buffer.get(index);
+                    buffer.set(index, null);
+                    sequences.set(index, position + mask + 1); // Release to producers
+                    return element;
+                }
+
+                position = head.get();
+            } else if (difference < 0) {
+                return null; // Empty
+            } else {
+                position = head.get(); // Another consumer took this slot
+            }
+        }
+    }
+
+    /**
+     * Returns the element at the head of this queue without removing it.
+     * When other consumers are polling concurrently, the element may already be gone.
+     *
+     * @return Head element, {@code null} if this queue is empty
+     */
+    @Nullable
+    public E peek() {
+        final long position = head.get();
+        final int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) return null;
+
+        return buffer.get(index);
+    }
+}
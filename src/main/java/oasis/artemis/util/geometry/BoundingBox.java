@@ -0,0 +1,266 @@
+package oasis.artemis.util.geometry;
+
+import oasis.artemis.annotation.Numeric;
+import oasis.artemis.util.math.Vector;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * <h2>BoundingBox</h2>
+ * <p>
+ * An axis-aligned bounding box. (AABB)
+ * Bounding boxes are used as a cheap, conservative approximation of a solid's bounds.
+ * </p>
+ */
+@Immutable
+public class BoundingBox {
+    //
+    // Constructors
+    //
+
+    /**
+     * Creates a new bounding box.
+     *
+     * @param minimum Minimum corner of this box
+     * @param maximum Maximum corner of this box
+     */
+    public BoundingBox(@Nonnull Vector minimum, @Nonnull Vector maximum) {
+        this(
+                minimum.getX(), minimum.getY(), minimum.getZ(),
+                maximum.getX(), maximum.getY(), maximum.getZ()
+        );
+    }
+
+    /**
+     * Creates a new bounding box from raw coordinates.
+     *
+     * @param minX Minimum X
+     * @param minY Minimum Y
+     * @param minZ Minimum Z
+     * @param maxX Maximum X
+     * @param maxY Maximum Y
+     * @param maxZ Maximum Z
+     */
+    public BoundingBox(
+            @Numeric double minX,
+            @Numeric double minY,
+            @Numeric double minZ,
+            @Numeric double maxX,
+            @Numeric double maxY,
+            @Numeric double maxZ
+    ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+    }
+
+    /**
+     * Creates a bounding box which encloses a sphere.
+     *
+     * @param center Center of the sphere
+     * @param radius Radius of the sphere
+     * @return Bounding box of the sphere
+     */
+    @Nonnull
+    public static BoundingBox ofSphere(@Nonnull Vector center, @Nonnegative double radius) {
+        return new BoundingBox(
+                center.getX() - radius, center.getY() - radius, center.getZ() - radius,
+                center.getX() + radius, center.getY() + radius, center.getZ() + radius
+        );
+    }
+
+    //
+    // Variables
+    //
+
+    private final double minX;
+    private final double minY;
+    private final double minZ;
+    private final double maxX;
+    private final double maxY;
+    private final double maxZ;
+
+    //
+    // Getters
+    //
+
+    /**
+     * Gets the minimum corner of this box.
+     *
+     * @return Minimum corner
+     */
+    @Nonnull
+    public Vector getMinimum() {
+        return new Vector(minX, minY, minZ);
+    }
+
+    /**
+     * Gets the maximum corner of this box.
+     *
+     * @return Maximum corner
+     */
+    @Nonnull
+    public Vector getMaximum() {
+        return new Vector(maxX, maxY, maxZ);
+    }
+
+    /**
+     * Gets the minimum X value of this box.
+     *
+     * @return Minimum X
+     */
+    public double getMinX() {
+        return minX;
+    }
+
+    /**
+     * Gets the minimum Y value of this box.
+     *
+     * @return Minimum Y
+     */
+    public double getMinY() {
+        return minY;
+    }
+
+    /**
+     * Gets the minimum Z value of this box.
+     *
+     * @return Minimum Z
+     */
+    public double getMinZ() {
+        return minZ;
+    }
+
+    /**
+     * Gets the maximum X value of this box.
+     *
+     * @return Maximum X
+     */
+    public double getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * Gets the maximum Y value of this box.
+     *
+     * @return Maximum Y
+     */
+    public double getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Gets the maximum Z value of this box.
+     *
+     * @return Maximum Z
+     */
+    public double getMaxZ() {
+        return maxZ;
+    }
+
+    /**
+     * Gets the surface area of this box.
+     * This is used as a cost heuristic when building bounding volume hierarchies.
+     *
+     * @return Surface area
+     */
+    @Nonnegative
+    public double getSurfaceArea() {
+        final double dx = maxX - minX;
+        final double dy = maxY - minY;
+        final double dz = maxZ - minZ;
+
+        return 2 * (dx * dy + dy * dz + dz * dx);
+    }
+
+    //
+    // Util
+    //
+
+    /**
+     * Checks if this box overlaps with another.
+     * Touching boxes are considered overlapping.
+     *
+     * @param other Box to check
+     * @return {@code true} if the two boxes share at least one point
+     */
+    public boolean overlaps(@Nonnull BoundingBox other) {
+        return minX <= other.maxX && maxX >= other.minX
+                && minY <= other.maxY && maxY >= other.minY
+                && minZ <= other.maxZ && maxZ >= other.minZ;
+    }
+
+    /**
+     * Checks if this box fully encloses another.
+     *
+     * @param other Box to check
+     * @return {@code true} if {@code other} is within this box's bounds
+     */
+    public boolean contains(@Nonnull BoundingBox other) {
+        return minX <= other.minX && maxX >= other.maxX
+                && minY <= other.minY && maxY >= other.maxY
+                && minZ <= other.minZ && maxZ >= other.maxZ;
+    }
+
+    /**
+     * Returns the smallest box which encloses both this box and another.
+     *
+     * @param other Box to merge with
+     * @return Union of two boxes
+     */
+    @Nonnull
+    public BoundingBox union(@Nonnull BoundingBox other) {
+        return new BoundingBox(
+                Math.min(minX, other.minX), Math.min(minY, other.minY), Math.min(minZ, other.minZ),
+                Math.max(maxX, other.maxX), Math.max(maxY, other.maxY), Math.max(maxZ, other.maxZ)
+        );
+    }
+
+    /**
+     * Returns a box expanded by given margin in every direction.
+     *
+     * @param margin Margin to expand by
+     * @return Expanded box
+     */
+    @Nonnull
+    public BoundingBox expand(@Numeric double margin) {
+        return new BoundingBox(
+                minX - margin, minY - margin, minZ - margin,
+                maxX + margin, maxY + margin, maxZ + margin
+        );
+    }
+
+    /**
+     * Returns a box moved by given offset.
+     *
+     * @param offset Offset to move by
+     * @return Translated box
+     */
+    @Nonnull
+    public BoundingBox translate(@Nonnull Vector offset) {
+        final double x = offset.getX(), y = offset.getY(), z = offset.getZ();
+        return new BoundingBox(
+                minX + x, minY + y, minZ + z,
+                maxX + x, maxY + y, maxZ + z
+        );
+    }
+
+    /**
+     * Converts this bounding box to a string.
+     *
+     * @return Stringified bounding box
+     */
+    @Override
+    @Nonnull
+    public String toString() {
+        return "BoundingBox{" +
+                "min=" + getMinimum() +
+                ", max=" + getMaximum() +
+                '}';
+    }
+}
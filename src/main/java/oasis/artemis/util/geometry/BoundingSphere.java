@@ -0,0 +1,106 @@
+package oasis.artemis.util.geometry;
+
+import oasis.artemis.util.math.Vector;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * <h2>BoundingSphere</h2>
+ * <p>
+ * A sphere which encloses a solid.
+ * Unlike {@link BoundingBox}, bounding spheres do not change when their solid rotates,
+ * and are tested by comparing squared distances.
+ * </p>
+ */
+@Immutable
+public class BoundingSphere {
+    //
+    // Constructors
+    //
+
+    /**
+     * Creates a new bounding sphere.
+     *
+     * @param center Center of this sphere
+     * @param radius Radius of this sphere
+     */
+    public BoundingSphere(@Nonnull Vector center, @Nonnegative double radius) {
+        this.center = center;
+        this.radius = radius;
+    }
+
+    //
+    // Variables
+    //
+
+    @Nonnull
+    private final Vector center;
+    @Nonnegative
+    private final double radius;
+
+    //
+    // Getters
+    //
+
+    /**
+     * Gets the center of this sphere.
+     *
+     * @return Center
+     */
+    @Nonnull
+    public Vector getCenter() {
+        return center;
+    }
+
+    /**
+     * Gets the radius of this sphere.
+     *
+     * @return Radius
+     */
+    @Nonnegative
+    public double getRadius() {
+        return radius;
+    }
+
+    //
+    // Util
+    //
+
+    /**
+     * Checks if this sphere overlaps with another.
+     * Touching spheres are considered overlapping.
+     *
+     * @param other Sphere to check
+     * @return {@code true} if the two spheres share at least one point
+     */
+    public boolean overlaps(@Nonnull BoundingSphere other) {
+        final double r = radius + other.radius;
+        return center.distanceSquaredTo(other.center) <= r * r;
+    }
+
+    /**
+     * Checks if this sphere contains given point.
+     *
+     * @param point Point to check
+     * @return {@code true} if the point is within this sphere
+     */
+    public boolean contains(@Nonnull Vector point) {
+        return center.distanceSquaredTo(point) <= radius * radius;
+    }
+
+    /**
+     * Converts this bounding sphere to a string.
+     *
+     * @return Stringified bounding sphere
+     */
+    @Override
+    @Nonnull
+    public String toString() {
+        return "BoundingSphere{" +
+                "center=" + center +
+                ", radius=" + radius +
+                '}';
+    }
+}
@@ -1,6 +1,8 @@
 package oasis.artemis.util.geometry;
 
 import oasis.artemis.annotation.Numeric;
+import oasis.artemis.util.math.Matrix4;
+import oasis.artemis.util.math.MutableVector;
 import oasis.artemis.util.math.Quaternion;
 import oasis.artemis.util.math.Vector;
 
@@ -146,10 +148,28 @@ public class Vertex implements Iterable<Vector> {
      */
     @Nonnull
     public Vertex transform(@Nonnull Vector origin, @Nonnull Quaternion angle) {
+        final MutableVector v = new MutableVector();
+
+        return new Vertex(
+                v.set(p1).subtract(origin).rotate(angle).toVector(),
+                v.set(p2).subtract(origin).rotate(angle).toVector(),
+                v.set(p3).subtract(origin).rotate(angle).toVector(),
+                color
+        );
+    }
+
+    /**
+     * Transforms this vertex by an affine matrix.
+     *
+     * @param transform Matrix to transform by
+     * @return Transformed vertex
+     */
+    @Nonnull
+    public Vertex transform(@Nonnull Matrix4 transform) {
         return new Vertex(
-                p1.subtract(origin).rotate(angle),
-                p2.subtract(origin).rotate(angle),
-                p3.subtract(origin).rotate(angle),
+                transform.transform(p1),
+                transform.transform(p2),
+                transform.transform(p3),
                 color
         );
     }
@@ -0,0 +1,76 @@
+package oasis.artemis.util.geometry.profile;
+
+import oasis.artemis.object.ArtemisObject;
+import oasis.artemis.util.geometry.solid.Box;
+import oasis.artemis.util.geometry.solid.Solid;
+import oasis.artemis.util.math.Vector;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * <h2>BoxProfile</h2>
+ * <p>A box-shaped geometric profile.</p>
+ */
+@Immutable
+public class BoxProfile implements GeometricProfile {
+    /**
+     * Creates a new box profile.
+     *
+     * @param width  Width of this box (along the X axis)
+     * @param height Height of this box (along the Y axis)
+     * @param depth  Depth of this box (along the Z axis)
+     */
+    public BoxProfile(double width, double height, double depth) {
+        this.width = width;
+        this.height = height;
+        this.depth = depth;
+        this.halfExtents = new Vector(width, height, depth).divide(2);
+    }
+
+    @Nonnegative
+    private final double width;
+    @Nonnegative
+    private final double height;
+    @Nonnegative
+    private final double depth;
+    @Nonnull
+    private final Vector halfExtents;
+
+    /**
+     * Gets the width of this box profile.
+     *
+     * @return Width
+     */
+    @Nonnegative
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of this box profile.
+     *
+     * @return Height
+     */
+    @Nonnegative
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the depth of this box profile.
+     *
+     * @return Depth
+     */
+    @Nonnegative
+    public double getDepth() {
+        return depth;
+    }
+
+    @Nonnull
+    @Override
+    public Solid build(@Nonnull ArtemisObject parent) {
+        return new Box(parent.getLocation(), parent.getRotation(), halfExtents);
+    }
+}
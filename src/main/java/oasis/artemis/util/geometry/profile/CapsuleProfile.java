@@ -0,0 +1,58 @@
+package oasis.artemis.util.geometry.profile;
+
+import oasis.artemis.object.ArtemisObject;
+import oasis.artemis.util.geometry.solid.Capsule;
+import oasis.artemis.util.geometry.solid.Solid;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * <h2>CapsuleProfile</h2>
+ * <p>A capsular geometric profile, standing along the Y axis.</p>
+ */
+@Immutable
+public class CapsuleProfile implements GeometricProfile {
+    /**
+     * Creates a new capsular profile.
+     *
+     * @param radius Radius of this capsule
+     * @param height Length of this capsule's cylinder, excluding the caps
+     */
+    public CapsuleProfile(double radius, double height) {
+        this.radius = radius;
+        this.height = height;
+    }
+
+    @Nonnegative
+    private final double radius;
+    @Nonnegative
+    private final double height;
+
+    /**
+     * Gets the radius of this capsular profile.
+     *
+     * @return Radius
+     */
+    @Nonnegative
+    public double getRadius() {
+        return radius;
+    }
+
+    /**
+     * Gets the length of this capsular profile's cylinder.
+     *
+     * @return Height
+     */
+    @Nonnegative
+    public double getHeight() {
+        return height;
+    }
+
+    @Nonnull
+    @Override
+    public Solid build(@Nonnull ArtemisObject parent) {
+        return new Capsule(parent.getLocation(), parent.getRotation(), radius, height / 2);
+    }
+}
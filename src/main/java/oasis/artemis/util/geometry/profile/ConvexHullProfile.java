@@ -0,0 +1,50 @@
+package oasis.artemis.util.geometry.profile;
+
+import oasis.artemis.object.ArtemisObject;
+import oasis.artemis.util.geometry.solid.ConvexHull;
+import oasis.artemis.util.geometry.solid.Solid;
+import oasis.artemis.util.math.Quaternion;
+import oasis.artemis.util.math.Vector;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.util.List;
+
+/**
+ * <h2>ConvexHullProfile</h2>
+ * <p>
+ * A geometric profile enclosing a set of points relative to the parent object.
+ * The hull is built once, and only moved when the profile is built into a solid.
+ * </p>
+ */
+@Immutable
+public class ConvexHullProfile implements GeometricProfile {
+    /**
+     * Creates a new convex hull profile.
+     *
+     * @param points Points to enclose, relative to the parent object
+     * @throws IllegalArgumentException When the points do not span a volume
+     */
+    public ConvexHullProfile(@Nonnull List<Vector> points) throws IllegalArgumentException {
+        this.hull = new ConvexHull(Vector.ZERO, Quaternion.IDENTITY_QUATERNION, points);
+    }
+
+    @Nonnull
+    private final ConvexHull hull;
+
+    /**
+     * Gets the points on this convex hull profile.
+     *
+     * @return Points on the hull
+     */
+    @Nonnull
+    public List<Vector> getPoints() {
+        return hull.getPoints();
+    }
+
+    @Nonnull
+    @Override
+    public Solid build(@Nonnull ArtemisObject parent) {
+        return hull.moveTo(parent.getLocation(), parent.getRotation());
+    }
+}
@@ -0,0 +1,229 @@
+package oasis.artemis.util.geometry.solid;
+
+import oasis.artemis.util.collision.NarrowPhase;
+import oasis.artemis.util.geometry.BoundingBox;
+import oasis.artemis.util.geometry.BoundingSphere;
+import oasis.artemis.util.geometry.Vertex;
+import oasis.artemis.util.math.Matrix3;
+import oasis.artemis.util.math.Quaternion;
+import oasis.artemis.util.math.Vector;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>Box</h2>
+ * <p>
+ * An oriented box, which is a rectangular cuboid rotated by an arbitrary rotation.
+ * </p>
+ */
+@Immutable
+public class Box implements Solid {
+    //
+    // Constructors
+    //
+
+    /**
+     * Creates a new box.
+     *
+     * @param centroid    Centroid of the box
+     * @param rotation    Rotation of the box
+     * @param halfExtents Half of the box's width, height and depth, before rotation
+     */
+    public Box(@Nonnull Vector centroid, @Nonnull Quaternion rotation, @Nonnull Vector halfExtents) {
+        this.centroid = centroid;
+        this.rotation = rotation;
+        this.halfExtents = halfExtents;
+        this.boundingBox = getBoundingBox(centroid, rotation, halfExtents);
+        this.boundingSphere = new BoundingSphere(centroid, halfExtents.getMagnitude());
+    }
+
+    //
+    // Variables
+    //
+
+    @Nonnull
+    private final Vector centroid;
+    @Nonnull
+    private final Quaternion rotation;
+    @Nonnull
+    private final Vector halfExtents;
+    @Nonnull
+    private final BoundingBox boundingBox;
+    @Nonnull
+    private final BoundingSphere boundingSphere;
+
+    //
+    // Getters
+    //
+
+    @Override
+    @Nonnull
+    public Vector getCentroid() {
+        return centroid;
+    }
+
+    /**
+     * Gets the rotation of this box.
+     *
+     * @return Rotation
+     */
+    @Nonnull
+    public Quaternion getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the half extents of this box.
+     *
+     * @return Half of the width, height and depth
+     */
+    @Nonnull
+    public Vector getHalfExtents() {
+        return halfExtents;
+    }
+
+    @Override
+    public double getVolume() {
+        return 8 * halfExtents.getX() * halfExtents.getY() * halfExtents.getZ();
+    }
+
+    @Override
+    public double getSurfaceArea() {
+        final double x = halfExtents.getX(), y = halfExtents.getY(), z = halfExtents.getZ();
+        return 8 * (x * y + y * z + z * x);
+    }
+
+    @Override
+    public double getDragCoefficient(@Nonnull Vector angle) {
+        return 1.05;
+    }
+
+    @Override
+    public double getCrossSection(@Nonnull Vector angle) {
+        final Vector local = toLocal(angle).toUnitVector();
+        final double x = halfExtents.getX(), y = halfExtents.getY(), z = halfExtents.getZ();
+
+        // Each pair of faces contributes its area, foreshortened by the viewing angle
+        return 4 * (Math.abs(local.getX()) * y * z + Math.abs(local.getY()) * z * x + Math.abs(local.getZ()) * x * y);
+    }
+
+    @Nonnull
+    @Override
+    public List<Vector> getCorners() {
+        final List<Vector> corners = new ArrayList<>(8);
+
+        for (int i = 0; i < 8; i++) {
+            corners.add(toWorld(corner(i)));
+        }
+
+        return corners;
+    }
+
+    @Nonnull
+    @Override
+    public BoundingBox getBoundingBox() {
+        return boundingBox;
+    }
+
+    @Nonnull
+    @Override
+    public BoundingSphere getBoundingSphere() {
+        return boundingSphere;
+    }
+
+    @Nonnull
+    @Override
+    public List<Vertex> getVertices() {
+        final List<Vector> c = getCorners();
+
+        return List.of(
+                new Vertex(c.get(0), c.get(2), c.get(1), Color.RED),
+                new Vertex(c.get(1), c.get(2), c.get(3), Color.RED),
+                new Vertex(c.get(4), c.get(5), c.get(6), Color.BLUE),
+                new Vertex(c.get(5), c.get(7), c.get(6), Color.BLUE),
+                new Vertex(c.get(0), c.get(1), c.get(4), Color.GREEN),
+                new Vertex(c.get(1), c.get(5), c.get(4), Color.GREEN),
+                new Vertex(c.get(2), c.get(6), c.get(3), Color.CYAN),
+                new Vertex(c.get(3), c.get(6), c.get(7), Color.CYAN),
+                new Vertex(c.get(0), c.get(4), c.get(2), Color.PINK),
+                new Vertex(c.get(2), c.get(4), c.get(6), Color.PINK),
+                new Vertex(c.get(1), c.get(3), c.get(5), Color.YELLOW),
+                new Vertex(c.get(3), c.get(7), c.get(5), Color.YELLOW)
+        );
+    }
+
+    //
+    // Util
+    //
+
+    @Override
+    public boolean contains(@Nonnull Vector point) {
+        final Vector local = toLocal(point.subtract(centroid));
+
+        return Math.abs(local.getX()) <= halfExtents.getX()
+                && Math.abs(local.getY()) <= halfExtents.getY()
+                && Math.abs(local.getZ()) <= halfExtents.getZ();
+    }
+
+    @Override
+    public boolean overlaps(@Nonnull Solid other) {
+        return NarrowPhase.intersects(this, other);
+    }
+
+    @Nonnull
+    @Override
+    public Vector support(@Nonnull Vector direction) {
+        final Vector local = toLocal(direction);
+
+        return toWorld(new Vector(
+                local.getX() < 0 ? -halfExtents.getX() : halfExtents.getX(),
+                local.getY() < 0 ? -halfExtents.getY() : halfExtents.getY(),
+                local.getZ() < 0 ? -halfExtents.getZ() : halfExtents.getZ()
+        ));
+    }
+
+    //
+    // Internal methods
+    //
+
+    /**
+     * Gets a corner in local space. Bits 2, 1 and 0 of the index select the sign of X, Y and Z respectively.
+     */
+    @Nonnull
+    private Vector corner(int index) {
+        return new Vector(
+                (index & 4) == 0 ? -halfExtents.getX() : halfExtents.getX(),
+                (index & 2) == 0 ? -halfExtents.getY() : halfExtents.getY(),
+                (index & 1) == 0 ? -halfExtents.getZ() : halfExtents.getZ()
+        );
+    }
+
+    @Nonnull
+    private static BoundingBox getBoundingBox(@Nonnull Vector centroid, @Nonnull Quaternion rotation, @Nonnull Vector halfExtents) {
+        final double[] r = Matrix3.fromRotation(rotation).getValues();
+        final double x = halfExtents.getX(), y = halfExtents.getY(), z = halfExtents.getZ();
+
+        // Extent of the rotated box along each world axis
+        final Vector extent = new Vector(
+                Math.abs(r[0]) * x + Math.abs(r[1]) * y + Math.abs(r[2]) * z,
+                Math.abs(r[3]) * x + Math.abs(r[4]) * y + Math.abs(r[5]) * z,
+                Math.abs(r[6]) * x + Math.abs(r[7]) * y + Math.abs(r[8]) * z
+        );
+
+        return new BoundingBox(centroid.subtract(extent), centroid.add(extent));
+    }
+
+    @Nonnull
+    private Vector toLocal(@Nonnull Vector v) {
+        return v.rotate(rotation.getConjugate());
+    }
+
+    @Nonnull
+    private Vector toWorld(@Nonnull Vector local) {
+        return centroid.add(local.rotate(rotation));
+    }
+}
@@ -0,0 +1,234 @@
+package oasis.artemis.util.geometry.solid;
+
+import oasis.artemis.util.collision.NarrowPhase;
+import oasis.artemis.util.geometry.BoundingBox;
+import oasis.artemis.util.geometry.BoundingSphere;
+import oasis.artemis.util.geometry.Vertex;
+import oasis.artemis.util.math.Quaternion;
+import oasis.artemis.util.math.Vector;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>Capsule</h2>
+ * <p>
+ * A capsular solid, which is a cylinder capped by two hemispheres.
+ * Before rotation, the axis of the capsule is the Y axis.
+ * </p>
+ */
+@Immutable
+public class Capsule implements Solid {
+    //
+    // Constants
+    //
+
+    /**
+     * The number of segments around the axis used to approximate this capsule when rendering.
+     */
+    private static final int SEGMENTS = 8;
+
+    //
+    // Constructors
+    //
+
+    /**
+     * Creates a new capsule.
+     *
+     * @param centroid   Centroid of the capsule
+     * @param rotation   Rotation of the capsule
+     * @param radius     Radius of the cylinder and its caps
+     * @param halfHeight Half of the length of the cylinder, excluding the caps
+     */
+    public Capsule(@Nonnull Vector centroid, @Nonnull Quaternion rotation, double radius, double halfHeight) {
+        this.centroid = centroid;
+        this.rotation = rotation;
+        this.radius = radius;
+        this.halfHeight = halfHeight;
+        this.axis = Vector.POSITIVE_Y.rotate(rotation).multiply(halfHeight);
+
+        final Vector extent = new Vector(
+                Math.abs(axis.getX()) + radius,
+                Math.abs(axis.getY()) + radius,
+                Math.abs(axis.getZ()) + radius
+        );
+
+        this.boundingBox = new BoundingBox(centroid.subtract(extent), centroid.add(extent));
+        this.boundingSphere = new BoundingSphere(centroid, halfHeight + radius);
+    }
+
+    //
+    // Variables
+    //
+
+    @Nonnull
+    private final Vector centroid;
+    @Nonnull
+    private final Quaternion rotation;
+    @Nonnegative
+    private final double radius;
+    @Nonnegative
+    private final double halfHeight;
+
+    /**
+     * Vector from the centroid to the center of the top cap.
+     */
+    @Nonnull
+    private final Vector axis;
+
+    @Nonnull
+    private final BoundingBox boundingBox;
+    @Nonnull
+    private final BoundingSphere boundingSphere;
+
+    //
+    // Getters
+    //
+
+    @Override
+    @Nonnull
+    public Vector getCentroid() {
+        return centroid;
+    }
+
+    /**
+     * Gets the rotation of this capsule.
+     *
+     * @return Rotation
+     */
+    @Nonnull
+    public Quaternion getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the radius of this capsule.
+     *
+     * @return Radius
+     */
+    @Nonnegative
+    public double getRadius() {
+        return radius;
+    }
+
+    /**
+     * Gets half of the length of this capsule's cylinder.
+     *
+     * @return Half height
+     */
+    @Nonnegative
+    public double getHalfHeight() {
+        return halfHeight;
+    }
+
+    @Override
+    public double getVolume() {
+        return Math.PI * radius * radius * (2 * halfHeight + 4.0 / 3.0 * radius);
+    }
+
+    @Override
+    public double getSurfaceArea() {
+        return 4 * Math.PI * radius * (halfHeight + radius);
+    }
+
+    @Override
+    public double getDragCoefficient(@Nonnull Vector angle) {
+        // Blunt like a sphere when viewed along the axis, like a cylinder when viewed from the side
+        return 0.5 + 0.5 * getSine(angle);
+    }
+
+    @Override
+    public double getCrossSection(@Nonnull Vector angle) {
+        return Math.PI * radius * radius + 4 * radius * halfHeight * getSine(angle);
+    }
+
+    @Nonnull
+    @Override
+    public List<Vector> getCorners() {
+        return new ArrayList<>();
+    }
+
+    @Nonnull
+    @Override
+    public BoundingBox getBoundingBox() {
+        return boundingBox;
+    }
+
+    @Nonnull
+    @Override
+    public BoundingSphere getBoundingSphere() {
+        return boundingSphere;
+    }
+
+    @Nonnull
+    @Override
+    public List<Vertex> getVertices() {
+        final Vector top = centroid.add(axis);
+        final Vector bottom = centroid.subtract(axis);
+        final Vector topPole = centroid.add(new Vector(0, halfHeight + radius, 0).rotate(rotation));
+        final Vector bottomPole = centroid.add(new Vector(0, -halfHeight - radius, 0).rotate(rotation));
+
+        final List<Vector> ring = new ArrayList<>(SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            final double theta = 2 * Math.PI * i / SEGMENTS;
+            ring.add(new Vector(radius * Math.cos(theta), 0, radius * Math.sin(theta)).rotate(rotation));
+        }
+
+        final List<Vertex> vertices = new ArrayList<>(SEGMENTS * 4);
+        for (int i = 0; i < SEGMENTS; i++) {
+            final Vector r1 = ring.get(i);
+            final Vector r2 = ring.get((i + 1) % SEGMENTS);
+            final Color color = i % 2 == 0 ? Color.BLUE : Color.CYAN;
+
+            vertices.add(new Vertex(topPole, top.add(r2), top.add(r1), color));
+            vertices.add(new Vertex(top.add(r1), top.add(r2), bottom.add(r1), color));
+            vertices.add(new Vertex(top.add(r2), bottom.add(r2), bottom.add(r1), color));
+            vertices.add(new Vertex(bottomPole, bottom.add(r1), bottom.add(r2), color));
+        }
+
+        return vertices;
+    }
+
+    //
+    // Util
+    //
+
+    @Override
+    public boolean contains(@Nonnull Vector point) {
+        final Vector relative = point.subtract(centroid);
+
+        // Closest point on the axis, clamped to the cylinder
+        final double length = axis.dot(axis);
+        final double t = length == 0 ? 0 : Math.max(-1, Math.min(1, relative.dot(axis) / length));
+
+        return relative.distanceSquaredTo(axis.multiply(t)) <= radius * radius;
+    }
+
+    @Override
+    public boolean overlaps(@Nonnull Solid other) {
+        return NarrowPhase.intersects(this, other);
+    }
+
+    @Nonnull
+    @Override
+    public Vector support(@Nonnull Vector direction) {
+        final Vector end = centroid.add(direction.dot(axis) < 0 ? axis.negate() : axis);
+        return end.add(direction.toUnitVector().multiply(radius));
+    }
+
+    //
+    // Internal methods
+    //
+
+    /**
+     * Gets the sine of the angle between the axis and given direction.
+     */
+    private double getSine(@Nonnull Vector angle) {
+        final double cosine = Vector.POSITIVE_Y.rotate(rotation).dot(angle.toUnitVector());
+        return Math.sqrt(Math.max(0, 1 - cosine * cosine));
+    }
+}
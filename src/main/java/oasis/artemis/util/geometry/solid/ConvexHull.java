@@ -0,0 +1,461 @@
+package oasis.artemis.util.geometry.solid;
+
+import oasis.artemis.util.collision.NarrowPhase;
+import oasis.artemis.util.geometry.BoundingBox;
+import oasis.artemis.util.geometry.BoundingSphere;
+import oasis.artemis.util.geometry.Vertex;
+import oasis.artemis.util.math.Quaternion;
+import oasis.artemis.util.math.Vector;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * <h2>ConvexHull</h2>
+ * <p>
+ * The smallest convex solid enclosing a set of points.
+ * The points are given relative to the centroid, before rotation.
+ * </p>
+ * <p>
+ * Building the hull costs {@code O(n^2)} for {@code n} points, so a hull which only moves
+ * should be repositioned with {@link ConvexHull#moveTo(Vector, Quaternion)}, which reuses the hull.
+ * </p>
+ */
+@Immutable
+public class ConvexHull implements Solid {
+    //
+    // Constructors
+    //
+
+    /**
+     * Creates a new convex hull.
+     *
+     * @param centroid Centroid of the hull
+     * @param rotation Rotation of the hull
+     * @param points   Points to enclose, relative to the centroid
+     * @throws IllegalArgumentException When the points do not span a volume (fewer than four points, or all coplanar)
+     */
+    public ConvexHull(@Nonnull Vector centroid, @Nonnull Quaternion rotation, @Nonnull List<Vector> points)
+            throws IllegalArgumentException {
+        this.centroid = centroid;
+        this.rotation = rotation;
+
+        final List<int[]> faces = build(points);
+        final List<Vector> hull = new ArrayList<>();
+        final int[] indices = new int[points.size()];
+        Arrays.fill(indices, -1);
+
+        // Only keep the points which ended up on the hull
+        this.faces = new int[faces.size()][];
+        for (int i = 0; i < faces.size(); i++) {
+            final int[] face = faces.get(i);
+            this.faces[i] = new int[3];
+
+            for (int j = 0; j < 3; j++) {
+                if (indices[face[j]] < 0) {
+                    indices[face[j]] = hull.size();
+                    hull.add(points.get(face[j]));
+                }
+
+                this.faces[i][j] = indices[face[j]];
+            }
+        }
+
+        this.points = List.copyOf(hull);
+        this.normals = new Vector[this.faces.length];
+        this.areas = new double[this.faces.length];
+
+        for (int i = 0; i < this.faces.length; i++) {
+            final Vector a = hull.get(this.faces[i][0]);
+            final Vector cross = hull.get(this.faces[i][1]).subtract(a).cross(hull.get(this.faces[i][2]).subtract(a));
+            final double length = cross.getMagnitude();
+
+            this.normals[i] = cross.divide(length);
+            this.areas[i] = length / 2;
+        }
+
+        double extent = 0;
+        for (Vector point : this.points) {
+            extent = Math.max(extent, point.getMagnitude());
+        }
+
+        this.extent = extent;
+        this.boundingBox = getBoundingBox(centroid, rotation, this.points);
+        this.boundingSphere = new BoundingSphere(centroid, extent);
+    }
+
+    /**
+     * Creates a copy of a hull at a different position.
+     */
+    private ConvexHull(@Nonnull ConvexHull hull, @Nonnull Vector centroid, @Nonnull Quaternion rotation) {
+        this.centroid = centroid;
+        this.rotation = rotation;
+        this.points = hull.points;
+        this.faces = hull.faces;
+        this.normals = hull.normals;
+        this.areas = hull.areas;
+        this.extent = hull.extent;
+        this.boundingBox = getBoundingBox(centroid, rotation, this.points);
+        this.boundingSphere = new BoundingSphere(centroid, extent);
+    }
+
+    //
+    // Variables
+    //
+
+    @Nonnull
+    private final Vector centroid;
+    @Nonnull
+    private final Quaternion rotation;
+
+    /**
+     * Points on the hull, in local space.
+     */
+    @Nonnull
+    private final List<Vector> points;
+
+    /**
+     * Indices of each face's points, wound counter-clockwise when viewed from outside.
+     */
+    @Nonnull
+    private final int[][] faces;
+
+    /**
+     * Outward unit normal of each face, in local space.
+     */
+    @Nonnull
+    private final Vector[] normals;
+
+    /**
+     * Area of each face.
+     */
+    @Nonnull
+    private final double[] areas;
+
+    /**
+     * Distance of the furthest point from the centroid.
+     */
+    private final double extent;
+
+    @Nonnull
+    private final BoundingBox boundingBox;
+    @Nonnull
+    private final BoundingSphere boundingSphere;
+
+    //
+    // Getters
+    //
+
+    @Override
+    @Nonnull
+    public Vector getCentroid() {
+        return centroid;
+    }
+
+    /**
+     * Gets the rotation of this hull.
+     *
+     * @return Rotation
+     */
+    @Nonnull
+    public Quaternion getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the points on this hull, relative to the centroid and before rotation.
+     * Points which were enclosed by the hull are not included.
+     *
+     * @return Points on the hull
+     */
+    @Nonnull
+    public List<Vector> getPoints() {
+        return points;
+    }
+
+    @Override
+    public double getVolume() {
+        double volume = 0;
+
+        // Sum of the signed tetrahedra between the origin and each face
+        for (int[] face : faces) {
+            volume += points.get(face[0]).dot(points.get(face[1]).cross(points.get(face[2])));
+        }
+
+        return volume / 6;
+    }
+
+    @Override
+    public double getSurfaceArea() {
+        double area = 0;
+
+        for (double a : areas) {
+            area += a;
+        }
+
+        return area;
+    }
+
+    @Override
+    public double getDragCoefficient(@Nonnull Vector angle) {
+        return 0.8;
+    }
+
+    @Override
+    public double getCrossSection(@Nonnull Vector angle) {
+        final Vector local = toLocal(angle).toUnitVector();
+        double area = 0;
+
+        // Front and back faces both cover the silhouette exactly once
+        for (int i = 0; i < faces.length; i++) {
+            area += Math.abs(normals[i].dot(local)) * areas[i];
+        }
+
+        return area / 2;
+    }
+
+    @Nonnull
+    @Override
+    public List<Vector> getCorners() {
+        final List<Vector> corners = new ArrayList<>(points.size());
+
+        for (Vector point : points) {
+            corners.add(toWorld(point));
+        }
+
+        return corners;
+    }
+
+    @Nonnull
+    @Override
+    public BoundingBox getBoundingBox() {
+        return boundingBox;
+    }
+
+    @Nonnull
+    @Override
+    public BoundingSphere getBoundingSphere() {
+        return boundingSphere;
+    }
+
+    @Nonnull
+    @Override
+    public List<Vertex> getVertices() {
+        final List<Vector> corners = getCorners();
+        final List<Vertex> vertices = new ArrayList<>(faces.length);
+
+        for (int i = 0; i < faces.length; i++) {
+            final int[] face = faces[i];
+            vertices.add(new Vertex(
+                    corners.get(face[0]),
+                    corners.get(face[1]),
+                    corners.get(face[2]),
+                    i % 2 == 0 ? Color.GREEN : Color.CYAN
+            ));
+        }
+
+        return vertices;
+    }
+
+    //
+    // Util
+    //
+
+    @Override
+    public boolean contains(@Nonnull Vector point) {
+        final Vector local = toLocal(point.subtract(centroid));
+
+        for (int i = 0; i < faces.length; i++) {
+            if (normals[i].dot(local.subtract(points.get(faces[i][0]))) > 0) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean overlaps(@Nonnull Solid other) {
+        return NarrowPhase.intersects(this, other);
+    }
+
+    @Nonnull
+    @Override
+    public Vector support(@Nonnull Vector direction) {
+        final Vector local = toLocal(direction);
+
+        Vector furthest = points.get(0);
+        double max = furthest.dot(local);
+
+        for (Vector point : points) {
+            final double dot = point.dot(local);
+            if (dot > max) {
+                max = dot;
+                furthest = point;
+            }
+        }
+
+        return toWorld(furthest);
+    }
+
+    /**
+     * Gets this hull at a different position, without rebuilding it.
+     *
+     * @param centroid Centroid of the new hull
+     * @param rotation Rotation of the new hull
+     * @return Moved hull
+     */
+    @Nonnull
+    public ConvexHull moveTo(@Nonnull Vector centroid, @Nonnull Quaternion rotation) {
+        return new ConvexHull(this, centroid, rotation);
+    }
+
+    //
+    // Internal methods
+    //
+
+    @Nonnull
+    private static BoundingBox getBoundingBox(
+            @Nonnull Vector centroid,
+            @Nonnull Quaternion rotation,
+            @Nonnull List<Vector> points
+    ) {
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY, minZ = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+
+        for (Vector point : points) {
+            final Vector corner = centroid.add(point.rotate(rotation));
+            minX = Math.min(minX, corner.getX());
+            minY = Math.min(minY, corner.getY());
+            minZ = Math.min(minZ, corner.getZ());
+            maxX = Math.max(maxX, corner.getX());
+            maxY = Math.max(maxY, corner.getY());
+            maxZ = Math.max(maxZ, corner.getZ());
+        }
+
+        return new BoundingBox(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    @Nonnull
+    private Vector toLocal(@Nonnull Vector v) {
+        return v.rotate(rotation.getConjugate());
+    }
+
+    @Nonnull
+    private Vector toWorld(@Nonnull Vector local) {
+        return centroid.add(local.rotate(rotation));
+    }
+
+    /**
+     * Builds the hull incrementally, adding one point at a time to an initial tetrahedron.
+     *
+     * @return Faces of the hull, as outward-wound indices into the given points
+     */
+    @Nonnull
+    private static List<int[]> build(@Nonnull List<Vector> points) throws IllegalArgumentException {
+        if (points.size() < 4) {
+            throw new IllegalArgumentException("A convex hull requires at least four points.");
+        }
+
+        double scale = 0;
+        for (Vector point : points) {
+            scale = Math.max(scale, Math.max(Math.abs(point.getX()), Math.max(Math.abs(point.getY()), Math.abs(point.getZ()))));
+        }
+
+        final double epsilon = 1e-9 * scale;
+
+        // Initial tetrahedron, from the points furthest apart
+        final int a = 0;
+        final int b = furthest(points, i -> points.get(i).distanceTo(points.get(a)));
+        final Vector ab = points.get(b).subtract(points.get(a));
+        if (ab.getMagnitude() <= epsilon) {
+            throw new IllegalArgumentException("Cannot build a convex hull from coincident points.");
+        }
+
+        final int c = furthest(points, i -> points.get(i).subtract(points.get(a)).cross(ab).getMagnitude() / ab.getMagnitude());
+        final Vector normal = ab.cross(points.get(c).subtract(points.get(a))).toUnitVector();
+        final int d = furthest(points, i -> Math.abs(points.get(i).subtract(points.get(a)).dot(normal)));
+
+        if (Math.abs(points.get(d).subtract(points.get(a)).dot(normal)) <= epsilon || normal.equals(Vector.ZERO)) {
+            throw new IllegalArgumentException("Cannot build a convex hull from coplanar points.");
+        }
+
+        final Vector interior = points.get(a).add(points.get(b)).add(points.get(c)).add(points.get(d)).multiply(0.25);
+
+        final List<int[]> faces = new ArrayList<>();
+        faces.add(orient(points, interior, a, b, c));
+        faces.add(orient(points, interior, a, b, d));
+        faces.add(orient(points, interior, a, c, d));
+        faces.add(orient(points, interior, b, c, d));
+
+        for (int i = 0; i < points.size(); i++) {
+            if (i == a || i == b || i == c || i == d) continue;
+
+            final Vector point = points.get(i);
+            final List<int[]> horizon = new ArrayList<>();
+
+            // Remove every face the point can see, and remember the edges of the hole
+            for (int j = faces.size() - 1; j >= 0; j--) {
+                final int[] face = faces.get(j);
+                if (distance(points, face, point) <= epsilon) continue;
+
+                addEdge(horizon, face[0], face[1]);
+                addEdge(horizon, face[1], face[2]);
+                addEdge(horizon, face[2], face[0]);
+                faces.remove(j);
+            }
+
+            // Patch the hole with faces towards the point
+            for (int[] edge : horizon) {
+                faces.add(new int[]{edge[0], edge[1], i});
+            }
+        }
+
+        return faces;
+    }
+
+    @Nonnull
+    private static int[] orient(@Nonnull List<Vector> points, @Nonnull Vector interior, int a, int b, int c) {
+        final int[] face = {a, b, c};
+        return distance(points, face, interior) > 0 ? new int[]{a, c, b} : face;
+    }
+
+    /**
+     * Gets the signed distance of a point from the plane of a face, positive in front of the face.
+     */
+    private static double distance(@Nonnull List<Vector> points, @Nonnull int[] face, @Nonnull Vector point) {
+        final Vector a = points.get(face[0]);
+        final Vector normal = points.get(face[1]).subtract(a).cross(points.get(face[2]).subtract(a)).toUnitVector();
+        return normal.dot(point.subtract(a));
+    }
+
+    private static void addEdge(@Nonnull List<int[]> horizon, int from, int to) {
+        for (int i = 0; i < horizon.size(); i++) {
+            final int[] edge = horizon.get(i);
+            if (edge[0] == to && edge[1] == from) {
+                horizon.remove(i);
+                return;
+            }
+        }
+
+        horizon.add(new int[]{from, to});
+    }
+
+    private static int furthest(@Nonnull List<Vector> points, @Nonnull IntToDoubleFunction distance) {
+        int furthest = 0;
+        double max = Double.NEGATIVE_INFINITY;
+
+        for (int i = 0; i < points.size(); i++) {
+            final double d = distance.applyAsDouble(i);
+            if (d > max) {
+                max = d;
+                furthest = i;
+            }
+        }
+
+        return furthest;
+    }
+}
@@ -1,10 +1,15 @@
 package oasis.artemis.util.geometry.solid;
 
+import oasis.artemis.util.collision.Contact;
+import oasis.artemis.util.collision.NarrowPhase;
+import oasis.artemis.util.geometry.BoundingBox;
+import oasis.artemis.util.geometry.BoundingSphere;
 import oasis.artemis.util.geometry.Vertex;
 import oasis.artemis.util.math.Vector;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 import java.util.List;
 
@@ -70,6 +75,24 @@ public interface Solid {
     @Nonnull
     List<Vector> getCorners();
 
+    /**
+     * Gets the axis-aligned bounding box of this solid.
+     * This is computed once when the solid is built, so it is cheap enough to test before any exact check.
+     *
+     * @return Bounding box
+     */
+    @Nonnull
+    BoundingBox getBoundingBox();
+
+    /**
+     * Gets a sphere which encloses this solid.
+     * This is computed once when the solid is built.
+     *
+     * @return Bounding sphere
+     */
+    @Nonnull
+    BoundingSphere getBoundingSphere();
+
     //
     // Vertices
     //
@@ -101,4 +124,25 @@ public interface Solid {
      * @return {@code true} if the solids overlap
      */
     boolean overlaps(@Nonnull Solid other);
+
+    /**
+     * Gets the point of this solid which is furthest in given direction.
+     * Every solid is convex, so this fully describes its shape to {@link NarrowPhase}.
+     *
+     * @param direction Direction to search in, which does not need to be a unit vector
+     * @return Furthest point in given direction
+     */
+    @Nonnull
+    Vector support(@Nonnull Vector direction);
+
+    /**
+     * Gets the contact between this solid and the other.
+     *
+     * @param other Other solid
+     * @return Contact with a normal pointing from this solid towards the other, {@code null} if the solids do not overlap
+     */
+    @Nullable
+    default Contact getContact(@Nonnull Solid other) {
+        return NarrowPhase.getContact(this, other);
+    }
 }
@@ -0,0 +1,114 @@
+package oasis.artemis.util.geometry.solid;
+
+import oasis.artemis.object.ArtemisObject;
+import oasis.artemis.util.geometry.profile.GeometricProfile;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h2>SolidCache</h2>
+ * <p>
+ * Caches the solid of one object.
+ * The cached solid is reused for as long as the object's transform version and geometric profile
+ * stay the same, which means it is only rebuilt after the object has moved, rotated or changed shape.
+ * </p>
+ * <p>
+ * Hits and misses of every cache are counted globally.
+ * </p>
+ */
+public final class SolidCache {
+    //
+    // Statistics
+    //
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    /**
+     * Gets the number of times a cached solid was reused.
+     *
+     * @return Number of hits
+     */
+    @Nonnegative
+    public static long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of times a solid had to be built.
+     *
+     * @return Number of misses
+     */
+    @Nonnegative
+    public static long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the ratio of hits to total lookups.
+     *
+     * @return Hit ratio between {@code 0} and {@code 1}, {@code 0} if there were no lookups
+     */
+    @Nonnegative
+    public static double getHitRatio() {
+        final long h = getHits();
+        final long total = h + getMisses();
+
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    /**
+     * Resets the hit and miss counters.
+     */
+    public static void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+
+    //
+    // Cache
+    //
+
+    /**
+     * The current entry. Replaced as a whole so that readers on other threads
+     * never observe a solid paired with the wrong version.
+     */
+    @Nullable
+    private volatile Entry entry = null;
+
+    /**
+     * Gets the solid of given object, building it only if the cached one is stale.
+     *
+     * @param parent   Object the solid belongs to
+     * @param geometry Current geometric profile of the object
+     * @param version  Current transform version of the object
+     * @return Solid
+     */
+    @Nonnull
+    public Solid get(@Nonnull ArtemisObject parent, @Nonnull GeometricProfile geometry, long version) {
+        final Entry e = entry;
+        if (e != null && e.version == version && e.geometry == geometry) {
+            hits.increment();
+            return e.solid;
+        }
+
+        misses.increment();
+
+        final Solid solid = geometry.build(parent);
+        entry = new Entry(solid, geometry, version);
+
+        return solid;
+    }
+
+    /**
+     * Discards the cached solid.
+     */
+    public void invalidate() {
+        entry = null;
+    }
+
+    private record Entry(@Nonnull Solid solid, @Nonnull GeometricProfile geometry, long version) {}
+}
@@ -1,5 +1,8 @@
 package oasis.artemis.util.geometry.solid;
 
+import oasis.artemis.util.collision.NarrowPhase;
+import oasis.artemis.util.geometry.BoundingBox;
+import oasis.artemis.util.geometry.BoundingSphere;
 import oasis.artemis.util.geometry.Vertex;
 import oasis.artemis.util.math.Quaternion;
 import oasis.artemis.util.math.Vector;
@@ -32,6 +35,8 @@ public class Sphere implements Solid {
         this.centroid = centroid;
         this.rotation = rotation;
         this.radius = radius;
+        this.boundingBox = BoundingBox.ofSphere(centroid, radius);
+        this.boundingSphere = new BoundingSphere(centroid, radius);
     }
 
     //
@@ -43,6 +48,10 @@ public class Sphere implements Solid {
     private final Quaternion rotation;
     @Nonnegative
     private final double radius;
+    @Nonnull
+    private final BoundingBox boundingBox;
+    @Nonnull
+    private final BoundingSphere boundingSphere;
 
     //
     // Getters
@@ -81,7 +90,7 @@ public class Sphere implements Solid {
 
     @Override
     public double getSurfaceArea() {
-        return 4 * Math.PI * Math.pow(radius, 2);
+        return 4 * Math.PI * radius * radius;
     }
 
     @Override
@@ -91,7 +100,7 @@ public class Sphere implements Solid {
 
     @Override
     public double getCrossSection(@Nonnull Vector angle) {
-        return Math.PI * Math.pow(radius, 2);
+        return Math.PI * radius * radius;
     }
 
     @Nonnull
@@ -100,6 +109,18 @@ public class Sphere implements Solid {
         return new ArrayList<>();
     }
 
+    @Nonnull
+    @Override
+    public BoundingBox getBoundingBox() {
+        return boundingBox;
+    }
+
+    @Nonnull
+    @Override
+    public BoundingSphere getBoundingSphere() {
+        return boundingSphere;
+    }
+
     @Nonnull
     @Override
     public List<Vertex> getVertices() {
@@ -124,19 +145,23 @@ public class Sphere implements Solid {
 
     @Override
     public boolean contains(@Nonnull Vector point) {
-        return centroid.distanceTo(point) <= radius;
+        return centroid.distanceSquaredTo(point) <= radius * radius;
     }
 
     @Override
     public boolean overlaps(@Nonnull Solid other) {
         if (other instanceof Sphere sphere) {
-            return centroid.distanceTo(sphere.centroid) <= (radius + sphere.radius);
+            final double r = radius + sphere.radius;
+            return centroid.distanceSquaredTo(sphere.centroid) <= r * r;
         } else {
-            for (Vector corner : other.getCorners()) {
-                if (contains(corner)) return true;
-            }
-
-            return false;
+            return NarrowPhase.intersects(this, other);
         }
     }
+
+    @Nonnull
+    @Override
+    public Vector support(@Nonnull Vector direction) {
+        final Vector unit = direction.toUnitVector();
+        return centroid.add((unit.equals(Vector.ZERO) ? Vector.POSITIVE_X : unit).multiply(radius));
+    }
 }
@@ -109,6 +109,17 @@ public class Pair<T> implements Iterable<T> {
                 || (Objects.equals(second, pair.first) && Objects.equals(first, pair.second));
     }
 
+    /**
+     * Gets the hash code of this pair.
+     * This is consistent with {@link Pair#equals(Object)}, and does not depend on the elements' order.
+     *
+     * @return Hash code
+     */
+    @Override
+    public int hashCode() {
+        return first.hashCode() + second.hashCode();
+    }
+
     //
     // Util
     //
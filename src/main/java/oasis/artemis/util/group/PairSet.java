@@ -0,0 +1,161 @@
+package oasis.artemis.util.group;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h2>PairSet</h2>
+ * <p>
+ * A hash-indexed set of {@link Pair}s.
+ * Like pairs themselves, membership does not depend on the order of elements.
+ * </p>
+ * <p>
+ * Every element keeps an adjacency set of the elements it is paired with,
+ * so looking up the partners of one element is proportional to its number of pairs,
+ * and not to the size of this set.
+ * </p>
+ *
+ * @param <T> Type of elements to hold
+ */
+public class PairSet<T> implements Iterable<Pair<T>> {
+    //
+    // Variables
+    //
+
+    @Nonnull
+    private final Set<Pair<T>> pairs = new LinkedHashSet<>();
+    @Nonnull
+    private final Map<T, Set<T>> partners = new HashMap<>();
+
+    //
+    // Getters
+    //
+
+    /**
+     * Gets the number of pairs in this set.
+     *
+     * @return Number of pairs
+     */
+    @Nonnegative
+    public int size() {
+        return pairs.size();
+    }
+
+    /**
+     * Checks if this set is empty.
+     *
+     * @return {@code true} if there are no pairs in this set
+     */
+    public boolean isEmpty() {
+        return pairs.isEmpty();
+    }
+
+    /**
+     * Checks if this set contains given pair.
+     *
+     * @param pair Pair to check
+     * @return {@code true} if this set contains the pair in any order
+     */
+    public boolean contains(@Nonnull Pair<T> pair) {
+        return pairs.contains(pair);
+    }
+
+    /**
+     * Gets every element which is paired with given element.
+     *
+     * @param element Element to get the partners of
+     * @return Unmodifiable view of partners
+     */
+    @Nonnull
+    public Set<T> getPartners(@Nonnull T element) {
+        final Set<T> set = partners.get(element);
+        if (set == null) return Set.of();
+
+        return Collections.unmodifiableSet(set);
+    }
+
+    //
+    // Setters
+    //
+
+    /**
+     * Adds a pair to this set.
+     *
+     * @param pair Pair to add
+     * @return {@code true} if the pair was not already in this set
+     */
+    public boolean add(@Nonnull Pair<T> pair) {
+        if (!pairs.add(pair)) return false;
+
+        partners.computeIfAbsent(pair.getFirst(), k -> new LinkedHashSet<>()).add(pair.getSecond());
+        partners.computeIfAbsent(pair.getSecond(), k -> new LinkedHashSet<>()).add(pair.getFirst());
+        return true;
+    }
+
+    /**
+     * Removes a pair from this set.
+     *
+     * @param pair Pair to remove
+     * @return {@code true} if the pair was in this set
+     */
+    public boolean remove(@Nonnull Pair<T> pair) {
+        if (!pairs.remove(pair)) return false;
+
+        unlink(pair.getFirst(), pair.getSecond());
+        unlink(pair.getSecond(), pair.getFirst());
+        return true;
+    }
+
+    /**
+     * Removes every pair which contains given element.
+     *
+     * @param element Element to remove
+     */
+    public void removeAll(@Nonnull T element) {
+        final Set<T> set = partners.remove(element);
+        if (set == null) return;
+
+        for (T partner : set) {
+            pairs.remove(new Pair<>(element, partner));
+            unlink(partner, element);
+        }
+    }
+
+    /**
+     * Removes every pair from this set.
+     */
+    public void clear() {
+        pairs.clear();
+        partners.clear();
+    }
+
+    //
+    // Util
+    //
+
+    /**
+     * Gets the iterator of this set.
+     * The iterator is read-only, and iterates in insertion order.
+     *
+     * @return Iterator of pairs
+     */
+    @Override
+    @Nonnull
+    public Iterator<Pair<T>> iterator() {
+        return Collections.unmodifiableSet(pairs).iterator();
+    }
+
+    private void unlink(@Nonnull T element, @Nonnull T partner) {
+        final Set<T> set = partners.get(element);
+        if (set == null) return;
+
+        set.remove(partner);
+        if (set.isEmpty()) partners.remove(element);
+    }
+}
@@ -0,0 +1,570 @@
+package oasis.artemis.util.io;
+
+import oasis.artemis.util.math.Matrix;
+import oasis.artemis.util.math.Quaternion;
+import oasis.artemis.util.math.Vector;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * <h2>BinaryCodecs</h2>
+ * <p>
+ * Compact binary encodings of {@link Vector}, {@link Quaternion} and {@link Matrix}.
+ * Values are written component by component in the given {@link Precision}, without any header,
+ * so the same precision must be used to read them back.
+ * </p>
+ * <p>
+ * A vector takes {@code 3 * precision.getBytes()} bytes, and a quaternion {@code 4 * precision.getBytes()} bytes.
+ * A matrix is prefixed by its number of rows and columns as two {@code int}s, then its values in row-major order.
+ * Every method has a {@link ByteBuffer} and a {@link DataOutput}/{@link DataInput} variant.
+ * Methods without a precision use {@link Precision#DOUBLE}.
+ * </p>
+ */
+public final class BinaryCodecs {
+    //
+    // Constants
+    //
+
+    /**
+     * The number of values a matrix read from an input is first allocated for.
+     */
+    private static final int READ_CHUNK = 4096;
+
+    //
+    // Vector
+    //
+
+    /**
+     * Writes a vector to a buffer.
+     *
+     * @param buffer Buffer to write to
+     * @param v      Vector to write
+     * @throws BufferOverflowException When there is not enough room in the buffer
+     */
+    public static void putVector(@Nonnull ByteBuffer buffer, @Nonnull Vector v) throws BufferOverflowException {
+        putVector(buffer, v, Precision.DOUBLE);
+    }
+
+    /**
+     * Writes a vector to a buffer.
+     *
+     * @param buffer    Buffer to write to
+     * @param v         Vector to write
+     * @param precision Precision to write in
+     * @throws BufferOverflowException  When there is not enough room in the buffer
+     * @throws IllegalArgumentException When a value is out of range of the precision
+     */
+    public static void putVector(
+            @Nonnull ByteBuffer buffer,
+            @Nonnull Vector v,
+            @Nonnull Precision precision
+    ) throws BufferOverflowException, IllegalArgumentException {
+        put(buffer, v.getX(), precision);
+        put(buffer, v.getY(), precision);
+        put(buffer, v.getZ(), precision);
+    }
+
+    /**
+     * Reads a vector from a buffer.
+     *
+     * @param buffer Buffer to read from
+     * @return Read vector
+     * @throws BufferUnderflowException When there are not enough bytes remaining
+     */
+    @Nonnull
+    public static Vector getVector(@Nonnull ByteBuffer buffer) throws BufferUnderflowException {
+        return getVector(buffer, Precision.DOUBLE);
+    }
+
+    /**
+     * Reads a vector from a buffer.
+     *
+     * @param buffer    Buffer to read from
+     * @param precision Precision the vector was written in
+     * @return Read vector
+     * @throws BufferUnderflowException When there are not enough bytes remaining
+     */
+    @Nonnull
+    public static Vector getVector(@Nonnull ByteBuffer buffer, @Nonnull Precision precision) throws BufferUnderflowException {
+        final double x = get(buffer, precision);
+        final double y = get(buffer, precision);
+        final double z = get(buffer, precision);
+
+        return new Vector(x, y, z);
+    }
+
+    /**
+     * Writes a vector to an output.
+     *
+     * @param out Output to write to
+     * @param v   Vector to write
+     * @throws IOException When an I/O error occurs
+     */
+    public static void writeVector(@Nonnull DataOutput out, @Nonnull Vector v) throws IOException {
+        writeVector(out, v, Precision.DOUBLE);
+    }
+
+    /**
+     * Writes a vector to an output.
+     *
+     * @param out       Output to write to
+     * @param v         Vector to write
+     * @param precision Precision to write in
+     * @throws IOException              When an I/O error occurs
+     * @throws IllegalArgumentException When a value is out of range of the precision
+     */
+    public static void writeVector(
+            @Nonnull DataOutput out,
+            @Nonnull Vector v,
+            @Nonnull Precision precision
+    ) throws IOException, IllegalArgumentException {
+        write(out, v.getX(), precision);
+        write(out, v.getY(), precision);
+        write(out, v.getZ(), precision);
+    }
+
+    /**
+     * Reads a vector from an input.
+     *
+     * @param in Input to read from
+     * @return Read vector
+     * @throws IOException When an I/O error occurs
+     */
+    @Nonnull
+    public static Vector readVector(@Nonnull DataInput in) throws IOException {
+        return readVector(in, Precision.DOUBLE);
+    }
+
+    /**
+     * Reads a vector from an input.
+     *
+     * @param in        Input to read from
+     * @param precision Precision the vector was written in
+     * @return Read vector
+     * @throws IOException When an I/O error occurs
+     */
+    @Nonnull
+    public static Vector readVector(@Nonnull DataInput in, @Nonnull Precision precision) throws IOException {
+        final double x = read(in, precision);
+        final double y = read(in, precision);
+        final double z = read(in, precision);
+
+        return new Vector(x, y, z);
+    }
+
+    //
+    // Packed vectors
+    //
+
+    /**
+     * Writes a batch of vectors packed as in {@link oasis.artemis.util.math.VectorBatch} to a buffer.
+     * This does not write the number of vectors.
+     *
+     * @param buffer    Buffer to write to
+     * @param packed    Packed vectors
+     * @param count     Number of vectors to write
+     * @param precision Precision to write in
+     * @throws BufferOverflowException  When there is not enough room in the buffer
+     * @throws IllegalArgumentException When the array holds fewer than {@code count} vectors,
+     *                                  or a value is out of range of the precision
+     */
+    public static void putVectors(
+            @Nonnull ByteBuffer buffer,
+            @Nonnull double[] packed,
+            @Nonnegative int count,
+            @Nonnull Precision precision
+    ) throws BufferOverflowException, IllegalArgumentException {
+        final int n = checkPacked(packed, count);
+        if (buffer.remaining() < (long) n * precision.getBytes()) throw new BufferOverflowException();
+
+        for (int i = 0; i < n; i++) {
+            put(buffer, packed[i], precision);
+        }
+    }
+
+    /**
+     * Reads a batch of vectors from a buffer into a packed array.
+     *
+     * @param buffer    Buffer to read from
+     * @param packed    Array to read into
+     * @param count     Number of vectors to read
+     * @param precision Precision the vectors were written in
+     * @throws BufferUnderflowException When there are not enough bytes remaining
+     * @throws IllegalArgumentException When the array cannot hold {@code count} vectors
+     */
+    public static void getVectors(
+            @Nonnull ByteBuffer buffer,
+            @Nonnull double[] packed,
+            @Nonnegative int count,
+            @Nonnull Precision precision
+    ) throws BufferUnderflowException, IllegalArgumentException {
+        final int n = checkPacked(packed, count);
+        if (buffer.remaining() < (long) n * precision.getBytes()) throw new BufferUnderflowException();
+
+        for (int i = 0; i < n; i++) {
+            packed[i] = get(buffer, precision);
+        }
+    }
+
+    //
+    // Quaternion
+    //
+
+    /**
+     * Writes a quaternion to a buffer.
+     *
+     * @param buffer Buffer to write to
+     * @param q      Quaternion to write
+     * @throws BufferOverflowException When there is not enough room in the buffer
+     */
+    public static void putQuaternion(@Nonnull ByteBuffer buffer, @Nonnull Quaternion q) throws BufferOverflowException {
+        putQuaternion(buffer, q, Precision.DOUBLE);
+    }
+
+    /**
+     * Writes a quaternion to a buffer.
+     *
+     * @param buffer    Buffer to write to
+     * @param q         Quaternion to write
+     * @param precision Precision to write in
+     * @throws BufferOverflowException  When there is not enough room in the buffer
+     * @throws IllegalArgumentException When a value is out of range of the precision
+     */
+    public static void putQuaternion(
+            @Nonnull ByteBuffer buffer,
+            @Nonnull Quaternion q,
+            @Nonnull Precision precision
+    ) throws BufferOverflowException, IllegalArgumentException {
+        put(buffer, q.getW(), precision);
+        put(buffer, q.getX(), precision);
+        put(buffer, q.getY(), precision);
+        put(buffer, q.getZ(), precision);
+    }
+
+    /**
+     * Reads a quaternion from a buffer.
+     *
+     * @param buffer Buffer to read from
+     * @return Read quaternion
+     * @throws BufferUnderflowException When there are not enough bytes remaining
+     */
+    @Nonnull
+    public static Quaternion getQuaternion(@Nonnull ByteBuffer buffer) throws BufferUnderflowException {
+        return getQuaternion(buffer, Precision.DOUBLE);
+    }
+
+    /**
+     * Reads a quaternion from a buffer.
+     *
+     * @param buffer    Buffer to read from
+     * @param precision Precision the quaternion was written in
+     * @return Read quaternion
+     * @throws BufferUnderflowException When there are not enough bytes remaining
+     */
+    @Nonnull
+    public static Quaternion getQuaternion(
+            @Nonnull ByteBuffer buffer,
+            @Nonnull Precision precision
+    ) throws BufferUnderflowException {
+        final double w = get(buffer, precision);
+        final double x = get(buffer, precision);
+        final double y = get(buffer, precision);
+        final double z = get(buffer, precision);
+
+        return new Quaternion(w, x, y, z);
+    }
+
+    /**
+     * Writes a quaternion to an output.
+     *
+     * @param out Output to write to
+     * @param q   Quaternion to write
+     * @throws IOException When an I/O error occurs
+     */
+    public static void writeQuaternion(@Nonnull DataOutput out, @Nonnull Quaternion q) throws IOException {
+        writeQuaternion(out, q, Precision.DOUBLE);
+    }
+
+    /**
+     * Writes a quaternion to an output.
+     *
+     * @param out       Output to write to
+     * @param q         Quaternion to write
+     * @param precision Precision to write in
+     * @throws IOException              When an I/O error occurs
+     * @throws IllegalArgumentException When a value is out of range of the precision
+     */
+    public static void writeQuaternion(
+            @Nonnull DataOutput out,
+            @Nonnull Quaternion q,
+            @Nonnull Precision precision
+    ) throws IOException, IllegalArgumentException {
+        write(out, q.getW(), precision);
+        write(out, q.getX(), precision);
+        write(out, q.getY(), precision);
+        write(out, q.getZ(), precision);
+    }
+
+    /**
+     * Reads a quaternion from an input.
+     *
+     * @param in Input to read from
+     * @return Read quaternion
+     * @throws IOException When an I/O error occurs
+     */
+    @Nonnull
+    public static Quaternion readQuaternion(@Nonnull DataInput in) throws IOException {
+        return readQuaternion(in, Precision.DOUBLE);
+    }
+
+    /**
+     * Reads a quaternion from an input.
+     *
+     * @param in        Input to read from
+     * @param precision Precision the quaternion was written in
+     * @return Read quaternion
+     * @throws IOException When an I/O error occurs
+     */
+    @Nonnull
+    public static Quaternion readQuaternion(@Nonnull DataInput in, @Nonnull Precision precision) throws IOException {
+        final double w = read(in, precision);
+        final double x = read(in, precision);
+        final double y = read(in, precision);
+        final double z = read(in, precision);
+
+        return new Quaternion(w, x, y, z);
+    }
+
+    //
+    // Matrix
+    //
+
+    /**
+     * Writes a matrix to a buffer.
+     *
+     * @param buffer Buffer to write to
+     * @param m      Matrix to write
+     * @throws BufferOverflowException When there is not enough room in the buffer
+     */
+    public static void putMatrix(@Nonnull ByteBuffer buffer, @Nonnull Matrix m) throws BufferOverflowException {
+        putMatrix(buffer, m, Precision.DOUBLE);
+    }
+
+    /**
+     * Writes a matrix to a buffer.
+     *
+     * @param buffer    Buffer to write to
+     * @param m         Matrix to write
+     * @param precision Precision to write values in
+     * @throws BufferOverflowException  When there is not enough room in the buffer
+     * @throws IllegalArgumentException When a value is out of range of the precision
+     */
+    public static void putMatrix(
+            @Nonnull ByteBuffer buffer,
+            @Nonnull Matrix m,
+            @Nonnull Precision precision
+    ) throws BufferOverflowException, IllegalArgumentException {
+        final double[] values = m.getValues();
+        if (buffer.remaining() < 2L * Integer.BYTES + (long) values.length * precision.getBytes()) {
+            throw new BufferOverflowException();
+        }
+
+        buffer.putInt(m.getRows());
+        buffer.putInt(m.getColumns());
+
+        for (double v : values) {
+            put(buffer, v, precision);
+        }
+    }
+
+    /**
+     * Reads a matrix from a buffer.
+     *
+     * @param buffer Buffer to read from
+     * @return Read matrix
+     * @throws BufferUnderflowException When there are not enough bytes remaining
+     * @throws IllegalArgumentException When the encoded matrix is invalid
+     */
+    @Nonnull
+    public static Matrix getMatrix(@Nonnull ByteBuffer buffer) throws BufferUnderflowException, IllegalArgumentException {
+        return getMatrix(buffer, Precision.DOUBLE);
+    }
+
+    /**
+     * Reads a matrix from a buffer.
+     *
+     * @param buffer    Buffer to read from
+     * @param precision Precision the values were written in
+     * @return Read matrix
+     * @throws BufferUnderflowException When there are not enough bytes remaining
+     * @throws IllegalArgumentException When the encoded matrix is invalid
+     */
+    @Nonnull
+    public static Matrix getMatrix(
+            @Nonnull ByteBuffer buffer,
+            @Nonnull Precision precision
+    ) throws BufferUnderflowException, IllegalArgumentException {
+        final int rows = buffer.getInt();
+        final int columns = buffer.getInt();
+        final int size = checkDimensions(rows, columns);
+
+        if (buffer.remaining() < (long) size * precision.getBytes()) throw new BufferUnderflowException();
+
+        final double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = get(buffer, precision);
+        }
+
+        return new Matrix(rows, columns, values);
+    }
+
+    /**
+     * Writes a matrix to an output.
+     *
+     * @param out Output to write to
+     * @param m   Matrix to write
+     * @throws IOException When an I/O error occurs
+     */
+    public static void writeMatrix(@Nonnull DataOutput out, @Nonnull Matrix m) throws IOException {
+        writeMatrix(out, m, Precision.DOUBLE);
+    }
+
+    /**
+     * Writes a matrix to an output.
+     *
+     * @param out       Output to write to
+     * @param m         Matrix to write
+     * @param precision Precision to write values in
+     * @throws IOException              When an I/O error occurs
+     * @throws IllegalArgumentException When a value is out of range of the precision
+     */
+    public static void writeMatrix(
+            @Nonnull DataOutput out,
+            @Nonnull Matrix m,
+            @Nonnull Precision precision
+    ) throws IOException, IllegalArgumentException {
+        out.writeInt(m.getRows());
+        out.writeInt(m.getColumns());
+
+        for (double v : m.getValues()) {
+            write(out, v, precision);
+        }
+    }
+
+    /**
+     * Reads a matrix from an input.
+     *
+     * @param in Input to read from
+     * @return Read matrix
+     * @throws IOException              When an I/O error occurs
+     * @throws IllegalArgumentException When the encoded matrix is invalid
+     */
+    @Nonnull
+    public static Matrix readMatrix(@Nonnull DataInput in) throws IOException, IllegalArgumentException {
+        return readMatrix(in, Precision.DOUBLE);
+    }
+
+    /**
+     * Reads a matrix from an input.
+     *
+     * @param in        Input to read from
+     * @param precision Precision the values were written in
+     * @return Read matrix
+     * @throws IOException              When an I/O error occurs
+     * @throws IllegalArgumentException When the encoded matrix is invalid
+     */
+    @Nonnull
+    public static Matrix readMatrix(
+            @Nonnull DataInput in,
+            @Nonnull Precision precision
+    ) throws IOException, IllegalArgumentException {
+        final int rows = in.readInt();
+        final int columns = in.readInt();
+        final int size = checkDimensions(rows, columns);
+
+        // The header is untrusted, so the array only grows as values actually arrive
+        double[] values = new double[Math.min(size, READ_CHUNK)];
+        for (int i = 0; i < size; i++) {
+            if (i == values.length) values = Arrays.copyOf(values, (int) Math.min(size, 2L * values.length));
+            values[i] = read(in, precision);
+        }
+
+        return new Matrix(rows, columns, values);
+    }
+
+    //
+    // Internal methods
+    //
+
+    private static void put(@Nonnull ByteBuffer buffer, double v, @Nonnull Precision precision) {
+        switch (precision) {
+            case DOUBLE -> buffer.putDouble(v);
+            case SINGLE -> buffer.putFloat((float) v);
+            case HALF -> buffer.putShort(toHalf(v));
+        }
+    }
+
+    private static double get(@Nonnull ByteBuffer buffer, @Nonnull Precision precision) {
+        return switch (precision) {
+            case DOUBLE -> buffer.getDouble();
+            case SINGLE -> buffer.getFloat();
+            case HALF -> Float.float16ToFloat(buffer.getShort());
+        };
+    }
+
+    private static void write(@Nonnull DataOutput out, double v, @Nonnull Precision precision) throws IOException {
+        switch (precision) {
+            case DOUBLE -> out.writeDouble(v);
+            case SINGLE -> out.writeFloat((float) v);
+            case HALF -> out.writeShort(toHalf(v));
+        }
+    }
+
+    private static double read(@Nonnull DataInput in, @Nonnull Precision precision) throws IOException {
+        return switch (precision) {
+            case DOUBLE -> in.readDouble();
+            case SINGLE -> in.readFloat();
+            case HALF -> Float.float16ToFloat(in.readShort());
+        };
+    }
+
+    /**
+     * Encodes a value in half precision.
+     * Finite values which would become infinite are rejected, rather than silently overflowing.
+     */
+    private static short toHalf(double v) throws IllegalArgumentException {
+        final short half = Float.floatToFloat16((float) v);
+
+        if (Double.isFinite(v) && Float.isInfinite(Float.float16ToFloat(half))) {
+            throw new IllegalArgumentException("Value " + v + " is out of range of half precision.");
+        }
+
+        return half;
+    }
+
+    private static int checkPacked(@Nonnull double[] packed, int count) throws IllegalArgumentException {
+        if (count < 0) throw new IllegalArgumentException("Count cannot be negative.");
+        if (packed.length / 3 < count) {
+            throw new IllegalArgumentException("Array is too small for " + count + " vectors.");
+        }
+
+        return count * 3;
+    }
+
+    private static int checkDimensions(int rows, int columns) throws IllegalArgumentException {
+        if (rows < 0 || columns < 0) throw new IllegalArgumentException("Matrix dimensions cannot be negative.");
+
+        final long size = (long) rows * columns;
+        if (size > Integer.MAX_VALUE) throw new IllegalArgumentException("Matrix is too large.");
+
+        return (int) size;
+    }
+}
@@ -0,0 +1,45 @@
+package oasis.artemis.util.io;
+
+import javax.annotation.Nonnegative;
+
+/**
+ * <h2>Precision</h2>
+ * <p>
+ * Determines how many bytes {@link BinaryCodecs} uses to encode each component of a value.
+ * Lower precisions trade accuracy for size.
+ * </p>
+ */
+public enum Precision {
+    /**
+     * Components are encoded as 64-bit doubles. Values round-trip exactly.
+     */
+    DOUBLE(8),
+
+    /**
+     * Components are encoded as 32-bit floats, with about seven significant digits.
+     */
+    SINGLE(4),
+
+    /**
+     * Components are encoded as 16-bit IEEE 754 half-precision floats, with about three significant digits.
+     * The largest finite magnitude is {@code 65504}. Writing a finite value which would round to infinity
+     * throws an {@link IllegalArgumentException}, while infinities and {@code NaN} are written as they are.
+     */
+    HALF(2);
+
+    Precision(int bytes) {
+        this.bytes = bytes;
+    }
+
+    private final int bytes;
+
+    /**
+     * Gets the number of bytes used to encode one component.
+     *
+     * @return Number of bytes
+     */
+    @Nonnegative
+    public int getBytes() {
+        return bytes;
+    }
+}
@@ -0,0 +1,111 @@
+package oasis.artemis.util.logging;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * <h2>EngineLog</h2>
+ * <p>
+ * The single sink warnings and errors of the engine are reported to, such as exceptions thrown by
+ * tasks and event handlers, or tasks which take too long.
+ * </p>
+ * <p>
+ * By default, messages are passed to the {@link System.Logger} named {@code oasis.artemis},
+ * which can be bridged to any logging framework. Replace the sink to handle them otherwise.
+ * The sink may be called from any thread.
+ * </p>
+ */
+public final class EngineLog {
+    //
+    // Constants
+    //
+
+    /**
+     * The default sink, which passes messages to the {@link System.Logger} named {@code oasis.artemis}.
+     */
+    public static final Sink DEFAULT_SINK = new Sink() {
+        private final System.Logger logger = System.getLogger("oasis.artemis");
+
+        @Override
+        public void log(@Nonnull System.Logger.Level level, @Nonnull String message, @Nullable Throwable thrown) {
+            logger.log(level, message, thrown);
+        }
+    };
+
+    private EngineLog() {}
+
+    //
+    // Sink
+    //
+
+    /**
+     * Gets the sink messages are reported to.
+     *
+     * @return Current sink
+     */
+    @Nonnull
+    public static Sink getSink() {
+        return sink;
+    }
+
+    /**
+     * Sets the sink messages are reported to.
+     *
+     * @param sink Sink to report to, {@link #DEFAULT_SINK} to restore the default
+     */
+    public static void setSink(@Nonnull Sink sink) {
+        EngineLog.sink = sink;
+    }
+
+    @Nonnull
+    private static volatile Sink sink = DEFAULT_SINK;
+
+    //
+    // Logging
+    //
+
+    /**
+     * Reports a warning.
+     *
+     * @param message Message to report
+     */
+    public static void warn(@Nonnull String message) {
+        report(System.Logger.Level.WARNING, message, null);
+    }
+
+    /**
+     * Reports an error.
+     *
+     * @param message Message to report
+     * @param thrown  Cause of the error
+     */
+    public static void error(@Nonnull String message, @Nonnull Throwable thrown) {
+        report(System.Logger.Level.ERROR, message, thrown);
+    }
+
+    /**
+     * Passes a message to the sink. A failing sink must not take down the thread which reported to it.
+     */
+    private static void report(@Nonnull System.Logger.Level level, @Nonnull String message, @Nullable Throwable thrown) {
+        try {
+            sink.log(level, message, thrown);
+        } catch (RuntimeException e) {
+            DEFAULT_SINK.log(level, message, thrown);
+        }
+    }
+
+    /**
+     * A destination of engine messages.
+     */
+    @FunctionalInterface
+    public interface Sink {
+        /**
+         * Handles a message.
+         *
+         * @param level   Severity of the message
+         * @param message Message to handle
+         * @param thrown  Cause of the message, {@code null} if there is none
+         */
+        void log(@Nonnull System.Logger.Level level, @Nonnull String message, @Nullable Throwable thrown);
+    }
+}
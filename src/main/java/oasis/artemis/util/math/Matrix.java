@@ -7,10 +7,15 @@ import javax.annotation.Nonnull;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Objects;
 
 /**
  * <h2>Matrix</h2>
  * <p>A rectangular array of {@link Double}.</p>
+ * <p>
+ * Values are stored in one row-major {@code double[]}, so that rows are contiguous in memory.
+ * For small fixed-size transforms, {@link Matrix3} and {@link Matrix4} should be preferred.
+ * </p>
  */
 public class Matrix implements Iterable<Double>, Serializable {
     //
@@ -24,7 +29,7 @@ public class Matrix implements Iterable<Double>, Serializable {
      * @param columns Number of columns
      */
     public Matrix(@Nonnegative int rows, @Nonnegative int columns) {
-        this(new double[rows][columns]);
+        this(rows, columns, new double[Math.multiplyExact(rows, columns)], false);
     }
 
     /**
@@ -36,7 +41,7 @@ public class Matrix implements Iterable<Double>, Serializable {
      */
     public Matrix(@Nonnegative int rows, @Nonnegative int columns, @Numeric double initialValue) {
         this(rows, columns);
-        fill(initialValue);
+        Arrays.fill(values, initialValue);
     }
 
     /**
@@ -45,22 +50,61 @@ public class Matrix implements Iterable<Double>, Serializable {
      * @param values Values to use
      */
     public Matrix(@Nonnull double[][] values) {
-        this.values = values;
+        this(values.length, values.length > 0 ? values[0].length : 0);
 
-        forEach(d -> {
-            if (!Double.isFinite(d)) {
-                throw new IllegalArgumentException("Cannot put a non-numeric value into a matrix.");
+        for (int r = 0; r < rows; r++) {
+            if (values[r].length != columns) {
+                throw new IllegalArgumentException("Every row of a matrix must have the same number of columns.");
             }
-        });
+
+            System.arraycopy(values[r], 0, this.values, r * columns, columns);
+        }
+
+        checkFinite(this.values);
+    }
+
+    /**
+     * Creates a new matrix from row-major values.
+     *
+     * @param rows    Number of rows
+     * @param columns Number of columns
+     * @param values  Row-major values, copied into this matrix
+     * @throws IllegalArgumentException When the number of values does not match the dimensions
+     */
+    public Matrix(@Nonnegative int rows, @Nonnegative int columns, @Nonnull double[] values) throws IllegalArgumentException {
+        this(rows, columns, values.clone(), true);
     }
 
+    /**
+     * Internal constructor which uses given array as-is.
+     */
+    private Matrix(int rows, int columns, @Nonnull double[] values, boolean check) {
+        if (rows < 0 || columns < 0) throw new IllegalArgumentException("Dimensions cannot be negative.");
+        if (values.length != rows * columns) {
+            throw new IllegalArgumentException("Expected " + rows * columns + " values, got " + values.length + ".");
+        }
+
+        this.rows = rows;
+        this.columns = columns;
+        this.values = values;
+
+        if (check) checkFinite(values);
+    }
 
     //
     // Variables
     //
 
+    @Nonnegative
+    private final int rows;
+    @Nonnegative
+    private final int columns;
+
+    /**
+     * Row-major values. Package-private so that {@link Numbers} can operate on the array directly.
+     */
     @Nonnull
-    private final double[][] values;
+    final double[] values;
 
     //
     // Getters
@@ -76,27 +120,17 @@ public class Matrix implements Iterable<Double>, Serializable {
      */
     @Numeric
     public double get(@Nonnegative int r, @Nonnegative int c) throws IndexOutOfBoundsException {
-        return values[r][c];
+        return values[index(r, c)];
     }
 
     /**
      * Gets the values in this matrix.
      *
-     * @return Values
+     * @return Row-major copy of values
      */
     @Nonnull
     public double[] getValues() {
-        final double[] mapped = new double[getSize()];
-        int i = 0;
-
-        for (int r = 0; r < getRows(); r++) {
-            for (int c = 0; c < getColumns(); c++) {
-                mapped[i] = get(r, c);
-                i++;
-            }
-        }
-
-        return mapped;
+        return values.clone();
     }
 
     /**
@@ -106,7 +140,7 @@ public class Matrix implements Iterable<Double>, Serializable {
      */
     @Nonnegative
     public int getSize() {
-        return getRows() * getColumns();
+        return values.length;
     }
 
     /**
@@ -116,7 +150,7 @@ public class Matrix implements Iterable<Double>, Serializable {
      */
     @Nonnegative
     public int getRows() {
-        return values.length;
+        return rows;
     }
 
     /**
@@ -126,11 +160,7 @@ public class Matrix implements Iterable<Double>, Serializable {
      */
     @Nonnegative
     public int getColumns() {
-        try {
-            return values[0].length;
-        } catch (IndexOutOfBoundsException e) {
-            return 0;
-        }
+        return columns;
     }
 
     //
@@ -146,7 +176,7 @@ public class Matrix implements Iterable<Double>, Serializable {
      * @throws IndexOutOfBoundsException When index is out of bounds
      */
     public void set(@Nonnegative int r, @Nonnegative int c, @Numeric double v) throws IndexOutOfBoundsException {
-        values[r][c] = v;
+        values[index(r, c)] = v;
     }
 
     /**
@@ -155,17 +185,124 @@ public class Matrix implements Iterable<Double>, Serializable {
      * @param v Value to fill with
      */
     public void fill(@Numeric double v) {
-        for (int r = 0; r < getRows(); r++) {
-            for (int c = 0; c < getColumns(); c++) {
-                set(r, c, v);
+        Arrays.fill(values, v);
+    }
+
+    //
+    // In-place arithmetic
+    //
+
+    /**
+     * Adds another matrix to this matrix.
+     * This modifies this matrix instead of returning a new one.
+     *
+     * @param m Matrix to add
+     * @return {@code this}
+     * @throws ArithmeticException When the dimensions are different
+     */
+    @Nonnull
+    public Matrix addInPlace(@Nonnull Matrix m) throws ArithmeticException {
+        requireSameDimensions(m);
+
+        final double[] a = values, b = m.values;
+        for (int i = 0; i < a.length; i++) {
+            a[i] += b[i];
+        }
+
+        return this;
+    }
+
+    /**
+     * Subtracts another matrix from this matrix.
+     * This modifies this matrix instead of returning a new one.
+     *
+     * @param m Matrix to subtract
+     * @return {@code this}
+     * @throws ArithmeticException When the dimensions are different
+     */
+    @Nonnull
+    public Matrix subtractInPlace(@Nonnull Matrix m) throws ArithmeticException {
+        requireSameDimensions(m);
+
+        final double[] a = values, b = m.values;
+        for (int i = 0; i < a.length; i++) {
+            a[i] -= b[i];
+        }
+
+        return this;
+    }
+
+    /**
+     * Multiplies every value of this matrix by a scalar.
+     * This modifies this matrix instead of returning a new one.
+     *
+     * @param s Scalar to multiply with
+     * @return {@code this}
+     */
+    @Nonnull
+    public Matrix multiplyInPlace(@Numeric double s) {
+        final double[] a = values;
+        for (int i = 0; i < a.length; i++) {
+            a[i] *= s;
+        }
+
+        return this;
+    }
+
+    /**
+     * Transposes this matrix in place.
+     *
+     * @return {@code this}
+     * @throws ArithmeticException When this matrix is not square
+     */
+    @Nonnull
+    public Matrix transposeInPlace() throws ArithmeticException {
+        if (rows != columns) throw new ArithmeticException("Cannot transpose a non-square matrix in place.");
+
+        final double[] a = values;
+        for (int r = 0; r < rows; r++) {
+            for (int c = r + 1; c < columns; c++) {
+                final double temp = a[r * columns + c];
+                a[r * columns + c] = a[c * columns + r];
+                a[c * columns + r] = temp;
             }
         }
+
+        return this;
     }
 
     //
     // Util
     //
 
+    /**
+     * Returns the transpose of this matrix.
+     *
+     * @return Transposed matrix
+     */
+    @Nonnull
+    public Matrix transpose() {
+        final double[] transposed = new double[values.length];
+
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                transposed[c * rows + r] = values[r * columns + c];
+            }
+        }
+
+        return new Matrix(columns, rows, transposed, false);
+    }
+
+    /**
+     * Returns a copy of this matrix.
+     *
+     * @return Copied matrix
+     */
+    @Nonnull
+    public Matrix copy() {
+        return new Matrix(rows, columns, values.clone(), false);
+    }
+
     /**
      * Returns a resized matrix.
      *
@@ -175,19 +312,14 @@ public class Matrix implements Iterable<Double>, Serializable {
      */
     @Nonnull
     public Matrix resize(@Nonnegative int r, @Nonnegative int c) {
-        final double[][] resized = new double[r][c];
-
-        for (int i = 0; i < getRows(); i++) {
-            for (int j = 0; j < getColumns(); j++) {
-                try {
-                    resized[i][j] = get(i, j);
-                } catch (IndexOutOfBoundsException e) {
-                    // Move on
-                }
-            }
+        final Matrix resized = new Matrix(r, c);
+        final int width = Math.min(c, columns);
+
+        for (int i = 0; i < Math.min(r, rows); i++) {
+            System.arraycopy(values, i * columns, resized.values, i * c, width);
         }
 
-        return new Matrix(resized);
+        return resized;
     }
 
     /**
@@ -212,11 +344,33 @@ public class Matrix implements Iterable<Double>, Serializable {
         final StringBuilder builder = new StringBuilder("Matrix{rows={");
 
         for (int r = 0; r < getRows(); r++) {
-            builder.append(r).append("=").append(Arrays.toString(values[r]));
+            builder.append(r).append("=").append(Arrays.toString(Arrays.copyOfRange(values, r * columns, (r + 1) * columns)));
 
             if (r < getRows() - 1) builder.append(", ");
         }
 
         return builder.append("}}").toString();
     }
+
+    //
+    // Internal methods
+    //
+
+    private int index(int r, int c) throws IndexOutOfBoundsException {
+        return Objects.checkIndex(r, rows) * columns + Objects.checkIndex(c, columns);
+    }
+
+    private void requireSameDimensions(@Nonnull Matrix m) throws ArithmeticException {
+        if (rows != m.rows || columns != m.columns) {
+            throw new ArithmeticException("Cannot operate on matrices with different dimensions.");
+        }
+    }
+
+    private static void checkFinite(@Nonnull double[] values) throws IllegalArgumentException {
+        for (double d : values) {
+            if (!Double.isFinite(d)) {
+                throw new IllegalArgumentException("Cannot put a non-numeric value into a matrix.");
+            }
+        }
+    }
 }
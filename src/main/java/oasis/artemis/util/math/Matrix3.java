@@ -0,0 +1,285 @@
+package oasis.artemis.util.math;
+
+import oasis.artemis.annotation.Numeric;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * <h2>Matrix3</h2>
+ * <p>
+ * An immutable 3x3 matrix, used for linear transforms such as rotation and scaling.
+ * Every operation is unrolled over the nine values, and does not go through the generic {@link Matrix}.
+ * </p>
+ */
+@Immutable
+public final class Matrix3 implements Serializable {
+    //
+    // Constants
+    //
+
+    /**
+     * Identity matrix. Represents no transform.
+     */
+    public static final Matrix3 IDENTITY = new Matrix3(
+            1, 0, 0,
+            0, 1, 0,
+            0, 0, 1
+    );
+
+    //
+    // Static initializers
+    //
+
+    /**
+     * Returns a rotation matrix equivalent to a rotation quaternion.
+     * Multiplying a vector by this matrix gives the same result as {@link Vector#rotate(Quaternion)}.
+     *
+     * @param rq Rotation quaternion
+     * @return Rotation matrix
+     */
+    @Nonnull
+    public static Matrix3 fromRotation(@Nonnull Quaternion rq) {
+        final double w = rq.getW(), x = rq.getX(), y = rq.getY(), z = rq.getZ();
+        final double s = w * w - (x * x + y * y + z * z);
+
+        // (w^2 - u.u) I + 2 u u^T - 2w [u]x
+        return new Matrix3(
+                s + 2 * x * x, 2 * (x * y + w * z), 2 * (x * z - w * y),
+                2 * (y * x - w * z), s + 2 * y * y, 2 * (y * z + w * x),
+                2 * (z * x + w * y), 2 * (z * y - w * x), s + 2 * z * z
+        );
+    }
+
+    /**
+     * Returns a uniform scaling matrix.
+     *
+     * @param s Scale
+     * @return Scaling matrix
+     */
+    @Nonnull
+    public static Matrix3 fromScale(@Numeric double s) {
+        return new Matrix3(
+                s, 0, 0,
+                0, s, 0,
+                0, 0, s
+        );
+    }
+
+    //
+    // Constructors
+    //
+
+    /**
+     * Creates a new matrix from row-major values.
+     */
+    public Matrix3(
+            @Numeric double m00, @Numeric double m01, @Numeric double m02,
+            @Numeric double m10, @Numeric double m11, @Numeric double m12,
+            @Numeric double m20, @Numeric double m21, @Numeric double m22
+    ) {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m02 = m02;
+        this.m10 = m10;
+        this.m11 = m11;
+        this.m12 = m12;
+        this.m20 = m20;
+        this.m21 = m21;
+        this.m22 = m22;
+    }
+
+    //
+    // Variables
+    //
+
+    private final double m00, m01, m02;
+    private final double m10, m11, m12;
+    private final double m20, m21, m22;
+
+    //
+    // Getters
+    //
+
+    /**
+     * Gets the value in specified position.
+     *
+     * @param r Index of row
+     * @param c Index of column
+     * @return Value of position
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     */
+    @Numeric
+    public double get(@Nonnegative int r, @Nonnegative int c) throws IndexOutOfBoundsException {
+        return switch (index(r, c)) {
+            case 0 -> m00;
+            case 1 -> m01;
+            case 2 -> m02;
+            case 3 -> m10;
+            case 4 -> m11;
+            case 5 -> m12;
+            case 6 -> m20;
+            case 7 -> m21;
+            default -> m22;
+        };
+    }
+
+    /**
+     * Gets the values in this matrix.
+     *
+     * @return Row-major values
+     */
+    @Nonnull
+    public double[] getValues() {
+        return new double[]{m00, m01, m02, m10, m11, m12, m20, m21, m22};
+    }
+
+    /**
+     * Gets the determinant of this matrix.
+     *
+     * @return Determinant
+     */
+    @Numeric
+    public double getDeterminant() {
+        return m00 * (m11 * m22 - m12 * m21)
+                - m01 * (m10 * m22 - m12 * m20)
+                + m02 * (m10 * m21 - m11 * m20);
+    }
+
+    //
+    // Arithmetic
+    //
+
+    /**
+     * Performs matrix-matrix multiplication, where {@code this} is on the left.
+     *
+     * @param m Matrix to multiply with
+     * @return Product of two matrices
+     */
+    @Nonnull
+    public Matrix3 multiply(@Nonnull Matrix3 m) {
+        return new Matrix3(
+                m00 * m.m00 + m01 * m.m10 + m02 * m.m20,
+                m00 * m.m01 + m01 * m.m11 + m02 * m.m21,
+                m00 * m.m02 + m01 * m.m12 + m02 * m.m22,
+
+                m10 * m.m00 + m11 * m.m10 + m12 * m.m20,
+                m10 * m.m01 + m11 * m.m11 + m12 * m.m21,
+                m10 * m.m02 + m11 * m.m12 + m12 * m.m22,
+
+                m20 * m.m00 + m21 * m.m10 + m22 * m.m20,
+                m20 * m.m01 + m21 * m.m11 + m22 * m.m21,
+                m20 * m.m02 + m21 * m.m12 + m22 * m.m22
+        );
+    }
+
+    /**
+     * Multiplies a vector by this matrix.
+     *
+     * @param v Vector to transform
+     * @return Transformed vector
+     */
+    @Nonnull
+    public Vector transform(@Nonnull Vector v) {
+        final double x = v.getX(), y = v.getY(), z = v.getZ();
+
+        return new Vector(
+                m00 * x + m01 * y + m02 * z,
+                m10 * x + m11 * y + m12 * z,
+                m20 * x + m21 * y + m22 * z
+        );
+    }
+
+    //
+    // Util
+    //
+
+    /**
+     * Gets the transpose of this matrix.
+     * For rotation matrices, this is also the inverse.
+     *
+     * @return Transposed matrix
+     */
+    @Nonnull
+    public Matrix3 transpose() {
+        return new Matrix3(
+                m00, m10, m20,
+                m01, m11, m21,
+                m02, m12, m22
+        );
+    }
+
+    /**
+     * Gets the inverse of this matrix.
+     *
+     * @return Inverse
+     * @throws ArithmeticException When this matrix is singular (the determinant is zero)
+     */
+    @Nonnull
+    public Matrix3 inverse() throws ArithmeticException {
+        final double c00 = m11 * m22 - m12 * m21;
+        final double c01 = m12 * m20 - m10 * m22;
+        final double c02 = m10 * m21 - m11 * m20;
+
+        final double det = m00 * c00 + m01 * c01 + m02 * c02;
+        if (det == 0) throw new ArithmeticException("Cannot invert a singular matrix.");
+
+        final double k = 1 / det;
+
+        return new Matrix3(
+                c00 * k, (m02 * m21 - m01 * m22) * k, (m01 * m12 - m02 * m11) * k,
+                c01 * k, (m00 * m22 - m02 * m20) * k, (m02 * m10 - m00 * m12) * k,
+                c02 * k, (m01 * m20 - m00 * m21) * k, (m00 * m11 - m01 * m10) * k
+        );
+    }
+
+    /**
+     * Converts this matrix to a generic matrix.
+     *
+     * @return Generic 3x3 matrix
+     */
+    @Nonnull
+    public Matrix toMatrix() {
+        return new Matrix(3, 3, getValues());
+    }
+
+    /**
+     * Checks for equality between two matrices.
+     *
+     * @param other Matrix to compare to
+     * @return {@code true} if the matrices are equal
+     */
+    public boolean equals(@Nonnull Matrix3 other) {
+        return Arrays.equals(getValues(), other.getValues());
+    }
+
+    /**
+     * Converts this matrix to a string.
+     *
+     * @return Stringified matrix
+     */
+    @Override
+    @Nonnull
+    public String toString() {
+        return "Matrix3{" +
+                "rows={0=[" + m00 + ", " + m01 + ", " + m02 + "]" +
+                ", 1=[" + m10 + ", " + m11 + ", " + m12 + "]" +
+                ", 2=[" + m20 + ", " + m21 + ", " + m22 + "]}" +
+                '}';
+    }
+
+    //
+    // Internal methods
+    //
+
+    private static int index(int r, int c) throws IndexOutOfBoundsException {
+        if (r < 0 || r > 2 || c < 0 || c > 2) {
+            throw new IndexOutOfBoundsException("Index (" + r + ", " + c + ") is out of bounds for a 3x3 matrix.");
+        }
+
+        return r * 3 + c;
+    }
+}
@@ -0,0 +1,403 @@
+package oasis.artemis.util.math;
+
+import oasis.artemis.annotation.Numeric;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * <h2>Matrix4</h2>
+ * <p>
+ * An immutable 4x4 matrix, used for affine transforms in homogeneous coordinates.
+ * Transforms are composed with {@link Matrix4#multiply(Matrix4)} once, then applied to every point,
+ * which is cheaper than rotating each point by a quaternion.
+ * </p>
+ * <p>
+ * Points are treated as column vectors, so {@code a.multiply(b)} applies {@code b} first, then {@code a}.
+ * </p>
+ */
+@Immutable
+public final class Matrix4 implements Serializable {
+    //
+    // Constants
+    //
+
+    /**
+     * Identity matrix. Represents no transform.
+     */
+    public static final Matrix4 IDENTITY = new Matrix4(new double[]{
+            1, 0, 0, 0,
+            0, 1, 0, 0,
+            0, 0, 1, 0,
+            0, 0, 0, 1
+    });
+
+    //
+    // Static initializers
+    //
+
+    /**
+     * Returns a translation matrix.
+     *
+     * @param offset Offset to translate by
+     * @return Translation matrix
+     */
+    @Nonnull
+    public static Matrix4 fromTranslation(@Nonnull Vector offset) {
+        return new Matrix4(new double[]{
+                1, 0, 0, offset.getX(),
+                0, 1, 0, offset.getY(),
+                0, 0, 1, offset.getZ(),
+                0, 0, 0, 1
+        });
+    }
+
+    /**
+     * Returns a rotation matrix equivalent to a rotation quaternion.
+     * Transforming a point by this matrix gives the same result as {@link Vector#rotate(Quaternion)}.
+     *
+     * @param rq Rotation quaternion
+     * @return Rotation matrix
+     */
+    @Nonnull
+    public static Matrix4 fromRotation(@Nonnull Quaternion rq) {
+        return of(Matrix3.fromRotation(rq), Vector.ZERO);
+    }
+
+    /**
+     * Returns a uniform scaling matrix.
+     *
+     * @param s Scale
+     * @return Scaling matrix
+     */
+    @Nonnull
+    public static Matrix4 fromScale(@Numeric double s) {
+        return new Matrix4(new double[]{
+                s, 0, 0, 0,
+                0, s, 0, 0,
+                0, 0, s, 0,
+                0, 0, 0, 1
+        });
+    }
+
+    /**
+     * Returns an affine matrix from a linear transform and a translation.
+     * The linear transform is applied first.
+     *
+     * @param linear      Linear transform
+     * @param translation Translation
+     * @return Affine matrix
+     */
+    @Nonnull
+    public static Matrix4 of(@Nonnull Matrix3 linear, @Nonnull Vector translation) {
+        final double[] l = linear.getValues();
+
+        return new Matrix4(new double[]{
+                l[0], l[1], l[2], translation.getX(),
+                l[3], l[4], l[5], translation.getY(),
+                l[6], l[7], l[8], translation.getZ(),
+                0, 0, 0, 1
+        });
+    }
+
+    //
+    // Constructors
+    //
+
+    /**
+     * Creates a new matrix from row-major values.
+     *
+     * @param values Sixteen row-major values
+     * @throws IllegalArgumentException When there are not exactly sixteen values
+     */
+    public Matrix4(@Nonnull double[] values) throws IllegalArgumentException {
+        if (values.length != 16) throw new IllegalArgumentException("A 4x4 matrix requires 16 values.");
+        this.m = values.clone();
+    }
+
+    //
+    // Variables
+    //
+
+    @Nonnull
+    private final double[] m;
+
+    //
+    // Getters
+    //
+
+    /**
+     * Gets the value in specified position.
+     *
+     * @param r Index of row
+     * @param c Index of column
+     * @return Value of position
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     */
+    @Numeric
+    public double get(@Nonnegative int r, @Nonnegative int c) throws IndexOutOfBoundsException {
+        if (r < 0 || r > 3 || c < 0 || c > 3) {
+            throw new IndexOutOfBoundsException("Index (" + r + ", " + c + ") is out of bounds for a 4x4 matrix.");
+        }
+
+        return m[r * 4 + c];
+    }
+
+    /**
+     * Gets the values in this matrix.
+     *
+     * @return Row-major copy of values
+     */
+    @Nonnull
+    public double[] getValues() {
+        return m.clone();
+    }
+
+    /**
+     * Gets the determinant of this matrix.
+     *
+     * @return Determinant
+     */
+    @Numeric
+    public double getDeterminant() {
+        final double[] a = m;
+
+        final double s0 = a[0] * a[5] - a[4] * a[1];
+        final double s1 = a[0] * a[6] - a[4] * a[2];
+        final double s2 = a[0] * a[7] - a[4] * a[3];
+        final double s3 = a[1] * a[6] - a[5] * a[2];
+        final double s4 = a[1] * a[7] - a[5] * a[3];
+        final double s5 = a[2] * a[7] - a[6] * a[3];
+
+        final double c5 = a[10] * a[15] - a[14] * a[11];
+        final double c4 = a[9] * a[15] - a[13] * a[11];
+        final double c3 = a[9] * a[14] - a[13] * a[10];
+        final double c2 = a[8] * a[15] - a[12] * a[11];
+        final double c1 = a[8] * a[14] - a[12] * a[10];
+        final double c0 = a[8] * a[13] - a[12] * a[9];
+
+        return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+    }
+
+    //
+    // Arithmetic
+    //
+
+    /**
+     * Performs matrix-matrix multiplication, where {@code this} is on the left.
+     * The resulting transform applies {@code other} first, then {@code this}.
+     *
+     * @param other Matrix to multiply with
+     * @return Product of two matrices
+     */
+    @Nonnull
+    public Matrix4 multiply(@Nonnull Matrix4 other) {
+        final double[] a = m, b = other.m;
+        final double[] out = new double[16];
+
+        for (int r = 0; r < 4; r++) {
+            final int row = r * 4;
+            final double a0 = a[row], a1 = a[row + 1], a2 = a[row + 2], a3 = a[row + 3];
+
+            out[row] = a0 * b[0] + a1 * b[4] + a2 * b[8] + a3 * b[12];
+            out[row + 1] = a0 * b[1] + a1 * b[5] + a2 * b[9] + a3 * b[13];
+            out[row + 2] = a0 * b[2] + a1 * b[6] + a2 * b[10] + a3 * b[14];
+            out[row + 3] = a0 * b[3] + a1 * b[7] + a2 * b[11] + a3 * b[15];
+        }
+
+        return new Matrix4(out, false);
+    }
+
+    /**
+     * Transforms a point by this matrix.
+     * If this matrix is projective, the result is divided by its W component.
+     *
+     * @param v Point to transform
+     * @return Transformed point
+     */
+    @Nonnull
+    public Vector transform(@Nonnull Vector v) {
+        final double[] a = m;
+        final double x = v.getX(), y = v.getY(), z = v.getZ();
+
+        final double tx = a[0] * x + a[1] * y + a[2] * z + a[3];
+        final double ty = a[4] * x + a[5] * y + a[6] * z + a[7];
+        final double tz = a[8] * x + a[9] * y + a[10] * z + a[11];
+        final double tw = a[12] * x + a[13] * y + a[14] * z + a[15];
+
+        if (tw == 1 || tw == 0) return new Vector(tx, ty, tz);
+        return new Vector(tx / tw, ty / tw, tz / tw);
+    }
+
+    /**
+     * Transforms a direction by this matrix. Translation is not applied to directions.
+     *
+     * @param v Direction to transform
+     * @return Transformed direction
+     */
+    @Nonnull
+    public Vector transformDirection(@Nonnull Vector v) {
+        final double[] a = m;
+        final double x = v.getX(), y = v.getY(), z = v.getZ();
+
+        return new Vector(
+                a[0] * x + a[1] * y + a[2] * z,
+                a[4] * x + a[5] * y + a[6] * z,
+                a[8] * x + a[9] * y + a[10] * z
+        );
+    }
+
+    /**
+     * Transforms a batch of points packed as in {@link VectorBatch} by the affine part of this matrix.
+     * The output array may be the same as the input array.
+     *
+     * @param points Batch of points
+     * @param out    Output batch
+     * @param count  Number of points
+     * @throws IllegalArgumentException When an array is too small
+     */
+    public void transform(@Nonnull double[] points, @Nonnull double[] out, @Nonnegative int count) throws IllegalArgumentException {
+        if (count < 0) throw new IllegalArgumentException("Count cannot be negative.");
+        if (points.length < count * 3 || out.length < count * 3) {
+            throw new IllegalArgumentException("Array is too small for " + count + " elements.");
+        }
+
+        final double[] a = m;
+        final double m00 = a[0], m01 = a[1], m02 = a[2], m03 = a[3];
+        final double m10 = a[4], m11 = a[5], m12 = a[6], m13 = a[7];
+        final double m20 = a[8], m21 = a[9], m22 = a[10], m23 = a[11];
+
+        for (int i = 0; i < count; i++) {
+            final int j = 3 * i;
+            final double x = points[j], y = points[j + 1], z = points[j + 2];
+
+            out[j] = m00 * x + m01 * y + m02 * z + m03;
+            out[j + 1] = m10 * x + m11 * y + m12 * z + m13;
+            out[j + 2] = m20 * x + m21 * y + m22 * z + m23;
+        }
+    }
+
+    //
+    // Util
+    //
+
+    /**
+     * Gets the transpose of this matrix.
+     *
+     * @return Transposed matrix
+     */
+    @Nonnull
+    public Matrix4 transpose() {
+        final double[] a = m;
+
+        return new Matrix4(new double[]{
+                a[0], a[4], a[8], a[12],
+                a[1], a[5], a[9], a[13],
+                a[2], a[6], a[10], a[14],
+                a[3], a[7], a[11], a[15]
+        }, false);
+    }
+
+    /**
+     * Gets the inverse of this matrix.
+     *
+     * @return Inverse
+     * @throws ArithmeticException When this matrix is singular (the determinant is zero)
+     */
+    @Nonnull
+    public Matrix4 inverse() throws ArithmeticException {
+        final double[] a = m;
+
+        // 2x2 sub-determinants of the top two rows, and of the bottom two rows
+        final double s0 = a[0] * a[5] - a[4] * a[1];
+        final double s1 = a[0] * a[6] - a[4] * a[2];
+        final double s2 = a[0] * a[7] - a[4] * a[3];
+        final double s3 = a[1] * a[6] - a[5] * a[2];
+        final double s4 = a[1] * a[7] - a[5] * a[3];
+        final double s5 = a[2] * a[7] - a[6] * a[3];
+
+        final double c5 = a[10] * a[15] - a[14] * a[11];
+        final double c4 = a[9] * a[15] - a[13] * a[11];
+        final double c3 = a[9] * a[14] - a[13] * a[10];
+        final double c2 = a[8] * a[15] - a[12] * a[11];
+        final double c1 = a[8] * a[14] - a[12] * a[10];
+        final double c0 = a[8] * a[13] - a[12] * a[9];
+
+        final double det = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+        if (det == 0) throw new ArithmeticException("Cannot invert a singular matrix.");
+
+        final double k = 1 / det;
+
+        return new Matrix4(new double[]{
+                (a[5] * c5 - a[6] * c4 + a[7] * c3) * k,
+                (-a[1] * c5 + a[2] * c4 - a[3] * c3) * k,
+                (a[13] * s5 - a[14] * s4 + a[15] * s3) * k,
+                (-a[9] * s5 + a[10] * s4 - a[11] * s3) * k,
+
+                (-a[4] * c5 + a[6] * c2 - a[7] * c1) * k,
+                (a[0] * c5 - a[2] * c2 + a[3] * c1) * k,
+                (-a[12] * s5 + a[14] * s2 - a[15] * s1) * k,
+                (a[8] * s5 - a[10] * s2 + a[11] * s1) * k,
+
+                (a[4] * c4 - a[5] * c2 + a[7] * c0) * k,
+                (-a[0] * c4 + a[1] * c2 - a[3] * c0) * k,
+                (a[12] * s4 - a[13] * s2 + a[15] * s0) * k,
+                (-a[8] * s4 + a[9] * s2 - a[11] * s0) * k,
+
+                (-a[4] * c3 + a[5] * c1 - a[6] * c0) * k,
+                (a[0] * c3 - a[1] * c1 + a[2] * c0) * k,
+                (-a[12] * s3 + a[13] * s1 - a[14] * s0) * k,
+                (a[8] * s3 - a[9] * s1 + a[10] * s0) * k
+        }, false);
+    }
+
+    /**
+     * Converts this matrix to a generic matrix.
+     *
+     * @return Generic 4x4 matrix
+     */
+    @Nonnull
+    public Matrix toMatrix() {
+        return new Matrix(4, 4, m);
+    }
+
+    /**
+     * Checks for equality between two matrices.
+     *
+     * @param other Matrix to compare to
+     * @return {@code true} if the matrices are equal
+     */
+    public boolean equals(@Nonnull Matrix4 other) {
+        return Arrays.equals(m, other.m);
+    }
+
+    /**
+     * Converts this matrix to a string.
+     *
+     * @return Stringified matrix
+     */
+    @Override
+    @Nonnull
+    public String toString() {
+        return "Matrix4{" +
+                "rows={0=" + Arrays.toString(Arrays.copyOfRange(m, 0, 4)) +
+                ", 1=" + Arrays.toString(Arrays.copyOfRange(m, 4, 8)) +
+                ", 2=" + Arrays.toString(Arrays.copyOfRange(m, 8, 12)) +
+                ", 3=" + Arrays.toString(Arrays.copyOfRange(m, 12, 16)) + "}" +
+                '}';
+    }
+
+    //
+    // Internal methods
+    //
+
+    /**
+     * Internal constructor which uses given array as-is.
+     */
+    private Matrix4(@Nonnull double[] values, boolean copy) {
+        this.m = copy ? values.clone() : values;
+    }
+}
@@ -0,0 +1,274 @@
+package oasis.artemis.util.math;
+
+import oasis.artemis.annotation.Numeric;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * <h2>MutableQuaternion</h2>
+ * <p>
+ * A mutable counterpart of {@link Quaternion}.
+ * Every operation modifies this instance in place and returns {@code this}, so chained operations
+ * do not allocate. Multiplication follows the same convention as {@link Quaternion#multiply(Quaternion)}.
+ * </p>
+ */
+@NotThreadSafe
+public class MutableQuaternion {
+    //
+    // Constructors
+    //
+
+    /**
+     * Creates a new identity quaternion.
+     */
+    public MutableQuaternion() {
+        this(1, 0, 0, 0);
+    }
+
+    /**
+     * Creates a new quaternion from four scalars.
+     *
+     * @param w W value of this quaternion
+     * @param x X value of this quaternion
+     * @param y Y value of this quaternion
+     * @param z Z value of this quaternion
+     */
+    public MutableQuaternion(@Numeric double w, @Numeric double x, @Numeric double y, @Numeric double z) {
+        this.w = w;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Creates a new quaternion with the values of an immutable quaternion.
+     *
+     * @param q Quaternion to copy
+     */
+    public MutableQuaternion(@Nonnull Quaternion q) {
+        this(q.getW(), q.getX(), q.getY(), q.getZ());
+    }
+
+    //
+    // Variables
+    //
+
+    @Numeric
+    private double w;
+    @Numeric
+    private double x;
+    @Numeric
+    private double y;
+    @Numeric
+    private double z;
+
+    //
+    // Getters
+    //
+
+    /**
+     * Gets the W value of this quaternion.
+     *
+     * @return W value
+     */
+    @Numeric
+    public double getW() {
+        return w;
+    }
+
+    /**
+     * Gets the X value of this quaternion.
+     *
+     * @return X value
+     */
+    @Numeric
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Gets the Y value of this quaternion.
+     *
+     * @return Y value
+     */
+    @Numeric
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Gets the Z value of this quaternion.
+     *
+     * @return Z value
+     */
+    @Numeric
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * Gets the magnitude of this quaternion.
+     *
+     * @return Magnitude
+     */
+    @Numeric
+    public double getMagnitude() {
+        return Math.sqrt(w * w + x * x + y * y + z * z);
+    }
+
+    //
+    // Setters
+    //
+
+    /**
+     * Sets the values of this quaternion.
+     *
+     * @param w W value to set to
+     * @param x X value to set to
+     * @param y Y value to set to
+     * @param z Z value to set to
+     * @return {@code this}
+     */
+    @Nonnull
+    public MutableQuaternion set(@Numeric double w, @Numeric double x, @Numeric double y, @Numeric double z) {
+        this.w = w;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Sets the values of this quaternion to those of an immutable quaternion.
+     *
+     * @param q Quaternion to copy
+     * @return {@code this}
+     */
+    @Nonnull
+    public MutableQuaternion set(@Nonnull Quaternion q) {
+        return set(q.getW(), q.getX(), q.getY(), q.getZ());
+    }
+
+    //
+    // Arithmetic
+    //
+
+    /**
+     * Multiplies this quaternion by a scalar.
+     *
+     * @param s Scalar to multiply with
+     * @return {@code this}
+     */
+    @Nonnull
+    public MutableQuaternion multiply(@Numeric double s) {
+        return set(w * s, x * s, y * s, z * s);
+    }
+
+    /**
+     * Performs quaternion-quaternion multiplication, where {@code this} is on the left.
+     *
+     * @param q Quaternion to multiply with
+     * @return {@code this}
+     */
+    @Nonnull
+    public MutableQuaternion multiply(@Nonnull Quaternion q) {
+        final double qw = q.getW(), qx = q.getX(), qy = q.getY(), qz = q.getZ();
+
+        return set(
+                w * qw - (x * qx + y * qy + z * qz),
+                qx * w + x * qw + (qy * z - qz * y),
+                qy * w + y * qw + (qz * x - qx * z),
+                qz * w + z * qw + (qx * y - qy * x)
+        );
+    }
+
+    /**
+     * Performs quaternion-quaternion multiplication, where {@code this} is on the right.
+     * This is how a rotation is applied on top of an existing one.
+     *
+     * @param q Quaternion to multiply with
+     * @return {@code this}
+     */
+    @Nonnull
+    public MutableQuaternion premultiply(@Nonnull Quaternion q) {
+        final double lw = q.getW(), lx = q.getX(), ly = q.getY(), lz = q.getZ();
+
+        return set(
+                lw * w - (lx * x + ly * y + lz * z),
+                x * lw + lx * w + (y * lz - z * ly),
+                y * lw + ly * w + (z * lx - x * lz),
+                z * lw + lz * w + (x * ly - y * lx)
+        );
+    }
+
+    /**
+     * Scales this rotation quaternion by given scalar.
+     * This gives the same result as {@link Quaternion#scale(double)}.
+     *
+     * @param s Scalar to scale to
+     * @return {@code this}
+     */
+    @Nonnull
+    public MutableQuaternion scale(@Numeric double s) {
+        if (w == 1) return set(1, 0, 0, 0);
+
+        final double acos = Math.acos(w);
+        final double k = Math.sin(acos * s) / Math.sin(acos);
+        return set(Math.cos(acos * s), x * k, y * k, z * k);
+    }
+
+    /**
+     * Converts this quaternion to a unit quaternion.
+     * If the magnitude is zero, this quaternion is left unchanged.
+     *
+     * @return {@code this}
+     */
+    @Nonnull
+    public MutableQuaternion normalize() {
+        final double magnitude = getMagnitude();
+        if (magnitude == 0) return this;
+
+        return multiply(1 / magnitude);
+    }
+
+    /**
+     * Sets this quaternion to its conjugate.
+     *
+     * @return {@code this}
+     */
+    @Nonnull
+    public MutableQuaternion conjugate() {
+        return set(w, -x, -y, -z);
+    }
+
+    //
+    // Util
+    //
+
+    /**
+     * Converts this quaternion to an immutable quaternion.
+     *
+     * @return Immutable copy of this quaternion
+     */
+    @Nonnull
+    public Quaternion toQuaternion() {
+        return new Quaternion(w, x, y, z);
+    }
+
+    /**
+     * Converts this quaternion to a string.
+     *
+     * @return Stringified quaternion
+     */
+    @Override
+    @Nonnull
+    public String toString() {
+        return "MutableQuaternion{" +
+                "w=" + w +
+                ", x=" + x +
+                ", y=" + y +
+                ", z=" + z +
+                '}';
+    }
+}
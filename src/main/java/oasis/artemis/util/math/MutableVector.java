@@ -0,0 +1,279 @@
+package oasis.artemis.util.math;
+
+import oasis.artemis.annotation.Numeric;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * <h2>MutableVector</h2>
+ * <p>
+ * A mutable counterpart of {@link Vector}.
+ * Every operation modifies this instance in place and returns {@code this}, so chained operations
+ * do not allocate. This is meant to be used as a scratch value in hot loops, then converted back
+ * to an immutable {@link Vector} with {@link MutableVector#toVector()}.
+ * </p>
+ */
+@NotThreadSafe
+public class MutableVector {
+    //
+    // Constructors
+    //
+
+    /**
+     * Creates a new zero vector.
+     */
+    public MutableVector() {
+        this(0, 0, 0);
+    }
+
+    /**
+     * Creates a new vector from given values.
+     *
+     * @param x X value of this vector
+     * @param y Y value of this vector
+     * @param z Z value of this vector
+     */
+    public MutableVector(@Numeric double x, @Numeric double y, @Numeric double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Creates a new vector with the values of an immutable vector.
+     *
+     * @param v Vector to copy
+     */
+    public MutableVector(@Nonnull Vector v) {
+        this(v.getX(), v.getY(), v.getZ());
+    }
+
+    //
+    // Variables
+    //
+
+    @Numeric
+    private double x;
+    @Numeric
+    private double y;
+    @Numeric
+    private double z;
+
+    //
+    // Getters
+    //
+
+    /**
+     * Gets the X value of this vector.
+     *
+     * @return X value
+     */
+    @Numeric
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Gets the Y value of this vector.
+     *
+     * @return Y value
+     */
+    @Numeric
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Gets the Z value of this vector.
+     *
+     * @return Z value
+     */
+    @Numeric
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * Gets the magnitude of this vector.
+     *
+     * @return Magnitude
+     */
+    @Numeric
+    public double getMagnitude() {
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    //
+    // Setters
+    //
+
+    /**
+     * Sets the values of this vector.
+     *
+     * @param x X value to set to
+     * @param y Y value to set to
+     * @param z Z value to set to
+     * @return {@code this}
+     */
+    @Nonnull
+    public MutableVector set(@Numeric double x, @Numeric double y, @Numeric double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Sets the values of this vector to those of an immutable vector.
+     *
+     * @param v Vector to copy
+     * @return {@code this}
+     */
+    @Nonnull
+    public MutableVector set(@Nonnull Vector v) {
+        return set(v.getX(), v.getY(), v.getZ());
+    }
+
+    //
+    // Arithmetic
+    //
+
+    /**
+     * Adds another vector to this vector.
+     *
+     * @param v Vector to add
+     * @return {@code this}
+     */
+    @Nonnull
+    public MutableVector add(@Nonnull Vector v) {
+        return set(x + v.getX(), y + v.getY(), z + v.getZ());
+    }
+
+    /**
+     * Subtracts another vector from this vector.
+     *
+     * @param v Vector to subtract
+     * @return {@code this}
+     */
+    @Nonnull
+    public MutableVector subtract(@Nonnull Vector v) {
+        return set(x - v.getX(), y - v.getY(), z - v.getZ());
+    }
+
+    /**
+     * Adds a vector multiplied by a scalar to this vector.
+     *
+     * @param v Vector to add
+     * @param s Scalar to multiply {@code v} with
+     * @return {@code this}
+     */
+    @Nonnull
+    public MutableVector addScaled(@Nonnull Vector v, @Numeric double s) {
+        return set(x + v.getX() * s, y + v.getY() * s, z + v.getZ() * s);
+    }
+
+    /**
+     * Multiplies this vector by a scalar.
+     *
+     * @param s Scalar to multiply with
+     * @return {@code this}
+     */
+    @Nonnull
+    public MutableVector multiply(@Numeric double s) {
+        return set(x * s, y * s, z * s);
+    }
+
+    /**
+     * Gets the dot product of this vector and {@code v}.
+     *
+     * @param v Vector to multiply with
+     * @return Dot product of two vectors
+     */
+    @Numeric
+    public double dot(@Nonnull Vector v) {
+        return x * v.getX() + y * v.getY() + z * v.getZ();
+    }
+
+    /**
+     * Sets this vector to the cross product of this vector and {@code v}.
+     * This is a cross product operation where {@code this} is on the left.
+     *
+     * @param v Vector to multiply with
+     * @return {@code this}
+     */
+    @Nonnull
+    public MutableVector cross(@Nonnull Vector v) {
+        return set(
+                y * v.getZ() - z * v.getY(),
+                z * v.getX() - x * v.getZ(),
+                x * v.getY() - y * v.getX()
+        );
+    }
+
+    /**
+     * Rotates this vector by a rotation quaternion.
+     * This gives the same result as {@link Vector#rotate(Quaternion)}, without the intermediate quaternions.
+     *
+     * @param rq Rotation quaternion to rotate by
+     * @return {@code this}
+     */
+    @Nonnull
+    public MutableVector rotate(@Nonnull Quaternion rq) {
+        final double w = rq.getW(), qx = rq.getX(), qy = rq.getY(), qz = rq.getZ();
+
+        // (w^2 - u.u) v + 2 (u.v) u - 2w (u x v)
+        final double s = w * w - (qx * qx + qy * qy + qz * qz);
+        final double d = 2 * (qx * x + qy * y + qz * z);
+        final double k = 2 * w;
+
+        return set(
+                s * x + d * qx - k * (qy * z - qz * y),
+                s * y + d * qy - k * (qz * x - qx * z),
+                s * z + d * qz - k * (qx * y - qy * x)
+        );
+    }
+
+    /**
+     * Converts this vector to a unit vector.
+     * If the magnitude is zero, this vector is left unchanged.
+     *
+     * @return {@code this}
+     */
+    @Nonnull
+    public MutableVector normalize() {
+        final double magnitude = getMagnitude();
+        if (magnitude == 0) return this;
+
+        return multiply(1 / magnitude);
+    }
+
+    //
+    // Util
+    //
+
+    /**
+     * Converts this vector to an immutable vector.
+     *
+     * @return Immutable copy of this vector
+     */
+    @Nonnull
+    public Vector toVector() {
+        return new Vector(x, y, z);
+    }
+
+    /**
+     * Converts this vector to a string.
+     *
+     * @return Stringified vector
+     */
+    @Override
+    @Nonnull
+    public String toString() {
+        return "MutableVector{" +
+                "x=" + x +
+                ", y=" + y +
+                ", z=" + z +
+                '}';
+    }
+}
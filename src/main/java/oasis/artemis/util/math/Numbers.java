@@ -8,6 +8,16 @@ import java.util.Arrays;
  * <p>A numerical utility class.</p>
  */
 public final class Numbers {
+    //
+    // Constants
+    //
+
+    /**
+     * The block size used by {@link Numbers#multiply(Matrix, Matrix, Matrix)}.
+     * One block of each operand and of the result fit in a 32 KB L1 cache together.
+     */
+    private static final int BLOCK_SIZE = 32;
+
     //
     // Matrix-matrix arithmetic
     //
@@ -26,15 +36,7 @@ public final class Numbers {
             throw new ArithmeticException("Cannot perform addition of matrices with different dimensions.");
         }
 
-        final Matrix result = new Matrix(m1.getRows(), m1.getColumns());
-
-        for (int r = 0; r < m1.getRows(); r++) {
-            for (int c = 0; c < m1.getColumns(); c++) {
-                result.set(r, c, m1.get(r, c) + m2.get(r, c));
-            }
-        }
-
-        return result;
+        return m1.copy().addInPlace(m2);
     }
 
     /**
@@ -51,15 +53,7 @@ public final class Numbers {
             throw new ArithmeticException("Cannot perform subtraction of matrices with different dimensions.");
         }
 
-        final Matrix result = new Matrix(m1.getRows(), m2.getColumns());
-
-        for (int r = 0; r < m1.getRows(); r++) {
-            for (int c = 0; c < m1.getColumns(); c++) {
-                result.set(r, c, m1.get(r, c) - m2.get(r, c));
-            }
-        }
-
-        return result;
+        return m1.copy().subtractInPlace(m2);
     }
 
     /**
@@ -74,29 +68,77 @@ public final class Numbers {
      */
     @Nonnull
     public static Matrix multiply(@Nonnull Matrix m1, @Nonnull Matrix m2) throws ArithmeticException {
+        final Matrix result = new Matrix(
+                Math.max(m1.getRows(), m2.getRows()),
+                Math.max(m1.getColumns(), m2.getColumns())
+        );
+
+        multiply(m1, m2, result);
+        return result;
+    }
+
+    /**
+     * Multiplies two matrices into an existing matrix, overwriting its values.
+     * The result must have at least as many rows as {@code m1}, and at least as many columns as {@code m2}.
+     * Cells outside of the product are set to zero.
+     *
+     * @param m1     Matrix 1
+     * @param m2     Matrix 2
+     * @param result Matrix to write the product to, which cannot be {@code m1} or {@code m2}
+     * @throws ArithmeticException When multiplication is impossible (the size is different)
+     */
+    public static void multiply(@Nonnull Matrix m1, @Nonnull Matrix m2, @Nonnull Matrix result) throws ArithmeticException {
         final int r1 = m1.getRows();
         final int c1 = m1.getColumns();
 
         final int r2 = m2.getRows();
         final int c2 = m2.getColumns();
 
-        final Matrix result = new Matrix(Math.max(r1, r2), Math.max(c1, c2));
+        if (c1 < r2) {
+            throw new ArithmeticException("Cannot perform multiplication of matrices with different size.");
+        }
+
+        if (result.getRows() < r1 || result.getColumns() < c2) {
+            throw new ArithmeticException("Result matrix is too small for the product.");
+        }
+
+        if (result == m1 || result == m2) {
+            throw new ArithmeticException("Cannot multiply a matrix into one of its operands.");
+        }
+
+        final double[] a = m1.values;
+        final double[] b = m2.values;
+        final double[] out = result.values;
+        final int n = result.getColumns();
 
         result.fill(0);
 
-        try {
-            for (int r = 0; r < r1; r++) {
-                for (int c = 0; c < c2; c++) {
-                    for (int i = 0; i < r2; i++) {
-                        result.set(r, c, result.get(r, c) + m1.get(r, i) * m2.get(i, c));
+        // Blocked i-k-j order, the innermost loop walks rows of b and out sequentially
+        for (int ii = 0; ii < r1; ii += BLOCK_SIZE) {
+            final int iMax = Math.min(ii + BLOCK_SIZE, r1);
+
+            for (int kk = 0; kk < r2; kk += BLOCK_SIZE) {
+                final int kMax = Math.min(kk + BLOCK_SIZE, r2);
+
+                for (int jj = 0; jj < c2; jj += BLOCK_SIZE) {
+                    final int jMax = Math.min(jj + BLOCK_SIZE, c2);
+
+                    for (int i = ii; i < iMax; i++) {
+                        final int rowA = i * c1;
+                        final int rowOut = i * n;
+
+                        for (int k = kk; k < kMax; k++) {
+                            final double aik = a[rowA + k];
+                            final int rowB = k * c2;
+
+                            for (int j = jj; j < jMax; j++) {
+                                out[rowOut + j] += aik * b[rowB + j];
+                            }
+                        }
                     }
                 }
             }
-        } catch (IndexOutOfBoundsException e) {
-            throw new ArithmeticException("Cannot perform multiplication of matrices with different size.");
         }
-
-        return result;
     }
 
     //
@@ -161,7 +161,7 @@ public class Quaternion implements Comparable<Quaternion>, Serializable {
      */
     @Numeric
     public double getMagnitude() {
-        return Math.sqrt(Math.pow(w, 2) + Math.pow(x, 2) + Math.pow(y, 2) + Math.pow(z, 2));
+        return Math.sqrt(w * w + x * x + y * y + z * z);
     }
 
     //
@@ -279,10 +279,8 @@ public class Quaternion implements Comparable<Quaternion>, Serializable {
 
         // This is a simplified equation of converting this to axis/angle, scaling the angle, then converting it back
         final double acos = Math.acos(w);
-        return new Quaternion(
-                Math.cos(acos * s),
-                getVectorPart().divide(Math.sin(acos)).multiply(Math.sin(acos * s))
-        );
+        final double k = Math.sin(acos * s) / Math.sin(acos);
+        return new Quaternion(Math.cos(acos * s), x * k, y * k, z * k);
     }
 
     /**
@@ -311,12 +309,13 @@ public class Quaternion implements Comparable<Quaternion>, Serializable {
      */
     @Nonnull
     public Quaternion multiply(@Nonnull Quaternion q) {
-        final double s = (w * q.w) - getVectorPart().dot(q.getVectorPart());
-        final Vector v = q.getVectorPart().multiply(w)
-                .add(getVectorPart().multiply(q.w))
-                .add(q.getVectorPart().cross(getVectorPart()));
-
-        return new Quaternion(s, v);
+        // s = w * q.w - v . q.v, v = q.v * w + v * q.w + q.v x v
+        return new Quaternion(
+                w * q.w - (x * q.x + y * q.y + z * q.z),
+                q.x * w + x * q.w + (q.y * z - q.z * y),
+                q.y * w + y * q.w + (q.z * x - q.x * z),
+                q.z * w + z * q.w + (q.x * y - q.y * x)
+        );
     }
 
     //
@@ -369,7 +368,7 @@ public class Quaternion implements Comparable<Quaternion>, Serializable {
     @Nonnull
     public Quaternion getInverse() {
         try {
-            return getConjugate().divide(Math.pow(getMagnitude(), 2));
+            return getConjugate().divide(w * w + x * x + y * y + z * z);
         } catch (ArithmeticException e) {
             return ZERO;
         }
@@ -124,7 +124,7 @@ public class Vector implements Comparable<Vector>, Serializable {
      */
     @Numeric
     public double getMagnitude() {
-        return Math.sqrt(Math.pow(x, 2) + Math.pow(y, 2) + Math.pow(z, 2));
+        return Math.sqrt(x * x + y * y + z * z);
     }
 
     /**
@@ -332,6 +332,19 @@ public class Vector implements Comparable<Vector>, Serializable {
         return subtract(v).getMagnitude();
     }
 
+    /**
+     * Gets the squared distance from {@code this} to another vector.
+     * This avoids the square root of {@link Vector#distanceTo(Vector)}, and is preferred for comparing distances.
+     *
+     * @param v Vector to get distance of
+     * @return Squared distance between two vectors
+     */
+    @Numeric
+    public double distanceSquaredTo(@Nonnull Vector v) {
+        final double dx = x - v.x, dy = y - v.y, dz = z - v.z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
     /**
      * Rotates this vector by a rotation quaternion.
      * If the given quaternion is not a unit quaternion, the magnitude of this vector will be altered.
@@ -341,7 +354,18 @@ public class Vector implements Comparable<Vector>, Serializable {
      */
     @Nonnull
     public Vector rotate(@Nonnull Quaternion rq) {
-        return rq.multiply(toPureQuaternion()).multiply(rq.getConjugate()).getVectorPart();
+        // Closed form of rq * (0, v) * rq', see MutableVector#rotate(Quaternion)
+        final double w = rq.getW(), qx = rq.getX(), qy = rq.getY(), qz = rq.getZ();
+
+        final double s = w * w - (qx * qx + qy * qy + qz * qz);
+        final double d = 2 * (qx * x + qy * y + qz * z);
+        final double k = 2 * w;
+
+        return new Vector(
+                s * x + d * qx - k * (qy * z - qz * y),
+                s * y + d * qy - k * (qz * x - qx * z),
+                s * z + d * qz - k * (qx * y - qy * x)
+        );
     }
 
     /**
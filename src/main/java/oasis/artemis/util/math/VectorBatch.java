@@ -0,0 +1,385 @@
+package oasis.artemis.util.math;
+
+import oasis.artemis.annotation.Numeric;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * <h2>VectorBatch</h2>
+ * <p>
+ * Batch operations over many vectors packed into one {@code double[]}.
+ * Vectors are stored as consecutive {@code x, y, z} triples, and quaternions as consecutive {@code w, x, y, z}
+ * quadruples, so the {@code i}-th vector starts at index {@code 3 * i}.
+ * </p>
+ * <p>
+ * When built with the {@code simd} Maven profile, and run with the {@code jdk.incubator.vector} module present
+ * ({@code --add-modules jdk.incubator.vector}), {@link #add}, {@link #translate} and {@link #scale}
+ * run on SIMD registers through the Vector API.
+ * Otherwise, and for every other operation, they are plain scalar loops without allocation.
+ * The output array may be the same as an input array, in which case the operation is done in place.
+ * </p>
+ */
+public final class VectorBatch {
+    //
+    // Constants
+    //
+
+    /**
+     * SIMD kernels, {@code null} if they were not compiled, or the Vector API is not available at runtime.
+     */
+    @Nullable
+    private static final VectorBatchKernels SIMD = loadSimd();
+
+    /**
+     * Checks if batch operations use the Vector API.
+     *
+     * @return {@code true} if the SIMD kernels were compiled, and the {@code jdk.incubator.vector} module is present
+     */
+    public static boolean isSimdEnabled() {
+        return SIMD != null;
+    }
+
+    //
+    // Packing
+    //
+
+    /**
+     * Packs vectors into a new array.
+     *
+     * @param vectors Vectors to pack
+     * @return Packed array
+     */
+    @Nonnull
+    public static double[] pack(@Nonnull Vector... vectors) {
+        final double[] packed = new double[vectors.length * 3];
+
+        for (int i = 0; i < vectors.length; i++) {
+            final Vector v = vectors[i];
+            packed[3 * i] = v.getX();
+            packed[3 * i + 1] = v.getY();
+            packed[3 * i + 2] = v.getZ();
+        }
+
+        return packed;
+    }
+
+    /**
+     * Gets one vector from a packed array.
+     *
+     * @param packed Packed array
+     * @param index  Index of the vector
+     * @return Vector at given index
+     */
+    @Nonnull
+    public static Vector get(@Nonnull double[] packed, @Nonnegative int index) {
+        return new Vector(packed[3 * index], packed[3 * index + 1], packed[3 * index + 2]);
+    }
+
+    //
+    // Arithmetic
+    //
+
+    /**
+     * Adds two batches of vectors element-wise.
+     *
+     * @param a     First batch
+     * @param b     Second batch
+     * @param out   Output batch
+     * @param count Number of vectors
+     * @throws IllegalArgumentException When an array is too small
+     */
+    public static void add(
+            @Nonnull double[] a,
+            @Nonnull double[] b,
+            @Nonnull double[] out,
+            @Nonnegative int count
+    ) throws IllegalArgumentException {
+        check(count, 3, a, b, out);
+
+        final int n = count * 3;
+        final VectorBatchKernels simd = SIMD;
+        if (simd != null && n >= simd.lanes()) {
+            simd.add(a, b, out, n);
+            return;
+        }
+
+        for (int i = 0; i < n; i++) {
+            out[i] = a[i] + b[i];
+        }
+    }
+
+    /**
+     * Adds one vector to every vector of a batch.
+     *
+     * @param a      Batch
+     * @param offset Vector to add
+     * @param out    Output batch
+     * @param count  Number of vectors
+     * @throws IllegalArgumentException When an array is too small
+     */
+    public static void translate(
+            @Nonnull double[] a,
+            @Nonnull Vector offset,
+            @Nonnull double[] out,
+            @Nonnegative int count
+    ) throws IllegalArgumentException {
+        check(count, 3, a, out);
+
+        final double x = offset.getX(), y = offset.getY(), z = offset.getZ();
+        final VectorBatchKernels simd = SIMD;
+        if (simd != null && count * 3 >= simd.lanes()) {
+            simd.translate(a, x, y, z, out, count * 3);
+            return;
+        }
+
+        for (int i = 0; i < count; i++) {
+            final int j = 3 * i;
+            out[j] = a[j] + x;
+            out[j + 1] = a[j + 1] + y;
+            out[j + 2] = a[j + 2] + z;
+        }
+    }
+
+    /**
+     * Multiplies every vector of a batch by a scalar.
+     *
+     * @param a     Batch
+     * @param s     Scalar to multiply with
+     * @param out   Output batch
+     * @param count Number of vectors
+     * @throws IllegalArgumentException When an array is too small
+     */
+    public static void scale(
+            @Nonnull double[] a,
+            @Numeric double s,
+            @Nonnull double[] out,
+            @Nonnegative int count
+    ) throws IllegalArgumentException {
+        check(count, 3, a, out);
+
+        final int n = count * 3;
+        final VectorBatchKernels simd = SIMD;
+        if (simd != null && n >= simd.lanes()) {
+            simd.scale(a, s, out, n);
+            return;
+        }
+
+        for (int i = 0; i < n; i++) {
+            out[i] = a[i] * s;
+        }
+    }
+
+    /**
+     * Gets the dot products of two batches of vectors element-wise.
+     *
+     * @param a     First batch
+     * @param b     Second batch
+     * @param out   Output array of {@code count} scalars
+     * @param count Number of vectors
+     * @throws IllegalArgumentException When an array is too small
+     */
+    public static void dot(
+            @Nonnull double[] a,
+            @Nonnull double[] b,
+            @Nonnull double[] out,
+            @Nonnegative int count
+    ) throws IllegalArgumentException {
+        check(count, 3, a, b);
+        check(count, 1, out);
+
+        for (int i = 0; i < count; i++) {
+            final int j = 3 * i;
+            out[i] = a[j] * b[j] + a[j + 1] * b[j + 1] + a[j + 2] * b[j + 2];
+        }
+    }
+
+    /**
+     * Gets the cross products of two batches of vectors element-wise, where {@code a} is on the left.
+     *
+     * @param a     First batch
+     * @param b     Second batch
+     * @param out   Output batch
+     * @param count Number of vectors
+     * @throws IllegalArgumentException When an array is too small
+     */
+    public static void cross(
+            @Nonnull double[] a,
+            @Nonnull double[] b,
+            @Nonnull double[] out,
+            @Nonnegative int count
+    ) throws IllegalArgumentException {
+        check(count, 3, a, b, out);
+
+        for (int i = 0; i < count; i++) {
+            final int j = 3 * i;
+            final double ax = a[j], ay = a[j + 1], az = a[j + 2];
+            final double bx = b[j], by = b[j + 1], bz = b[j + 2];
+
+            out[j] = ay * bz - az * by;
+            out[j + 1] = az * bx - ax * bz;
+            out[j + 2] = ax * by - ay * bx;
+        }
+    }
+
+    /**
+     * Converts every vector of a batch to a unit vector.
+     * Vectors with a magnitude of zero are left unchanged.
+     *
+     * @param a     Batch
+     * @param out   Output batch
+     * @param count Number of vectors
+     * @throws IllegalArgumentException When an array is too small
+     */
+    public static void normalize(
+            @Nonnull double[] a,
+            @Nonnull double[] out,
+            @Nonnegative int count
+    ) throws IllegalArgumentException {
+        check(count, 3, a, out);
+
+        for (int i = 0; i < count; i++) {
+            final int j = 3 * i;
+            final double x = a[j], y = a[j + 1], z = a[j + 2];
+            final double magnitude = Math.sqrt(x * x + y * y + z * z);
+            final double k = magnitude == 0 ? 1 : 1 / magnitude;
+
+            out[j] = x * k;
+            out[j + 1] = y * k;
+            out[j + 2] = z * k;
+        }
+    }
+
+    //
+    // Rotation
+    //
+
+    /**
+     * Rotates every vector of a batch by the same rotation quaternion.
+     * This gives the same result as {@link Vector#rotate(Quaternion)} on each vector.
+     *
+     * @param a     Batch
+     * @param rq    Rotation quaternion to rotate by
+     * @param out   Output batch
+     * @param count Number of vectors
+     * @throws IllegalArgumentException When an array is too small
+     */
+    public static void rotate(
+            @Nonnull double[] a,
+            @Nonnull Quaternion rq,
+            @Nonnull double[] out,
+            @Nonnegative int count
+    ) throws IllegalArgumentException {
+        check(count, 3, a, out);
+
+        final double w = rq.getW(), qx = rq.getX(), qy = rq.getY(), qz = rq.getZ();
+        final double s = w * w - (qx * qx + qy * qy + qz * qz);
+        final double k = 2 * w;
+
+        for (int i = 0; i < count; i++) {
+            rotate(a, out, 3 * i, w, qx, qy, qz, s, k);
+        }
+    }
+
+    /**
+     * Rotates every vector of a batch by its own rotation quaternion.
+     *
+     * @param a     Batch of vectors
+     * @param q     Batch of rotation quaternions
+     * @param out   Output batch of vectors
+     * @param count Number of vectors
+     * @throws IllegalArgumentException When an array is too small
+     */
+    public static void rotate(
+            @Nonnull double[] a,
+            @Nonnull double[] q,
+            @Nonnull double[] out,
+            @Nonnegative int count
+    ) throws IllegalArgumentException {
+        check(count, 3, a, out);
+        check(count, 4, q);
+
+        for (int i = 0; i < count; i++) {
+            final int j = 4 * i;
+            final double w = q[j], qx = q[j + 1], qy = q[j + 2], qz = q[j + 3];
+
+            rotate(a, out, 3 * i, w, qx, qy, qz, w * w - (qx * qx + qy * qy + qz * qz), 2 * w);
+        }
+    }
+
+    /**
+     * Left-multiplies every quaternion of a batch by the same quaternion.
+     * This gives the same result as {@code rq.multiply(q)} on each quaternion,
+     * which is how a rotation is applied on top of an existing one.
+     *
+     * @param rq    Quaternion to multiply with
+     * @param q     Batch of quaternions
+     * @param out   Output batch of quaternions
+     * @param count Number of quaternions
+     * @throws IllegalArgumentException When an array is too small
+     */
+    public static void multiply(
+            @Nonnull Quaternion rq,
+            @Nonnull double[] q,
+            @Nonnull double[] out,
+            @Nonnegative int count
+    ) throws IllegalArgumentException {
+        check(count, 4, q, out);
+
+        final double lw = rq.getW(), lx = rq.getX(), ly = rq.getY(), lz = rq.getZ();
+        for (int i = 0; i < count; i++) {
+            final int j = 4 * i;
+            final double rw = q[j], rx = q[j + 1], ry = q[j + 2], rz = q[j + 3];
+
+            out[j] = lw * rw - (lx * rx + ly * ry + lz * rz);
+            out[j + 1] = rx * lw + lx * rw + (ry * lz - rz * ly);
+            out[j + 2] = ry * lw + ly * rw + (rz * lx - rx * lz);
+            out[j + 3] = rz * lw + lz * rw + (rx * ly - ry * lx);
+        }
+    }
+
+    //
+    // Internal methods
+    //
+
+    private static void rotate(
+            double[] a, double[] out, int j,
+            double w, double qx, double qy, double qz, double s, double k
+    ) {
+        final double x = a[j], y = a[j + 1], z = a[j + 2];
+        final double d = 2 * (qx * x + qy * y + qz * z);
+
+        out[j] = s * x + d * qx - k * (qy * z - qz * y);
+        out[j + 1] = s * y + d * qy - k * (qz * x - qx * z);
+        out[j + 2] = s * z + d * qz - k * (qx * y - qy * x);
+    }
+
+    /**
+     * Loads the SIMD kernels, if they were compiled and the Vector API is available.
+     * {@link VectorBatchSimd} is only referenced by name, so that this class links without it.
+     */
+    @Nullable
+    private static VectorBatchKernels loadSimd() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return null;
+
+        try {
+            final Class<?> type = Class.forName("oasis.artemis.util.math.VectorBatchSimd");
+            return (VectorBatchKernels) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static void check(int count, int stride, @Nonnull double[]... arrays) throws IllegalArgumentException {
+        if (count < 0) throw new IllegalArgumentException("Count cannot be negative.");
+
+        for (double[] array : arrays) {
+            if (array.length < count * stride) {
+                throw new IllegalArgumentException("Array is too small for " + count + " elements.");
+            }
+        }
+    }
+
+    private VectorBatch() {}
+}
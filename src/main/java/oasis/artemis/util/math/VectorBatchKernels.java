@@ -0,0 +1,26 @@
+package oasis.artemis.util.math;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <h2>VectorBatchKernels</h2>
+ * <p>
+ * Element-wise kernels of {@link VectorBatch} which have an optional SIMD implementation.
+ * Arrays are packed as in {@link VectorBatch}, and {@code n} is the number of elements, not vectors.
+ * </p>
+ */
+interface VectorBatchKernels {
+    /**
+     * Gets the number of lanes of one vector register.
+     * Arrays shorter than this are not worth vectorizing.
+     *
+     * @return Number of lanes
+     */
+    int lanes();
+
+    void add(@Nonnull double[] a, @Nonnull double[] b, @Nonnull double[] out, int n);
+
+    void scale(@Nonnull double[] a, double s, @Nonnull double[] out, int n);
+
+    void translate(@Nonnull double[] a, double x, double y, double z, @Nonnull double[] out, int n);
+}
@@ -0,0 +1,110 @@
+package oasis.artemis.util.math;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <h2>VectorBatchSimd</h2>
+ * <p>
+ * Kernels of {@link VectorBatch} which are written with the incubating Vector API.
+ * This class is only compiled with the {@code simd} Maven profile, and only loaded when the
+ * {@code jdk.incubator.vector} module is present at runtime, which {@link VectorBatch} checks before loading it.
+ * </p>
+ * <p>
+ * Only kernels which work on every element alike are vectorized. Kernels which mix the components of one vector,
+ * such as dot and cross products, would need shuffles of the interleaved layout, and are left scalar.
+ * </p>
+ */
+final class VectorBatchSimd implements VectorBatchKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Lanes which hold an x or y component, for a register starting at each of the three offsets within a triple.
+     */
+    private static final VectorMask<Double>[] X_LANES = componentLanes(0);
+    private static final VectorMask<Double>[] Y_LANES = componentLanes(1);
+
+    VectorBatchSimd() {}
+
+    @Override
+    public int lanes() {
+        return SPECIES.length();
+    }
+
+    @Override
+    public void add(@Nonnull double[] a, @Nonnull double[] b, @Nonnull double[] out, int n) {
+        final int bound = SPECIES.loopBound(n);
+
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, a, i).add(DoubleVector.fromArray(SPECIES, b, i)).intoArray(out, i);
+        }
+
+        for (; i < n; i++) {
+            out[i] = a[i] + b[i];
+        }
+    }
+
+    @Override
+    public void scale(@Nonnull double[] a, double s, @Nonnull double[] out, int n) {
+        final int bound = SPECIES.loopBound(n);
+
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, a, i).mul(s).intoArray(out, i);
+        }
+
+        for (; i < n; i++) {
+            out[i] = a[i] * s;
+        }
+    }
+
+    @Override
+    public void translate(@Nonnull double[] a, double x, double y, double z, @Nonnull double[] out, int n) {
+        // The offset repeats every three elements, so each register starts at one of three phases
+        final DoubleVector vx = DoubleVector.broadcast(SPECIES, x);
+        final DoubleVector vy = DoubleVector.broadcast(SPECIES, y);
+        final DoubleVector vz = DoubleVector.broadcast(SPECIES, z);
+
+        final DoubleVector offset0 = vz.blend(vy, Y_LANES[0]).blend(vx, X_LANES[0]);
+        final DoubleVector offset1 = vz.blend(vy, Y_LANES[1]).blend(vx, X_LANES[1]);
+        final DoubleVector offset2 = vz.blend(vy, Y_LANES[2]).blend(vx, X_LANES[2]);
+
+        final int bound = SPECIES.loopBound(n);
+
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final int phase = i % 3;
+            final DoubleVector offset = phase == 0 ? offset0 : phase == 1 ? offset1 : offset2;
+
+            DoubleVector.fromArray(SPECIES, a, i).add(offset).intoArray(out, i);
+        }
+
+        for (; i < n; i++) {
+            final int component = i % 3;
+            out[i] = a[i] + (component == 0 ? x : component == 1 ? y : z);
+        }
+    }
+
+    /**
+     * Gets the lanes which hold given component, for a register starting at each phase of a triple.
+     */
+    @SuppressWarnings("unchecked")
+    private static VectorMask<Double>[] componentLanes(int component) {
+        final VectorMask<Double>[] masks = new VectorMask[3];
+        final boolean[] bits = new boolean[SPECIES.length()];
+
+        for (int phase = 0; phase < 3; phase++) {
+            for (int k = 0; k < bits.length; k++) {
+                bits[k] = (phase + k) % 3 == component;
+            }
+
+            masks[phase] = VectorMask.fromArray(SPECIES, bits, 0);
+        }
+
+        return masks;
+    }
+}
@@ -0,0 +1,133 @@
+package oasis.artemis.event.lifecycle;
+
+import oasis.artemis.event.Partitioned;
+import oasis.artemis.event.listener.EventHandler;
+import oasis.artemis.event.listener.Listener;
+import oasis.artemis.task.Task;
+import org.joda.time.Duration;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <h2>EventManagerTest</h2>
+ * <p>Tests that {@link EventManager} keeps each lane in order when its queue overflows.</p>
+ */
+final class EventManagerTest {
+    @Test
+    void drainerKeepsOrderWhenOverflowingItsOwnLane() {
+        final EventManager manager = new EventManager(2, OverflowPolicy.BLOCK);
+        final List<Integer> handled = new ArrayList<>();
+
+        manager.registerListener(new Recorder(e -> {
+            handled.add(e.sequence);
+
+            // Called from the drainer, with far more events than fit in the queue
+            if (e.sequence == 0) {
+                for (int i = 1; i <= 20; i++) manager.callEvent(new SequencedEvent(0, i));
+            }
+        }));
+
+        manager.callEvent(new SequencedEvent(0, 0));
+        drain(manager, 0);
+
+        assertEquals(range(0, 21), handled);
+        assertEquals(0, manager.getDroppedCount());
+        assertEquals(21, manager.getHandledCount());
+    }
+
+    @Test
+    void blockedCallerKeepsOrder() throws InterruptedException {
+        final int count = 2_000;
+        final EventManager manager = new EventManager(4, OverflowPolicy.BLOCK);
+        final List<Integer> handled = new ArrayList<>();
+
+        manager.registerListener(new Recorder(e -> handled.add(e.sequence)));
+
+        final Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) manager.callEvent(new SequencedEvent(0, i));
+        });
+
+        producer.start();
+
+        final Task task = manager.getLaneTask(0);
+        while (producer.isAlive() || manager.getQueueDepth() > 0) {
+            task.execute(Duration.ZERO);
+            Thread.yield();
+        }
+
+        producer.join();
+        drain(manager, 0);
+
+        assertEquals(range(0, count), handled);
+        assertEquals(0, manager.getDroppedCount());
+    }
+
+    @Test
+    void drainerOfAnotherLaneDropsOldestInsteadOfWaiting() {
+        final EventManager manager = new EventManager(2, OverflowPolicy.BLOCK, 2);
+        final List<Integer> handled = new ArrayList<>();
+
+        manager.registerListener(new Recorder(e -> {
+            if (e.key == 1) {
+                handled.add(e.sequence);
+                return;
+            }
+
+            // Keys 0 and 1 are routed to different lanes, the second of which only fits two events
+            for (int i = 0; i < 5; i++) manager.callEvent(new SequencedEvent(1, i));
+        }));
+
+        manager.callEvent(new SequencedEvent(0, 0));
+        drain(manager, 0);
+
+        assertTrue(handled.isEmpty());
+        assertEquals(3, manager.getDroppedCount());
+
+        drain(manager, 1);
+        assertEquals(List.of(3, 4), handled);
+    }
+
+    //
+    // Internal methods
+    //
+
+    /**
+     * Runs a lane's task until it no longer handles anything.
+     */
+    private static void drain(EventManager manager, int lane) {
+        final Task task = manager.getLaneTask(lane);
+        long handled;
+
+        do {
+            handled = manager.getHandledCount();
+            task.execute(Duration.ZERO);
+        } while (manager.getHandledCount() != handled);
+    }
+
+    private static List<Integer> range(int from, int to) {
+        final List<Integer> list = new ArrayList<>();
+        for (int i = from; i < to; i++) list.add(i);
+        return list;
+    }
+
+    private record SequencedEvent(int key, int sequence) implements Partitioned {
+        @Nonnull
+        @Override
+        public Object getPartitionKey() {
+            return key;
+        }
+    }
+
+    private record Recorder(Consumer<SequencedEvent> action) implements Listener {
+        @EventHandler
+        private void onEvent(SequencedEvent event) {
+            action.accept(event);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package oasis.artemis.level;
+
+import oasis.artemis.object.ArtemisObject;
+import oasis.artemis.object.SimpleObject;
+import oasis.artemis.util.collision.ContactManifold;
+import oasis.artemis.util.geometry.profile.BoxProfile;
+import oasis.artemis.util.geometry.profile.SphereProfile;
+import oasis.artemis.util.group.Pair;
+import oasis.artemis.util.math.Vector;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <h2>ContactSolverTest</h2>
+ * <p>Tests the response of {@link ContactSolver} to colliding and resting contacts.</p>
+ */
+final class ContactSolverTest {
+    private static final double TOLERANCE = 1e-9;
+    private static final double SECONDS = 0.01;
+    private static final Vector GRAVITY = new Vector(0, -9.81, 0);
+
+    @Test
+    void headOnCollisionBouncesByRestitution() {
+        final SimpleObject a = sphere(new Vector(0, 0, 0), new Vector(4, 0, 0));
+        final SimpleObject b = sphere(new Vector(1.9, 0, 0), new Vector(-4, 0, 0));
+
+        final ContactSolver solver = ContactSolver.builder().restitution(0.5).friction(0).build();
+        solver.solve(List.of(manifold(a, b)));
+
+        // Equal masses part at half their closing speed, and keep their total momentum
+        assertEquals(-2, a.getAcceleration().getX(), TOLERANCE);
+        assertEquals(2, b.getAcceleration().getX(), TOLERANCE);
+        assertEquals(0, a.getAcceleration().getY(), TOLERANCE);
+        assertEquals(0, b.getAcceleration().getY(), TOLERANCE);
+
+        // Overlap is corrected by moving the objects, not by speeding them up
+        assertTrue(b.getLocation().getX() - a.getLocation().getX() > 1.9);
+    }
+
+    @Test
+    void slowContactDoesNotBounce() {
+        final SimpleObject a = sphere(new Vector(0, 0, 0), new Vector(0.25, 0, 0));
+        final SimpleObject b = sphere(new Vector(1.9, 0, 0), new Vector(-0.25, 0, 0));
+
+        new ContactSolver().solve(List.of(manifold(a, b)));
+
+        assertEquals(0, a.getAcceleration().getX(), TOLERANCE);
+        assertEquals(0, b.getAcceleration().getX(), TOLERANCE);
+    }
+
+    @Test
+    void restingContactDoesNotDrift() {
+        final SimpleObject ground = SimpleObject.builder()
+                .mass(0)
+                .geometry(new BoxProfile(100, 1, 100))
+                .location(new Vector(0, -0.5, 0))
+                .build();
+
+        // Slides along the ground until friction stops it
+        final SimpleObject box = SimpleObject.builder()
+                .mass(2)
+                .geometry(new BoxProfile(1, 1, 1))
+                .location(new Vector(0, 0.495, 0))
+                .acceleration(new Vector(1, 0, 0.5))
+                .build();
+
+        final ContactSolver solver = new ContactSolver();
+        Vector settled = null;
+
+        for (int step = 0; step < 1000; step++) {
+            box.setAcceleration(box.getAcceleration().add(GRAVITY.multiply(SECONDS)));
+            box.move(box.getAcceleration().multiply(SECONDS));
+
+            final ContactManifold manifold = ContactManifold.of(new Pair<>(ground, box));
+            solver.solve(manifold != null ? List.of(manifold) : List.of());
+
+            if (step == 200) settled = box.getLocation();
+        }
+
+        assertNotNull(settled);
+        assertTrue(box.getLocation().distanceTo(settled) < 1e-6, "Drifted from " + settled + " to " + box.getLocation());
+
+        // Rests where correcting the overlap balances what gravity sinks it by in one step
+        final double fall = -GRAVITY.getY() * SECONDS * SECONDS;
+        final double depth = solver.getSlop() + fall / solver.getCorrection() - fall;
+        assertEquals(0.5 - depth, box.getLocation().getY(), 1e-6);
+        assertEquals(0, box.getAcceleration().getX(), 1e-6);
+        assertEquals(0, box.getAcceleration().getZ(), 1e-6);
+        assertTrue(Math.abs(box.getAcceleration().getY()) <= -GRAVITY.getY() * SECONDS + 1e-6);
+    }
+
+    @Test
+    void forgottenObjectIsNotWarmStarted() {
+        final SimpleObject a = sphere(new Vector(0, 0, 0), Vector.ZERO);
+        final SimpleObject b = sphere(new Vector(1.9, 0, 0), new Vector(-0.5, 0, 0));
+
+        final ContactSolver solver = ContactSolver.builder().correction(0).build();
+        solver.solve(List.of(manifold(a, b)));
+        solver.forget(b);
+
+        // Without a remembered impulse, objects at rest stay at rest
+        a.setAcceleration(Vector.ZERO);
+        b.setAcceleration(Vector.ZERO);
+        solver.solve(List.of(manifold(a, b)));
+
+        assertEquals(0, a.getAcceleration().getX(), TOLERANCE);
+        assertEquals(0, b.getAcceleration().getX(), TOLERANCE);
+    }
+
+    //
+    // Internal methods
+    //
+
+    private static SimpleObject sphere(Vector location, Vector velocity) {
+        return SimpleObject.builder()
+                .mass(1)
+                .geometry(new SphereProfile(1))
+                .location(location)
+                .acceleration(velocity)
+                .build();
+    }
+
+    private static ContactManifold manifold(ArtemisObject a, ArtemisObject b) {
+        final ContactManifold manifold = ContactManifold.of(new Pair<>(a, b));
+        assertNotNull(manifold);
+        return manifold;
+    }
+}
@@ -0,0 +1,253 @@
+package oasis.artemis.task.lifecycle;
+
+import oasis.artemis.task.Task;
+import oasis.artemis.task.TaskAdapter;
+import org.joda.time.Duration;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <h2>SchedulerThreadTest</h2>
+ * <p>Tests the order of executions, (un)registrations and dispatching of {@link SchedulerThread}.</p>
+ */
+final class SchedulerThreadTest {
+    @Test
+    void tasksRunInOrderOfDueTime() throws InterruptedException {
+        final SyncScheduler scheduler = new SyncScheduler();
+        final List<Long> dueTimes = new CopyOnWriteArrayList<>();
+        final List<CountingTask> tasks = new ArrayList<>();
+
+        for (long interval : new long[]{7, 13, 29}) {
+            final CountingTask task = new CountingTask(interval) {
+                @Override
+                public void execute(@Nonnull Duration delta) {
+                    // The state still holds the due time which made this execution start
+                    dueTimes.add(scheduler.states.get(this).nextRun);
+                    super.execute(delta);
+                }
+            };
+
+            tasks.add(task);
+            scheduler.registerTask(task);
+        }
+
+        scheduler.start();
+
+        try {
+            awaitExecutions(tasks, 3);
+        } finally {
+            scheduler.stop();
+        }
+
+        for (int i = 1; i < dueTimes.size(); i++) {
+            assertTrue(dueTimes.get(i - 1) <= dueTimes.get(i), "Execution " + i + " was due before the previous one");
+        }
+    }
+
+    @Test
+    void concurrentRegistrationsAreNeitherLostNorDoubled() throws InterruptedException {
+        final int threads = 4, perThread = 50;
+
+        final SyncScheduler scheduler = new SyncScheduler();
+        final List<CountingTask> shared = new ArrayList<>();
+        final List<List<CountingTask>> own = new ArrayList<>();
+        final Set<Task> expected = new HashSet<>();
+
+        for (int i = 0; i < perThread; i++) {
+            shared.add(new CountingTask(1));
+        }
+
+        expected.addAll(shared);
+
+        for (int t = 0; t < threads; t++) {
+            final List<CountingTask> tasks = new ArrayList<>();
+            for (int i = 0; i < perThread; i++) {
+                tasks.add(new CountingTask(1));
+            }
+
+            own.add(tasks);
+            expected.addAll(tasks.subList(0, perThread / 2));
+        }
+
+        scheduler.start();
+
+        try {
+            // Every thread registers all shared tasks, and unregisters half of its own tasks right after registering them
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Thread> workers = new ArrayList<>();
+
+            for (List<CountingTask> tasks : own) {
+                workers.add(new Thread(() -> {
+                    await(start);
+                    for (int i = 0; i < perThread; i++) {
+                        scheduler.registerTask(shared.get(i));
+                        scheduler.registerTask(tasks.get(i));
+                        if (i >= perThread / 2) scheduler.unregisterTask(tasks.get(i));
+
+                        Thread.yield();
+                    }
+                }));
+            }
+
+            workers.forEach(Thread::start);
+            start.countDown();
+
+            for (Thread worker : workers) {
+                worker.join(30_000);
+                assertFalse(worker.isAlive(), "Registration did not finish");
+            }
+
+            settle(scheduler);
+            assertEquals(expected, getTasks(scheduler));
+
+            final List<CountingTask> registered = new ArrayList<>(shared);
+            own.forEach(tasks -> registered.addAll(tasks.subList(0, perThread / 2)));
+            awaitExecutions(registered, 1);
+
+            // A task queued twice would survive being unregistered once
+            scheduler.unregisterTasks(new ArrayList<>(expected));
+            settle(scheduler);
+            assertTrue(getTasks(scheduler).isEmpty());
+
+            final List<Integer> counts = registered.stream().map(task -> task.executions.get()).toList();
+            Thread.sleep(50);
+            assertEquals(counts, registered.stream().map(task -> task.executions.get()).toList());
+
+            for (List<CountingTask> tasks : own) {
+                for (CountingTask task : tasks.subList(perThread / 2, perThread)) {
+                    assertEquals(0, task.executions.get(), "Unregistered task was executed");
+                }
+            }
+        } finally {
+            scheduler.stop();
+        }
+    }
+
+    @Test
+    void taskIsNeverExecutedConcurrentlyWithItself() throws InterruptedException {
+        final AsyncScheduler scheduler = new AsyncScheduler(4);
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        final List<CountingTask> tasks = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            tasks.add(new CountingTask(1) {
+                private final AtomicInteger running = new AtomicInteger();
+
+                @Override
+                public void execute(@Nonnull Duration delta) {
+                    if (running.incrementAndGet() > 1) overlapped.set(true);
+
+                    // Outlast the interval, so that the task is due again while it is still running
+                    final long end = System.nanoTime() + 3_000_000;
+                    while (System.nanoTime() < end) Thread.yield();
+
+                    running.decrementAndGet();
+                    super.execute(delta);
+                }
+            });
+        }
+
+        scheduler.registerTasks(new ArrayList<>(tasks));
+        scheduler.start();
+
+        try {
+            awaitExecutions(tasks, 10);
+        } finally {
+            scheduler.stop();
+        }
+
+        assertFalse(overlapped.get());
+    }
+
+    //
+    // Internal methods
+    //
+
+    /**
+     * Waits until every (un)registration made so far was applied.
+     * Registrations are applied in order, so a task registered last only runs after all of them.
+     */
+    private static void settle(@Nonnull AbstractScheduler scheduler) throws InterruptedException {
+        final Sentinel sentinel = new Sentinel(scheduler);
+        scheduler.registerTask(sentinel);
+
+        assertTrue(sentinel.applied.await(30, TimeUnit.SECONDS), "Registrations were not applied");
+    }
+
+    /**
+     * Gets the registered tasks, except for sentinels.
+     */
+    @Nonnull
+    private static Set<Task> getTasks(@Nonnull AbstractScheduler scheduler) {
+        final Set<Task> tasks = new HashSet<>(scheduler.states.keySet());
+        tasks.removeIf(task -> task instanceof Sentinel);
+        return tasks;
+    }
+
+    private static void awaitExecutions(@Nonnull List<CountingTask> tasks, int count) throws InterruptedException {
+        final long deadline = System.nanoTime() + 30_000_000_000L;
+
+        for (CountingTask task : tasks) {
+            while (task.executions.get() < count) {
+                assertTrue(System.nanoTime() < deadline, "Task was not executed " + count + " times");
+                Thread.sleep(1);
+            }
+        }
+    }
+
+    private static void await(@Nonnull CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Sentinel extends TaskAdapter {
+        private Sentinel(@Nonnull Scheduler scheduler) {
+            this.scheduler = scheduler;
+        }
+
+        @Nonnull
+        private final Scheduler scheduler;
+        private final CountDownLatch applied = new CountDownLatch(1);
+
+        @Override
+        public void execute(@Nonnull Duration delta) {
+            scheduler.unregisterTask(this);
+            applied.countDown();
+        }
+    }
+
+    private static class CountingTask extends TaskAdapter {
+        private CountingTask(long interval) {
+            this.interval = interval;
+        }
+
+        private final long interval;
+        private final AtomicInteger executions = new AtomicInteger();
+
+        @Override
+        public void execute(@Nonnull Duration delta) {
+            executions.incrementAndGet();
+        }
+
+        @Nonnull
+        @Override
+        public Duration getInterval() {
+            return new Duration(interval);
+        }
+    }
+}
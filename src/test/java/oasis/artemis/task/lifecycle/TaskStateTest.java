@@ -0,0 +1,165 @@
+package oasis.artemis.task.lifecycle;
+
+import oasis.artemis.task.TaskAdapter;
+import oasis.artemis.util.logging.EngineLog;
+import org.joda.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <h2>TaskStateTest</h2>
+ * <p>Tests how {@link TaskState} executes tasks, catches up fixed timesteps, and reports failures and slow executions.</p>
+ */
+final class TaskStateTest {
+    private final List<String> messages = new CopyOnWriteArrayList<>();
+    private final List<System.Logger.Level> levels = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void restoreSink() {
+        EngineLog.setSink(EngineLog.DEFAULT_SINK);
+    }
+
+    @Test
+    void fixedTimestepCatchesUpWholeSteps() {
+        final SteppingTask task = new SteppingTask(10, 5);
+        final long start = System.nanoTime();
+        final TaskState state = new TaskState(new SyncScheduler(), task, start);
+
+        // Two and a half steps are owed, the half step is kept for the next run
+        state.run(start + 25_000_000L);
+        assertEquals(List.of(10L, 10L), task.deltas);
+        assertEquals(0.5, state.alpha, 1e-9);
+        assertEquals(start + 30_000_000L, state.nextRun);
+
+        state.run(start + 30_000_000L);
+        assertEquals(3, task.deltas.size());
+        assertEquals(0, state.alpha, 1e-9);
+    }
+
+    @Test
+    void fixedTimestepCatchUpIsCapped() {
+        final SteppingTask task = new SteppingTask(10, 3);
+        final long start = System.nanoTime();
+        final TaskState state = new TaskState(new SyncScheduler(), task, start);
+
+        // A hundred steps are owed, but only three are executed, and the rest is dropped
+        state.run(start + 1_000_000_000L);
+        assertEquals(List.of(10L, 10L, 10L), task.deltas);
+        assertTrue(state.alpha >= 0 && state.alpha < 1, "Alpha " + state.alpha);
+
+        state.run(start + 1_010_000_000L);
+        assertEquals(4, task.deltas.size());
+    }
+
+    @Test
+    void slowTaskWarningsAreRateLimited() {
+        capture();
+
+        final SyncScheduler scheduler = new SyncScheduler();
+        scheduler.setSlowTaskThreshold(new Duration(1));
+
+        final long start = System.nanoTime();
+        final TaskState state = new TaskState(scheduler, new SleepingTask(3), start);
+
+        for (int i = 1; i <= 5; i++) {
+            state.run(start + i * 10_000_000L);
+        }
+
+        assertEquals(5, state.metrics.getInvocationCount());
+        assertEquals(List.of(System.Logger.Level.WARNING), levels);
+        assertTrue(messages.get(0).startsWith("Task SleepingTask took"), messages.get(0));
+    }
+
+    @Test
+    void exceptionsAreReportedAsErrors() throws InterruptedException {
+        final CountDownLatch reported = new CountDownLatch(1);
+        EngineLog.setSink((level, message, thrown) -> {
+            if (level == System.Logger.Level.ERROR && thrown instanceof IllegalStateException) reported.countDown();
+        });
+
+        final AsyncScheduler scheduler = new AsyncScheduler(1);
+        scheduler.registerTask(new TaskAdapter() {
+            @Override
+            public void execute(@Nonnull Duration delta) {
+                throw new IllegalStateException();
+            }
+        });
+
+        scheduler.start();
+
+        try {
+            assertTrue(reported.await(10, TimeUnit.SECONDS));
+        } finally {
+            scheduler.stop();
+        }
+    }
+
+    //
+    // Internal methods
+    //
+
+    private void capture() {
+        EngineLog.setSink((level, message, thrown) -> {
+            levels.add(level);
+            messages.add(message);
+        });
+    }
+
+    private static final class SteppingTask extends TaskAdapter {
+        private SteppingTask(long interval, int maxSteps) {
+            this.interval = interval;
+            this.maxSteps = maxSteps;
+        }
+
+        private final long interval;
+        private final int maxSteps;
+        private final List<Long> deltas = new ArrayList<>();
+
+        @Override
+        public void execute(@Nonnull Duration delta) {
+            deltas.add(delta.getMillis());
+        }
+
+        @Nonnull
+        @Override
+        public Duration getInterval() {
+            return new Duration(interval);
+        }
+
+        @Override
+        public boolean isFixedTimestep() {
+            return true;
+        }
+
+        @Override
+        public int getMaxCatchUpSteps() {
+            return maxSteps;
+        }
+    }
+
+    private static final class SleepingTask extends TaskAdapter {
+        private SleepingTask(long millis) {
+            this.millis = millis;
+        }
+
+        private final long millis;
+
+        @Override
+        public void execute(@Nonnull Duration delta) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
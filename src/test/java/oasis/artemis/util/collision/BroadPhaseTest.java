@@ -0,0 +1,95 @@
+package oasis.artemis.util.collision;
+
+import oasis.artemis.object.ArtemisObject;
+import oasis.artemis.object.SimpleObject;
+import oasis.artemis.util.geometry.profile.SphereProfile;
+import oasis.artemis.util.group.Pair;
+import oasis.artemis.util.group.PairSet;
+import oasis.artemis.util.math.Vector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <h2>BroadPhaseTest</h2>
+ * <p>Tests that every {@link BroadPhase} reports the same candidate pairs, with and without inactive objects.</p>
+ */
+final class BroadPhaseTest {
+    @Test
+    void everyBroadPhaseMatchesBruteForce() {
+        final List<ArtemisObject> objects = scatter(new Random(3), 300);
+
+        for (BroadPhase broadPhase : List.of(new DynamicTree(), new SweepAndPrune(), new UniformGrid(2))) {
+            objects.forEach(broadPhase::add);
+            assertPairs(bruteForce(objects, o -> true), broadPhase.getCandidatePairs(), broadPhase);
+        }
+    }
+
+    @Test
+    void inactivePairsAreNeverReported() {
+        final List<ArtemisObject> objects = scatter(new Random(5), 300);
+
+        // Most objects sleep, like a settled pile
+        final Random random = new Random(9);
+        objects.forEach(o -> o.setSleeping(random.nextInt(4) != 0));
+
+        final Predicate<ArtemisObject> awake = o -> !o.isSleeping();
+        final PairSet<ArtemisObject> expected = bruteForce(objects, awake);
+
+        for (BroadPhase broadPhase : List.of(new DynamicTree(), new SweepAndPrune(), new UniformGrid(2))) {
+            objects.forEach(broadPhase::add);
+            assertPairs(expected, broadPhase.getCandidatePairs(awake), broadPhase);
+        }
+    }
+
+    //
+    // Internal methods
+    //
+
+    private static void assertPairs(PairSet<ArtemisObject> expected, List<Pair<ArtemisObject>> actual, BroadPhase broadPhase) {
+        final PairSet<ArtemisObject> reported = new PairSet<>();
+        for (Pair<ArtemisObject> pair : actual) {
+            assertNotSame(pair.getFirst(), pair.getSecond());
+            assertTrue(reported.add(pair), "Pair reported twice by " + broadPhase.getClass().getSimpleName());
+        }
+
+        assertEquals(expected.size(), reported.size(), broadPhase.getClass().getSimpleName());
+        for (Pair<ArtemisObject> pair : expected) {
+            assertTrue(reported.contains(pair), "Pair missed by " + broadPhase.getClass().getSimpleName());
+        }
+    }
+
+    private static PairSet<ArtemisObject> bruteForce(List<ArtemisObject> objects, Predicate<ArtemisObject> active) {
+        final PairSet<ArtemisObject> pairs = new PairSet<>();
+
+        for (int i = 0; i < objects.size(); i++) {
+            for (int j = i + 1; j < objects.size(); j++) {
+                final ArtemisObject a = objects.get(i), b = objects.get(j);
+                if (!active.test(a) && !active.test(b)) continue;
+
+                if (a.getSolid().getBoundingBox().overlaps(b.getSolid().getBoundingBox())) pairs.add(new Pair<>(a, b));
+            }
+        }
+
+        return pairs;
+    }
+
+    private static List<ArtemisObject> scatter(Random random, int count) {
+        final List<ArtemisObject> objects = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            objects.add(SimpleObject.builder()
+                    .mass(1)
+                    .geometry(new SphereProfile(0.2 + random.nextDouble()))
+                    .location(new Vector(random.nextDouble() * 20, random.nextDouble() * 20, random.nextDouble() * 20))
+                    .build());
+        }
+
+        return objects;
+    }
+}
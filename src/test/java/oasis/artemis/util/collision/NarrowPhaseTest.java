@@ -0,0 +1,212 @@
+package oasis.artemis.util.collision;
+
+import oasis.artemis.util.geometry.solid.Box;
+import oasis.artemis.util.geometry.solid.Capsule;
+import oasis.artemis.util.geometry.solid.ConvexHull;
+import oasis.artemis.util.geometry.solid.Solid;
+import oasis.artemis.util.geometry.solid.Sphere;
+import oasis.artemis.util.math.Quaternion;
+import oasis.artemis.util.math.Vector;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <h2>NarrowPhaseTest</h2>
+ * <p>Tests GJK intersection and EPA penetration depth against analytic results.</p>
+ */
+final class NarrowPhaseTest {
+    private static final double TOLERANCE = 1e-5;
+    private static final Quaternion IDENTITY = Quaternion.IDENTITY_QUATERNION;
+
+    @Test
+    void overlappingSpheres() {
+        final Sphere a = new Sphere(Vector.ZERO, IDENTITY, 1);
+        final Sphere b = new Sphere(new Vector(1.5, 0, 0), IDENTITY, 1);
+
+        final Contact contact = NarrowPhase.getContact(a, b);
+        assertNotNull(contact);
+        assertEquals(0.5, contact.getDepth(), TOLERANCE);
+        assertVectorEquals(Vector.POSITIVE_X, contact.getNormal());
+    }
+
+    @Test
+    void separatedSolidsHaveNoContact() {
+        final Box a = new Box(Vector.ZERO, IDENTITY, new Vector(1, 1, 1));
+        final Box b = new Box(new Vector(2.5, 0, 0), rotation(new Vector(1, 1, 0), 0.3), new Vector(0.5, 0.5, 0.5));
+
+        assertFalse(NarrowPhase.intersects(a, b));
+        assertNull(NarrowPhase.getContact(a, b));
+    }
+
+    @Test
+    void axisAlignedBoxesMatchOverlap() {
+        final Random random = new Random(7);
+
+        for (int i = 0; i < 500; i++) {
+            final Vector ea = randomExtents(random), eb = randomExtents(random);
+            final Vector ca = randomVector(random, 2), cb = randomVector(random, 2);
+
+            final Box a = new Box(ca, IDENTITY, ea);
+            final Box b = new Box(cb, IDENTITY, eb);
+
+            // Overlap along each axis, the smallest one is the penetration depth
+            final double ox = ea.getX() + eb.getX() - Math.abs(cb.getX() - ca.getX());
+            final double oy = ea.getY() + eb.getY() - Math.abs(cb.getY() - ca.getY());
+            final double oz = ea.getZ() + eb.getZ() - Math.abs(cb.getZ() - ca.getZ());
+            final double depth = Math.min(ox, Math.min(oy, oz));
+
+            // Skip near-touching cases, where either answer is valid
+            if (Math.abs(depth) < 1e-3) continue;
+
+            assertEquals(depth > 0, NarrowPhase.intersects(a, b), "Case " + i);
+
+            final Contact contact = NarrowPhase.getContact(a, b);
+            if (depth < 0) {
+                assertNull(contact, "Case " + i);
+                continue;
+            }
+
+            assertNotNull(contact, "Case " + i);
+            assertEquals(depth, contact.getDepth(), TOLERANCE, "Case " + i);
+            assertSeparates(a, b, contact);
+        }
+    }
+
+    @Test
+    void rotatedBoxAgainstSphereMatchesClosestPoint() {
+        final Random random = new Random(11);
+
+        for (int i = 0; i < 500; i++) {
+            final Vector extents = randomExtents(random);
+            final Quaternion rq = rotation(randomVector(random, 1), random.nextDouble() * Math.PI);
+            final Box box = new Box(Vector.ZERO, rq, extents);
+
+            final double radius = 0.2 + random.nextDouble();
+            final Vector center = randomVector(random, 3);
+            final Sphere sphere = new Sphere(center, IDENTITY, radius);
+
+            // Distance from the sphere's center to the box, in the box's local space
+            final Vector local = center.rotate(rq.getConjugate());
+            final double dx = Math.max(0, Math.abs(local.getX()) - extents.getX());
+            final double dy = Math.max(0, Math.abs(local.getY()) - extents.getY());
+            final double dz = Math.max(0, Math.abs(local.getZ()) - extents.getZ());
+            final double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+
+            if (Math.abs(distance - radius) < 1e-3) continue;
+            assertEquals(distance < radius, NarrowPhase.intersects(box, sphere), "Case " + i);
+
+            // Depth is analytic only while the center is outside the box
+            if (distance == 0 || distance >= radius) continue;
+
+            final Contact contact = NarrowPhase.getContact(box, sphere);
+            assertNotNull(contact, "Case " + i);
+            assertEquals(radius - distance, contact.getDepth(), 1e-4, "Case " + i);
+        }
+    }
+
+    @Test
+    void convexHullContactSeparatesSolids() {
+        final List<Vector> tetrahedron = List.of(
+                new Vector(1, 1, 1),
+                new Vector(1, -1, -1),
+                new Vector(-1, 1, -1),
+                new Vector(-1, -1, 1)
+        );
+
+        final Random random = new Random(13);
+
+        for (int i = 0; i < 200; i++) {
+            final ConvexHull hull = new ConvexHull(Vector.ZERO, rotation(randomVector(random, 1), random.nextDouble() * Math.PI), tetrahedron);
+            final Box box = new Box(randomVector(random, 1), rotation(randomVector(random, 1), random.nextDouble() * Math.PI), randomExtents(random));
+
+            final Contact contact = NarrowPhase.getContact(hull, box);
+            if (contact == null) {
+                assertFalse(NarrowPhase.intersects(hull, box), "Case " + i);
+                continue;
+            }
+
+            assertSeparates(hull, box, contact);
+        }
+    }
+
+    @Test
+    void closeButApartCurvedSolidsDoNotIntersect() {
+        final Random random = new Random(17);
+
+        for (int i = 0; i < 1000; i++) {
+            final Quaternion rq = rotation(randomVector(random, 1), random.nextDouble() * Math.PI);
+            final double ra = 0.3 + random.nextDouble(), rb = 0.3 + random.nextDouble();
+            final Capsule capsule = new Capsule(Vector.ZERO, rq, ra, 0.5 + random.nextDouble());
+
+            // Perpendicular to the capsule's axis, so its segment is the closest feature
+            final Vector axis = Vector.POSITIVE_Y.rotate(rq);
+            final Vector away = axis.cross(randomVector(random, 1)).toUnitVector();
+
+            for (double gap : new double[]{1e-2, 1e-4, 3e-6, -1e-4}) {
+                final Vector center = away.multiply(ra + rb + gap);
+                final Sphere sphere = new Sphere(center, IDENTITY, rb);
+                final Capsule parallel = new Capsule(center, rq, rb, 0.5);
+
+                assertEquals(gap < 0, NarrowPhase.intersects(capsule, sphere), "Sphere case " + i + ", gap " + gap);
+                assertEquals(gap < 0, NarrowPhase.intersects(capsule, parallel), "Capsule case " + i + ", gap " + gap);
+                assertEquals(gap < 0, NarrowPhase.getContact(capsule, parallel) != null, "Contact case " + i + ", gap " + gap);
+            }
+        }
+    }
+
+    @Test
+    void contactIsSymmetric() {
+        final Box a = new Box(Vector.ZERO, IDENTITY, new Vector(1, 1, 1));
+        final Box b = new Box(new Vector(0, 1.8, 0), IDENTITY, new Vector(1, 1, 1));
+
+        final Contact ab = NarrowPhase.getContact(a, b);
+        final Contact ba = NarrowPhase.getContact(b, a);
+        assertNotNull(ab);
+        assertNotNull(ba);
+
+        assertEquals(0.2, ab.getDepth(), TOLERANCE);
+        assertEquals(ab.getDepth(), ba.getDepth(), TOLERANCE);
+        assertVectorEquals(Vector.POSITIVE_Y, ab.getNormal());
+        assertVectorEquals(Vector.NEGATIVE_Y, ba.getNormal());
+    }
+
+    //
+    // Internal methods
+    //
+
+    /**
+     * Checks that moving the second solid out along the normal by the depth leaves the solids just touching.
+     */
+    private static void assertSeparates(Solid a, Solid b, Contact contact) {
+        final Vector n = contact.getNormal();
+        assertEquals(1, n.getMagnitude(), TOLERANCE);
+
+        // Penetration along the normal, between the furthest points of both solids
+        final double penetration = a.support(n).dot(n) - b.support(n.negate()).dot(n);
+        assertEquals(contact.getDepth(), penetration, 1e-4);
+    }
+
+    private static void assertVectorEquals(Vector expected, Vector actual) {
+        assertTrue(expected.distanceTo(actual) < TOLERANCE, "Expected " + expected + " but was " + actual);
+    }
+
+    private static Quaternion rotation(Vector axis, double angle) {
+        return Quaternion.fromAxisAngle(axis.toUnitVector(), angle);
+    }
+
+    private static Vector randomVector(Random random, double scale) {
+        return new Vector(
+                (random.nextDouble() * 2 - 1) * scale,
+                (random.nextDouble() * 2 - 1) * scale,
+                (random.nextDouble() * 2 - 1) * scale
+        );
+    }
+
+    private static Vector randomExtents(Random random) {
+        return new Vector(0.2 + random.nextDouble(), 0.2 + random.nextDouble(), 0.2 + random.nextDouble());
+    }
+}
@@ -0,0 +1,144 @@
+package oasis.artemis.util.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <h2>BoundedQueueTest</h2>
+ * <p>Tests the sequence logic of {@link BoundedQueue}.</p>
+ */
+final class BoundedQueueTest {
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(2, new BoundedQueue<>(1).capacity());
+        assertEquals(8, new BoundedQueue<>(5).capacity());
+        assertEquals(16, new BoundedQueue<>(16).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new BoundedQueue<>(0));
+        assertThrows(IllegalArgumentException.class, () -> new BoundedQueue<>((1 << 30) + 1));
+    }
+
+    @Test
+    void emptyQueueReturnsNull() {
+        final BoundedQueue<Integer> queue = new BoundedQueue<>(4);
+
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+    }
+
+    @Test
+    void fullQueueRejectsOffers() {
+        final BoundedQueue<Integer> queue = new BoundedQueue<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+
+        assertFalse(queue.offer(4));
+        assertEquals(4, queue.size());
+
+        assertEquals(0, queue.poll());
+        assertTrue(queue.offer(4));
+        assertFalse(queue.offer(5));
+    }
+
+    @Test
+    void elementsWrapAroundInOrder() {
+        final BoundedQueue<Integer> queue = new BoundedQueue<>(4);
+        int next = 0, expected = 0;
+
+        // Keep the queue partially filled, so that head and tail cross the end of the buffer many times
+        for (int round = 0; round < 1000; round++) {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(queue.offer(next++));
+            }
+
+            assertEquals(expected, queue.peek());
+            for (int i = 0; i < 3; i++) {
+                assertEquals(expected++, queue.poll());
+            }
+
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    @Test
+    void smallestQueueAlternates() {
+        final BoundedQueue<String> queue = new BoundedQueue<>(1);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(queue.offer("a"));
+            assertTrue(queue.offer("b"));
+            assertFalse(queue.offer("c"));
+            assertEquals("a", queue.poll());
+            assertEquals("b", queue.poll());
+            assertNull(queue.poll());
+        }
+    }
+
+    @Test
+    void concurrentProducersAndConsumersSeeEveryElementOnce() throws InterruptedException {
+        final int producers = 4, consumers = 4, perProducer = 5_000;
+        final int total = producers * perProducer;
+
+        final BoundedQueue<Integer> queue = new BoundedQueue<>(64);
+        final AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch consumed = new CountDownLatch(total);
+        final List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            final int offset = p * perProducer;
+            threads.add(new Thread(() -> {
+                await(start);
+                for (int i = 0; i < perProducer; i++) {
+                    while (!queue.offer(offset + i)) Thread.yield();
+                }
+            }));
+        }
+
+        for (int c = 0; c < consumers; c++) {
+            threads.add(new Thread(() -> {
+                await(start);
+                while (consumed.getCount() > 0) {
+                    final Integer element = queue.poll();
+                    if (element == null) {
+                        Thread.yield();
+                        continue;
+                    }
+
+                    seen.incrementAndGet(element);
+                    consumed.countDown();
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        start.countDown();
+
+        for (Thread thread : threads) {
+            thread.join(30_000);
+            assertFalse(thread.isAlive(), "Queue did not drain");
+        }
+
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, seen.get(i), "Element " + i);
+        }
+
+        assertTrue(queue.isEmpty());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
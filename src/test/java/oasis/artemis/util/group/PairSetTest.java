@@ -0,0 +1,127 @@
+package oasis.artemis.util.group;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <h2>PairSetTest</h2>
+ * <p>Tests membership and adjacency of {@link PairSet}.</p>
+ */
+final class PairSetTest {
+    @Test
+    void membershipIgnoresOrder() {
+        final PairSet<String> set = new PairSet<>();
+
+        assertTrue(set.add(new Pair<>("a", "b")));
+        assertFalse(set.add(new Pair<>("b", "a")));
+
+        assertEquals(1, set.size());
+        assertTrue(set.contains(new Pair<>("b", "a")));
+        assertEquals(Set.of("b"), set.getPartners("a"));
+        assertEquals(Set.of("a"), set.getPartners("b"));
+    }
+
+    @Test
+    void removingPairUnlinksBothElements() {
+        final PairSet<String> set = new PairSet<>();
+        set.add(new Pair<>("a", "b"));
+        set.add(new Pair<>("a", "c"));
+
+        assertTrue(set.remove(new Pair<>("b", "a")));
+        assertFalse(set.remove(new Pair<>("a", "b")));
+
+        assertEquals(Set.of("c"), set.getPartners("a"));
+        assertTrue(set.getPartners("b").isEmpty());
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void removeAllDropsEveryPairOfElement() {
+        final PairSet<String> set = new PairSet<>();
+        set.add(new Pair<>("a", "b"));
+        set.add(new Pair<>("c", "a"));
+        set.add(new Pair<>("b", "c"));
+
+        set.removeAll("a");
+
+        assertEquals(1, set.size());
+        assertTrue(set.getPartners("a").isEmpty());
+        assertEquals(Set.of("c"), set.getPartners("b"));
+        assertEquals(Set.of("b"), set.getPartners("c"));
+    }
+
+    @Test
+    void pairOfElementWithItself() {
+        final PairSet<String> set = new PairSet<>();
+        set.add(new Pair<>("a", "a"));
+
+        assertEquals(Set.of("a"), set.getPartners("a"));
+
+        set.removeAll("a");
+        assertTrue(set.isEmpty());
+        assertTrue(set.getPartners("a").isEmpty());
+    }
+
+    @Test
+    void partnersAreReadOnly() {
+        final PairSet<String> set = new PairSet<>();
+        set.add(new Pair<>("a", "b"));
+
+        assertThrows(UnsupportedOperationException.class, () -> set.getPartners("a").clear());
+        assertThrows(UnsupportedOperationException.class, () -> {
+            final Iterator<Pair<String>> iterator = set.iterator();
+            iterator.next();
+            iterator.remove();
+        });
+    }
+
+    @Test
+    void matchesBruteForceUnderRandomOperations() {
+        final Random random = new Random(42);
+        final PairSet<Integer> set = new PairSet<>();
+        final List<Pair<Integer>> model = new ArrayList<>();
+
+        for (int step = 0; step < 5000; step++) {
+            final int a = random.nextInt(20), b = random.nextInt(20);
+            final Pair<Integer> pair = new Pair<>(a, b);
+
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    final boolean added = !model.contains(pair);
+                    if (added) model.add(pair);
+                    assertEquals(added, set.add(pair));
+                }
+                case 2 -> assertEquals(model.remove(pair), set.remove(pair));
+                default -> {
+                    model.removeIf(p -> p.contains(a));
+                    set.removeAll(a);
+                }
+            }
+
+            assertEquals(model.size(), set.size());
+        }
+
+        // Adjacency must agree with the pairs themselves
+        for (int e = 0; e < 20; e++) {
+            final Set<Integer> partners = new HashSet<>();
+            for (Pair<Integer> pair : model) {
+                if (pair.getFirst() == e) partners.add(pair.getSecond());
+                if (pair.getSecond() == e) partners.add(pair.getFirst());
+            }
+
+            assertEquals(partners, set.getPartners(e), "Partners of " + e);
+        }
+
+        for (Pair<Integer> pair : set) {
+            assertTrue(model.contains(pair));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package oasis.artemis.util.io;
+
+import oasis.artemis.util.math.Matrix;
+import oasis.artemis.util.math.Quaternion;
+import oasis.artemis.util.math.Vector;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <h2>BinaryCodecsTest</h2>
+ * <p>Tests round trips of {@link BinaryCodecs} in every {@link Precision}, and its handling of invalid input.</p>
+ */
+final class BinaryCodecsTest {
+    private static final Vector VECTOR = new Vector(1.5, -2.718281828, 1234.5678);
+    private static final Quaternion QUATERNION = new Quaternion(0.5, -0.5, 0.25, 0.1);
+    private static final Matrix MATRIX = new Matrix(new double[][]{
+            {1, -0.333333333, 42},
+            {65000, 1e-3, -7.125}
+    });
+
+    @Test
+    void buffersRoundTripInEveryPrecision() {
+        for (Precision precision : Precision.values()) {
+            final ByteBuffer buffer = ByteBuffer.allocate(256);
+
+            BinaryCodecs.putVector(buffer, VECTOR, precision);
+            BinaryCodecs.putQuaternion(buffer, QUATERNION, precision);
+            BinaryCodecs.putMatrix(buffer, MATRIX, precision);
+
+            assertEquals(7 * precision.getBytes() + 2 * Integer.BYTES + 6 * precision.getBytes(), buffer.position());
+            buffer.flip();
+
+            assertVectorEquals(VECTOR, BinaryCodecs.getVector(buffer, precision), precision);
+            assertQuaternionEquals(QUATERNION, BinaryCodecs.getQuaternion(buffer, precision), precision);
+            assertMatrixEquals(MATRIX, BinaryCodecs.getMatrix(buffer, precision), precision);
+            assertFalse(buffer.hasRemaining());
+        }
+    }
+
+    @Test
+    void streamsRoundTripInEveryPrecision() throws IOException {
+        for (Precision precision : Precision.values()) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+
+            BinaryCodecs.writeVector(out, VECTOR, precision);
+            BinaryCodecs.writeQuaternion(out, QUATERNION, precision);
+            BinaryCodecs.writeMatrix(out, MATRIX, precision);
+
+            final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+
+            assertVectorEquals(VECTOR, BinaryCodecs.readVector(in, precision), precision);
+            assertQuaternionEquals(QUATERNION, BinaryCodecs.readQuaternion(in, precision), precision);
+            assertMatrixEquals(MATRIX, BinaryCodecs.readMatrix(in, precision), precision);
+            assertEquals(0, in.available());
+        }
+    }
+
+    @Test
+    void halfPrecisionRejectsOverflow() {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        assertThrows(IllegalArgumentException.class, () -> BinaryCodecs.putVector(buffer, new Vector(0, 70000, 0), Precision.HALF));
+        assertThrows(IllegalArgumentException.class, () -> BinaryCodecs.writeVector(
+                new DataOutputStream(new ByteArrayOutputStream()),
+                new Vector(-1e300, 0, 0),
+                Precision.HALF
+        ));
+
+        // The largest finite value, and values which are infinite to begin with, are written as they are
+        buffer.clear();
+        BinaryCodecs.putVector(buffer, new Vector(65504, Double.NEGATIVE_INFINITY, -65504), Precision.HALF);
+        buffer.flip();
+
+        final Vector v = BinaryCodecs.getVector(buffer, Precision.HALF);
+        assertEquals(65504, v.getX());
+        assertEquals(Double.NEGATIVE_INFINITY, v.getY());
+        assertEquals(-65504, v.getZ());
+    }
+
+    @Test
+    void truncatedMatrixIsNotAllocatedUpFront() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+
+        // The header claims over a billion values, but only three follow
+        out.writeInt(40_000);
+        out.writeInt(40_000);
+        for (int i = 0; i < 3; i++) out.writeDouble(i);
+
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertThrows(EOFException.class, () -> BinaryCodecs.readMatrix(in));
+    }
+
+    @Test
+    void invalidDimensionsAreRejected() {
+        final ByteBuffer buffer = ByteBuffer.allocate(8).putInt(-1).putInt(2).flip();
+        assertThrows(IllegalArgumentException.class, () -> BinaryCodecs.getMatrix(buffer));
+
+        final ByteBuffer huge = ByteBuffer.allocate(8).putInt(Integer.MAX_VALUE).putInt(2).flip();
+        assertThrows(IllegalArgumentException.class, () -> BinaryCodecs.getMatrix(huge));
+    }
+
+    //
+    // Internal methods
+    //
+
+    /**
+     * Gets the relative error a value may have after a round trip in given precision.
+     */
+    private static double tolerance(Precision precision) {
+        return switch (precision) {
+            case DOUBLE -> 0;
+            case SINGLE -> 1e-7;
+            case HALF -> 1e-3;
+        };
+    }
+
+    private static void assertClose(double expected, double actual, Precision precision) {
+        assertEquals(expected, actual, Math.abs(expected) * tolerance(precision), precision.name());
+    }
+
+    private static void assertVectorEquals(Vector expected, Vector actual, Precision precision) {
+        assertClose(expected.getX(), actual.getX(), precision);
+        assertClose(expected.getY(), actual.getY(), precision);
+        assertClose(expected.getZ(), actual.getZ(), precision);
+    }
+
+    private static void assertQuaternionEquals(Quaternion expected, Quaternion actual, Precision precision) {
+        assertClose(expected.getW(), actual.getW(), precision);
+        assertClose(expected.getX(), actual.getX(), precision);
+        assertClose(expected.getY(), actual.getY(), precision);
+        assertClose(expected.getZ(), actual.getZ(), precision);
+    }
+
+    private static void assertMatrixEquals(Matrix expected, Matrix actual, Precision precision) {
+        assertEquals(expected.getRows(), actual.getRows());
+        assertEquals(expected.getColumns(), actual.getColumns());
+
+        final double[] e = expected.getValues(), a = actual.getValues();
+        for (int i = 0; i < e.length; i++) {
+            assertClose(e[i], a[i], precision);
+        }
+    }
+}
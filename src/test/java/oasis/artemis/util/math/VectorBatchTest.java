@@ -0,0 +1,96 @@
+package oasis.artemis.util.math;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <h2>VectorBatchTest</h2>
+ * <p>
+ * Tests the element-wise operations of {@link VectorBatch} against {@link Vector}.
+ * Run with the {@code simd} profile, this covers the SIMD kernels and their scalar tails as well.
+ * </p>
+ */
+final class VectorBatchTest {
+    private static final double TOLERANCE = 1e-12;
+
+    /**
+     * Counts around common register widths, so that every phase of a triple starts a register and a tail.
+     */
+    private static final int[] COUNTS = {0, 1, 2, 3, 5, 8, 11, 16, 33};
+
+    @Test
+    void addMatchesVectors() {
+        final Random random = new Random(3);
+
+        for (int count : COUNTS) {
+            final Vector[] a = randomVectors(random, count), b = randomVectors(random, count);
+            final double[] out = new double[count * 3];
+
+            VectorBatch.add(VectorBatch.pack(a), VectorBatch.pack(b), out, count);
+
+            for (int i = 0; i < count; i++) {
+                assertVectorEquals(a[i].add(b[i]), VectorBatch.get(out, i));
+            }
+        }
+    }
+
+    @Test
+    void translateMatchesVectors() {
+        final Random random = new Random(5);
+        final Vector offset = new Vector(1, -2, 3);
+
+        for (int count : COUNTS) {
+            final Vector[] a = randomVectors(random, count);
+            final double[] packed = VectorBatch.pack(a);
+
+            // In place, as the output may be the input
+            VectorBatch.translate(packed, offset, packed, count);
+
+            for (int i = 0; i < count; i++) {
+                assertVectorEquals(a[i].add(offset), VectorBatch.get(packed, i));
+            }
+        }
+    }
+
+    @Test
+    void scaleMatchesVectors() {
+        final Random random = new Random(7);
+
+        for (int count : COUNTS) {
+            final Vector[] a = randomVectors(random, count);
+            final double[] out = new double[count * 3];
+
+            VectorBatch.scale(VectorBatch.pack(a), -1.5, out, count);
+
+            for (int i = 0; i < count; i++) {
+                assertVectorEquals(a[i].multiply(-1.5), VectorBatch.get(out, i));
+            }
+        }
+    }
+
+    @Test
+    void smallArraysAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> VectorBatch.add(new double[6], new double[5], new double[6], 2));
+        assertThrows(IllegalArgumentException.class, () -> VectorBatch.translate(new double[6], Vector.ZERO, new double[6], -1));
+    }
+
+    //
+    // Internal methods
+    //
+
+    private static void assertVectorEquals(Vector expected, Vector actual) {
+        assertTrue(expected.distanceTo(actual) < TOLERANCE, "Expected " + expected + " but was " + actual);
+    }
+
+    private static Vector[] randomVectors(Random random, int count) {
+        final Vector[] vectors = new Vector[count];
+        for (int i = 0; i < count; i++) {
+            vectors[i] = new Vector(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+        }
+
+        return vectors;
+    }
+}